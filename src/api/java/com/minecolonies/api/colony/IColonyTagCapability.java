@@ -3,14 +3,17 @@ package com.minecolonies.api.colony;
 import com.minecolonies.api.util.NBTUtils;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
@@ -45,11 +48,37 @@ public interface IColonyTagCapability
 
     /**
      * Get a list of all close colonies.
-     * @return a list of their ids.
+     * @return a read-only view of their ids, not affected by later changes.
      */
     @NotNull
     List<Integer> getAllCloseColonies();
 
+    /**
+     * Get the ids of all close colonies.
+     * @return a new array of their ids.
+     */
+    @NotNull
+    int[] getCloseColonyIds();
+
+    /**
+     * Call a consumer for the id of each close colony.
+     * @param consumer the consumer.
+     */
+    void forEachCloseColony(@NotNull IntConsumer consumer);
+
+    /**
+     * Check if any colony is close to the chunk.
+     * @return true if so.
+     */
+    boolean hasCloseColonies();
+
+    /**
+     * Check if a colony is close to the chunk.
+     * @param id the id of the colony.
+     * @return true if so.
+     */
+    boolean isCloseColony(int id);
+
     /**
      * Add a new colony to the chunk.
      * @param id the id to add.
@@ -58,6 +87,14 @@ public interface IColonyTagCapability
     @NotNull
     IColonyTagCapability addColony(final int id);
 
+    /**
+     * Replace all close colonies at once.
+     * @param ids the ids, duplicates are dropped.
+     * @return the capability.
+     */
+    @NotNull
+    IColonyTagCapability setCloseColonies(@NotNull int[] ids);
+
     /**
      * Reset the capability.
      */
@@ -65,13 +102,20 @@ public interface IColonyTagCapability
 
     /**
      * The implementation of the colonyTagCapability.
+     * The ids are kept in an int array which is replaced on each change,
+     * so views and iterations never see a later change and need no copy.
      */
     public class Impl implements IColonyTagCapability
     {
         /**
-         * The list of all close colonies.
+         * Shared empty array.
          */
-        private final List<Integer> colonies = new ArrayList<>();
+        private static final int[] NO_COLONIES = new int[0];
+
+        /**
+         * The ids of all close colonies, never modified once assigned.
+         */
+        private int[] colonies = NO_COLONIES;
 
         /**
          * The colony owning the chunk.
@@ -82,29 +126,36 @@ public interface IColonyTagCapability
         @Override
         public IColonyTagCapability addColony(final int id)
         {
-            if(!colonies.contains(id))
+            if(!isCloseColony(id))
             {
-                colonies.add(id);
+                final int[] newColonies = Arrays.copyOf(colonies, colonies.length + 1);
+                newColonies[colonies.length] = id;
+                colonies = newColonies;
             }
             return this;
         }
 
+        @NotNull
+        @Override
+        public IColonyTagCapability setCloseColonies(@NotNull final int[] ids)
+        {
+            colonies = ids.length == 0 ? NO_COLONIES : Arrays.stream(ids).distinct().toArray();
+            return this;
+        }
+
         @Override
         public void reset()
         {
-            colonies.clear();
+            colonies = NO_COLONIES;
             owningColony = 0;
         }
 
         @Override
         public IColonyTagCapability removeColony(final int id)
         {
-            for(int i = 0; i < colonies.size(); i++)
+            if(isCloseColony(id))
             {
-                if(colonies.get(i) == id)
-                {
-                    colonies.remove(i);
-                }
+                colonies = Arrays.stream(colonies).filter(colony -> colony != id).toArray();
             }
             if(owningColony == id)
             {
@@ -130,7 +181,56 @@ public interface IColonyTagCapability
         @Override
         public List<Integer> getAllCloseColonies()
         {
-            return new ArrayList<>(colonies);
+            final int[] snapshot = colonies;
+            return new AbstractList<Integer>()
+            {
+                @Override
+                public Integer get(final int index)
+                {
+                    return snapshot[index];
+                }
+
+                @Override
+                public int size()
+                {
+                    return snapshot.length;
+                }
+            };
+        }
+
+        @NotNull
+        @Override
+        public int[] getCloseColonyIds()
+        {
+            return colonies.clone();
+        }
+
+        @Override
+        public void forEachCloseColony(@NotNull final IntConsumer consumer)
+        {
+            for (final int id : colonies)
+            {
+                consumer.accept(id);
+            }
+        }
+
+        @Override
+        public boolean hasCloseColonies()
+        {
+            return colonies.length > 0;
+        }
+
+        @Override
+        public boolean isCloseColony(final int id)
+        {
+            for (final int colony : colonies)
+            {
+                if (colony == id)
+                {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
@@ -144,7 +244,7 @@ public interface IColonyTagCapability
         {
             final NBTTagCompound compound = new NBTTagCompound();
             compound.setInteger(TAG_ID, instance.getOwningColony());
-            compound.setTag(TAG_COLONIES, instance.getAllCloseColonies().stream().map(id -> Storage.write(id)).collect(NBTUtils.toNBTTagList()));
+            compound.setTag(TAG_COLONIES, new NBTTagIntArray(instance.getCloseColonyIds()));
             return compound;
         }
 
@@ -154,22 +254,19 @@ public interface IColonyTagCapability
         {
             if(nbt instanceof NBTTagCompound && ((NBTTagCompound) nbt).hasKey(TAG_ID))
             {
-                instance.setOwningColony(((NBTTagCompound) nbt).getInteger(TAG_ID));
-                NBTUtils.streamCompound(((NBTTagCompound) nbt).getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
-                        .map(compound -> compound.getInteger(TAG_ID)).forEach(instance::addColony);
+                final NBTTagCompound compound = (NBTTagCompound) nbt;
+                instance.setOwningColony(compound.getInteger(TAG_ID));
+                if (compound.hasKey(TAG_COLONIES, Constants.NBT.TAG_INT_ARRAY))
+                {
+                    instance.setCloseColonies(compound.getIntArray(TAG_COLONIES));
+                }
+                else
+                {
+                    //Chunks saved before the ids were stored as int array.
+                    instance.setCloseColonies(NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
+                                                .mapToInt(colony -> colony.getInteger(TAG_ID)).toArray());
+                }
             }
         }
-
-        /**
-         * Write one colony id to nbt.
-         * @param id the id.
-         * @return the compound of it.
-         */
-        private static NBTTagCompound write(@NotNull final int id)
-        {
-            final NBTTagCompound compound = new NBTTagCompound();
-            compound.setInteger(TAG_ID, id);
-            return compound;
-        }
     }
 }
@@ -5,6 +5,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryTypeDictionary;
 import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
@@ -13,13 +14,18 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.Suppression;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import static com.minecolonies.api.colony.requestsystem.factory.FactoryTypeDictionary.MAX_VAR_INT_BYTES;
 
 /**
  * Default implementation of a FactoryController
@@ -31,6 +37,7 @@ public final class StandardFactoryController implements IFactoryController
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     public static final String NBT_TYPE = "Type";
     public static final String NBT_DATA = "Data";
+    public static final String NBT_TYPE_ID = "TypeId";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
     /**
@@ -72,6 +79,24 @@ public final class StandardFactoryController implements IFactoryController
     @NotNull
     private final BiMap<String, String> classRenamingHandlers = HashBiMap.create();
 
+    /**
+     * The override handler matching a type, filled during runtime so the handlers are only searched once per type.
+     */
+    @NotNull
+    private final Map<TypeToken, Optional<ITypeOverrideHandler>> overrideHandlerCache = new ConcurrentHashMap<>();
+
+    /**
+     * The output factories by class name, filled during runtime so classes are only looked up once per name.
+     */
+    @NotNull
+    private final Map<String, IFactory> outputFactoryCache = new ConcurrentHashMap<>();
+
+    /**
+     * The type dictionary used by the current thread, if serialization happens with one.
+     */
+    @NotNull
+    private final ThreadLocal<FactoryTypeDictionary> activeTypeDictionary = new ThreadLocal<>();
+
     /**
      * Private constructor. Throws IllegalStateException if already created.
      *
@@ -99,6 +124,8 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().overrideHandlerCache.clear();
+        getInstance().outputFactoryCache.clear();
     }
 
     /**
@@ -115,8 +142,8 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <INPUT, OUTPUT> IFactory<INPUT, OUTPUT> getFactoryForIO(@NotNull final TypeToken<? extends INPUT> inputClass, @NotNull final TypeToken<? extends OUTPUT> outputClass) throws IllegalArgumentException
     {
-        final ITypeOverrideHandler<?> inputOverrideHandler = typeOverrideHandlers.stream().filter(h -> h.matches(inputClass)).findFirst().orElse(null);
-        final ITypeOverrideHandler<OUTPUT> outputOverrideHandler = typeOverrideHandlers.stream().filter(h -> h.matches(outputClass)).findFirst().orElse(null);
+        final ITypeOverrideHandler<?> inputOverrideHandler = getOverrideHandler(inputClass);
+        final ITypeOverrideHandler<OUTPUT> outputOverrideHandler = getOverrideHandler(outputClass);
 
         final TypeToken input = inputOverrideHandler != null ? inputOverrideHandler.getOutputType() : inputClass;
         final TypeToken output = outputOverrideHandler != null ? outputOverrideHandler.getOutputType() : outputClass;
@@ -157,7 +184,7 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <INPUT> IFactory<INPUT, ?> getFactoryForInput(@NotNull final TypeToken<? extends INPUT> inputClass) throws IllegalArgumentException
     {
-        final ITypeOverrideHandler<?> inputOverrideHandler = typeOverrideHandlers.stream().filter(h -> h.matches(inputClass)).findFirst().orElse(null);
+        final ITypeOverrideHandler<?> inputOverrideHandler = getOverrideHandler(inputClass);
 
         final TypeToken input = inputOverrideHandler != null ? inputOverrideHandler.getOutputType() : inputClass;
 
@@ -179,7 +206,7 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> IFactory<?, OUTPUT> getFactoryForOutput(@NotNull final TypeToken<? extends OUTPUT> outputClass) throws IllegalArgumentException
     {
-        final ITypeOverrideHandler<OUTPUT> outputOverrideHandler = typeOverrideHandlers.stream().filter(h -> h.matches(outputClass)).findFirst().orElse(null);
+        final ITypeOverrideHandler<OUTPUT> outputOverrideHandler = getOverrideHandler(outputClass);
 
         final TypeToken output = outputOverrideHandler != null ? outputOverrideHandler.getOutputType() : outputClass;
 
@@ -197,6 +224,34 @@ public final class StandardFactoryController implements IFactoryController
         return primaryOutputMappings.get(output).stream().findFirst().get();
     }
 
+    @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
+    public <OUTPUT> IFactory<?, OUTPUT> getFactoryForOutput(@NotNull final String className) throws IllegalArgumentException
+    {
+        final IFactory cached = outputFactoryCache.get(className);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final IFactory<?, OUTPUT> factory = IFactoryController.super.getFactoryForOutput(className);
+        outputFactoryCache.put(className, factory);
+        return factory;
+    }
+
+    /**
+     * Get the first registered override handler which matches a type.
+     *
+     * @param type The type to find the handler for.
+     * @param <T>  The output type of the handler.
+     * @return The handler or null if no handler matches.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <T> ITypeOverrideHandler<T> getOverrideHandler(@NotNull final TypeToken<?> type)
+    {
+        return overrideHandlerCache.computeIfAbsent(type, t -> typeOverrideHandlers.stream().filter(h -> h.matches(t)).findFirst()).orElse(null);
+    }
+
     @Override
     public <INPUT, OUTPUT> void registerNewFactory(@NotNull final IFactory<INPUT, OUTPUT> factory) throws IllegalArgumentException
     {
@@ -213,6 +268,7 @@ public final class StandardFactoryController implements IFactoryController
 
         primaryInputFactories.add(factory);
         primaryOutputFactories.add(factory);
+        outputFactoryCache.clear();
 
         final Set<TypeToken> outputSuperTypes = ReflectionUtils.getSuperClasses(factory.getFactoryOutputType());
 
@@ -239,7 +295,15 @@ public final class StandardFactoryController implements IFactoryController
         final NBTTagCompound compound = new NBTTagCompound();
 
         final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
-        compound.setString(NBT_TYPE, object.getClass().getName());
+        final FactoryTypeDictionary dictionary = activeTypeDictionary.get();
+        if (dictionary == null)
+        {
+            compound.setString(NBT_TYPE, object.getClass().getName());
+        }
+        else
+        {
+            compound.setInteger(NBT_TYPE_ID, dictionary.getOrAssign(object.getClass().getName()));
+        }
         compound.setTag(NBT_DATA, factory.serialize(this, object));
 
         return compound;
@@ -249,7 +313,7 @@ public final class StandardFactoryController implements IFactoryController
     @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> OUTPUT deserialize(@NotNull final NBTTagCompound compound) throws IllegalArgumentException
     {
-        String className = compound.getString(NBT_TYPE);
+        String className = getTypeName(compound);
         className = processClassRenaming(className);
 
         final IFactory<?, OUTPUT> factory;
@@ -274,6 +338,118 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    /**
+     * Get the class name of a serialized object, written either as name or as id of the active type dictionary.
+     *
+     * @param compound The serialized object.
+     * @return The class name.
+     */
+    @NotNull
+    private String getTypeName(@NotNull final NBTTagCompound compound)
+    {
+        if (!compound.hasKey(NBT_TYPE_ID))
+        {
+            return compound.getString(NBT_TYPE);
+        }
+
+        final FactoryTypeDictionary dictionary = activeTypeDictionary.get();
+        final String className = dictionary == null ? null : dictionary.getName(compound.getInteger(NBT_TYPE_ID));
+        if (className == null)
+        {
+            throw new IllegalArgumentException("The given compound holds a type id without matching type dictionary");
+        }
+        return className;
+    }
+
+    /**
+     * Read the class name of an object written to a buffer, either as name or as id of the active type dictionary.
+     *
+     * @param buffer The buffer.
+     * @return The class name.
+     */
+    @NotNull
+    private String readTypeName(@NotNull final ByteBuf buffer)
+    {
+        final int typeId = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+        if (typeId == 0)
+        {
+            return ByteBufUtils.readUTF8String(buffer);
+        }
+
+        final FactoryTypeDictionary dictionary = activeTypeDictionary.get();
+        final String className = dictionary == null ? null : dictionary.getName(typeId - 1);
+        if (className == null)
+        {
+            throw new IllegalArgumentException("The given buffer holds a type id without matching type dictionary");
+        }
+        return className;
+    }
+
+    /**
+     * Run a task which serializes or deserializes with a type dictionary.
+     * Objects serialized by the task store the id of their type in the dictionary instead of the class name,
+     * objects deserialized by the task may use either. The dictionary has to be saved together with the data.
+     *
+     * @param dictionary The dictionary, new to serialize or read from the saved data to deserialize.
+     * @param task       The task to run.
+     */
+    public void runWithTypeDictionary(@NotNull final FactoryTypeDictionary dictionary, @NotNull final Runnable task)
+    {
+        final FactoryTypeDictionary previous = activeTypeDictionary.get();
+        activeTypeDictionary.set(dictionary);
+        try
+        {
+            task.run();
+        }
+        finally
+        {
+            if (previous == null)
+            {
+                activeTypeDictionary.remove();
+            }
+            else
+            {
+                activeTypeDictionary.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Write data to a buffer with a new type dictionary, which is written ahead of the data.
+     * Objects written by the writer carry the id of their type instead of the class name,
+     * the data has to be read with {@link #readWithTypeDictionary(ByteBuf, Consumer)}.
+     *
+     * @param buffer The buffer to write to.
+     * @param writer The writer of the data.
+     */
+    public void writeWithTypeDictionary(@NotNull final ByteBuf buffer, @NotNull final Consumer<ByteBuf> writer)
+    {
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        final ByteBuf data = Unpooled.buffer();
+        try
+        {
+            runWithTypeDictionary(dictionary, () -> writer.accept(data));
+            dictionary.writeToBuffer(buffer);
+            buffer.writeBytes(data);
+        }
+        finally
+        {
+            data.release();
+        }
+    }
+
+    /**
+     * Read data written by {@link #writeWithTypeDictionary(ByteBuf, Consumer)} from a buffer.
+     *
+     * @param buffer The buffer to read from.
+     * @param reader The reader of the data.
+     */
+    public void readWithTypeDictionary(@NotNull final ByteBuf buffer, @NotNull final Consumer<ByteBuf> reader)
+    {
+        final FactoryTypeDictionary dictionary = FactoryTypeDictionary.readFromBuffer(buffer);
+        runWithTypeDictionary(dictionary, () -> reader.accept(buffer));
+    }
+
     private String processClassRenaming(@NotNull final String previousClassName)
     {
         if (!this.classRenamingHandlers.containsKey(previousClassName))
@@ -286,17 +462,49 @@ public final class StandardFactoryController implements IFactoryController
     }
 
     @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> void writeToBuffer(@NotNull final ByteBuf buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = serialize(object);
-        ByteBufUtils.writeTag(buffer, bufferCompound);
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        //0 is followed by the class name, any other value is the id in the active type dictionary plus one.
+        final FactoryTypeDictionary dictionary = activeTypeDictionary.get();
+        if (dictionary == null)
+        {
+            ByteBufUtils.writeVarInt(buffer, 0, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeUTF8String(buffer, object.getClass().getName());
+        }
+        else
+        {
+            ByteBufUtils.writeVarInt(buffer, dictionary.getOrAssign(object.getClass().getName()) + 1, MAX_VAR_INT_BYTES);
+        }
+        factory.writeToBuffer(this, buffer, object);
     }
 
     @Override
     public <OUTPUT> OUTPUT readFromBuffer(@NotNull final ByteBuf buffer) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = ByteBufUtils.readTag(buffer);
-        return deserialize(bufferCompound);
+        final String className = processClassRenaming(readTypeName(buffer));
+
+        final IFactory<?, OUTPUT> factory;
+
+        try
+        {
+            factory = getFactoryForOutput(className);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            throw (IllegalArgumentException) new IllegalArgumentException("The given buffer holds an unknown output type for this Controller").initCause(e);
+        }
+
+        try
+        {
+            return factory.readFromBuffer(this, buffer);
+        }
+        catch (Throwable throwable)
+        {
+            Log.getLogger().error(throwable);
+            return null;
+        }
     }
 
     @Override
@@ -320,6 +528,8 @@ public final class StandardFactoryController implements IFactoryController
     public <OUTPUT> void registerNewTypeOverrideHandler(@NotNull final ITypeOverrideHandler<OUTPUT> overrideHandler)
     {
         this.typeOverrideHandlers.add(overrideHandler);
+        this.overrideHandlerCache.clear();
+        this.outputFactoryCache.clear();
     }
 
     @Override
@@ -1,5 +1,26 @@
 package com.minecolonies.api.colony.requestsystem.data;
 
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * KV-Collection-Store for the requests assigned to each resolver.
+ * Changes should go through {@link #assign(IToken, IToken)} and {@link #unassign(IToken, IToken)},
+ * so the store can look up the resolver of a request without scanning all resolvers.
+ */
 public interface IRequestResolverRequestAssignmentDataStore extends ITokenTokenAssignmentDataStore
 {
+    /**
+     * Assign a request to a resolver.
+     * @param resolver The token of the resolver.
+     * @param request The token of the request.
+     */
+    void assign(@NotNull IToken<?> resolver, @NotNull IToken<?> request);
+
+    /**
+     * Remove a request from a resolver, removes the resolver entry when it has no requests left.
+     * @param resolver The token of the resolver.
+     * @param request The token of the request.
+     */
+    void unassign(@NotNull IToken<?> resolver, @NotNull IToken<?> request);
 }
@@ -2,7 +2,38 @@ package com.minecolonies.api.colony.requestsystem.data;
 
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * KV-Collection-Store for the resolvers which can handle each requestable type.
+ * Changes should go through {@link #addAssignment(TypeToken, IToken)} and {@link #removeAssignment(TypeToken, IToken)},
+ * so the sorted resolver lists per request type stay valid.
+ */
 public interface IRequestableTypeRequestResolverAssignmentDataStore extends IAssignmentDataStore<TypeToken<?>, IToken<?>>
 {
+    /**
+     * Register a resolver for a requestable type.
+     * @param type The requestable type.
+     * @param resolver The token of the resolver.
+     */
+    void addAssignment(@NotNull TypeToken<?> type, @NotNull IToken<?> resolver);
+
+    /**
+     * Remove a resolver from a requestable type.
+     * @param type The requestable type.
+     * @param resolver The token of the resolver.
+     */
+    void removeAssignment(@NotNull TypeToken<?> type, @NotNull IToken<?> resolver);
+
+    /**
+     * Get the resolvers to try for a request type in order, computed once until the assignments change.
+     * @param requestType The type of the request.
+     * @param sorter Computes the ordered resolvers when they are not known yet.
+     * @return The unmodifiable ordered list of resolver tokens.
+     */
+    @NotNull
+    List<IToken<?>> getSortedResolvers(@NotNull TypeToken<?> requestType, @NotNull Function<TypeToken<?>, List<IToken<?>>> sorter);
 }
@@ -0,0 +1,147 @@
+package com.minecolonies.api.colony.requestsystem.factory;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary of the type names written by a factory controller, assigning each name a small id on first use.
+ * <p>
+ * Saved once next to the data it was used for, or sent ahead of it in a buffer,
+ * so serialized objects only carry the id of their type instead of the full class name.
+ * Ids are only valid together with the dictionary they were assigned by.
+ * </p>
+ */
+public final class FactoryTypeDictionary
+{
+    /**
+     * The maximum length of a var int written to a buffer.
+     */
+    public static final int MAX_VAR_INT_BYTES = 5;
+
+    /**
+     * The type names by id.
+     */
+    @NotNull
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * The ids by type name.
+     */
+    @NotNull
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /**
+     * Get the id of a type name, assigning the next free id if the name is new.
+     *
+     * @param name the type name.
+     * @return the id.
+     */
+    public int getOrAssign(@NotNull final String name)
+    {
+        final Integer id = ids.get(name);
+        if (id != null)
+        {
+            return id;
+        }
+
+        names.add(name);
+        ids.put(name, names.size() - 1);
+        return names.size() - 1;
+    }
+
+    /**
+     * Get the type name of an id.
+     *
+     * @param id the id.
+     * @return the type name or null if the id wasn't assigned.
+     */
+    @Nullable
+    public String getName(final int id)
+    {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    /**
+     * Get the amount of assigned ids.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return names.size();
+    }
+
+    /**
+     * Write the dictionary to NBT.
+     *
+     * @return the type names ordered by id.
+     */
+    @NotNull
+    public NBTTagList serialize()
+    {
+        final NBTTagList list = new NBTTagList();
+        for (final String name : names)
+        {
+            list.appendTag(new NBTTagString(name));
+        }
+        return list;
+    }
+
+    /**
+     * Write the dictionary to a buffer.
+     *
+     * @param buffer the buffer to write the type names to, ordered by id.
+     */
+    public void writeToBuffer(@NotNull final ByteBuf buffer)
+    {
+        ByteBufUtils.writeVarInt(buffer, names.size(), MAX_VAR_INT_BYTES);
+        for (final String name : names)
+        {
+            ByteBufUtils.writeUTF8String(buffer, name);
+        }
+    }
+
+    /**
+     * Read a dictionary from a buffer written by {@link #writeToBuffer(ByteBuf)}.
+     *
+     * @param buffer the buffer.
+     * @return the dictionary.
+     */
+    @NotNull
+    public static FactoryTypeDictionary readFromBuffer(@NotNull final ByteBuf buffer)
+    {
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        final int size = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+        for (int i = 0; i < size; i++)
+        {
+            dictionary.getOrAssign(ByteBufUtils.readUTF8String(buffer));
+        }
+        return dictionary;
+    }
+
+    /**
+     * Read a dictionary from NBT.
+     *
+     * @param list the type names ordered by id, empty for data saved without a dictionary.
+     * @return the dictionary.
+     */
+    @NotNull
+    public static FactoryTypeDictionary deserialize(@NotNull final NBTTagList list)
+    {
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        for (int i = 0; i < list.tagCount(); i++)
+        {
+            dictionary.getOrAssign(list.getStringTagAt(i));
+        }
+        return dictionary;
+    }
+}
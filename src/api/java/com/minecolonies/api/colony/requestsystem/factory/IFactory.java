@@ -1,7 +1,9 @@
 package com.minecolonies.api.colony.requestsystem.factory;
 
 import com.google.common.reflect.TypeToken;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -60,4 +62,30 @@ public interface IFactory<Input, Output>
      */
     @NotNull
     Output deserialize(@NotNull IFactoryController controller, @NotNull NBTTagCompound nbt) throws Throwable;
+
+    /**
+     * Method to write a given constructable to a buffer.
+     * Defaults to the NBT data, factories of frequently sent types can write their fields directly.
+     *
+     * @param controller The controller that can be used to serialize complicated types.
+     * @param buffer     The buffer to write to.
+     * @param output     The object to write.
+     */
+    default void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final Output output)
+    {
+        ByteBufUtils.writeTag(buffer, serialize(controller, output));
+    }
+
+    /**
+     * Method to read a given constructable from a buffer written by {@link #writeToBuffer(IFactoryController, ByteBuf, Object)}.
+     *
+     * @param controller The controller that can be used to deserialize complicated types.
+     * @param buffer     The buffer to read from.
+     * @return The object that corresponds with the data in the buffer.
+     */
+    @NotNull
+    default Output readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer) throws Throwable
+    {
+        return deserialize(controller, ByteBufUtils.readTag(buffer));
+    }
 }
@@ -156,6 +156,16 @@ public class Stack implements IDeliverable
     {
         this.matchOreDic = match;
         return this;
+    }
+
+    /**
+     * Check if other items of the same ore dictionary entry match as well.
+     *
+     * @return true if so, false if only the item of the stack matches.
+     */
+    public boolean isMatchOreDic()
+    {
+        return matchOreDic;
     }    @NotNull
     @Override
     public ItemStack getResult()
@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.token;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.constant.TypeConstants;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,4 +63,21 @@ public abstract class AbstractTokenFactory<I> implements ITokenFactory<I, Standa
 
         return new StandardToken(id);
     }
+
+    @Override
+    public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardToken request)
+    {
+        buffer.writeLong(request.getIdentifier().getMostSignificantBits());
+        buffer.writeLong(request.getIdentifier().getLeastSignificantBits());
+    }
+
+    @NotNull
+    @Override
+    public StandardToken readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        final long msb = buffer.readLong();
+        final long lsb = buffer.readLong();
+
+        return new StandardToken(new UUID(msb, lsb));
+    }
 }
@@ -1,20 +1,21 @@
 package com.minecolonies.api.crafting;
 
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
  */
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get an unmodifiable view of the recipes map.
      * @return a map of Token, RecipeStorage.
      */
-    ImmutableMap<IToken, IRecipeStorage> getRecipes();
+    Map<IToken, IRecipeStorage> getRecipes();
 
     /**
      * Add a recipe to the map.
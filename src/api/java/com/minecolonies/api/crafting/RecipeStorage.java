@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.block.Block;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
@@ -173,10 +174,15 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public int hashCode()
     {
-        int result = input.hashCode();
-        result = 31 * result + primaryOutput.hashCode();
+        //Only hash what equals compares: the items of the inputs and the output item, ignoring durability.
+        int result = gridSize;
+        for (final ItemStack stack : input)
+        {
+            result = 31 * result + Item.getIdFromItem(stack.getItem());
+            result = 31 * result + stack.getItemDamage();
+        }
+        result = 31 * result + Item.getIdFromItem(primaryOutput.getItem());
         result = 31 * result + (intermediate != null ? intermediate.hashCode() : 0);
-        result = 31 * result + gridSize;
         return result;
     }
 
@@ -153,6 +153,20 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
         proxyList.add(pos);
     }
 
+    /**
+     * Replace the proxies the entity follows, for routes which are computed while the entity already walks.
+     *
+     * @param proxies the proxies in order.
+     * @param target  the target, walked to directly if there are no proxies.
+     */
+    protected void replaceProxyList(@NotNull final List<BlockPos> proxies, @NotNull final BlockPos target)
+    {
+        proxyList.clear();
+        proxyList.addAll(proxies);
+        currentProxy = proxyList.isEmpty() ? target : proxyList.remove(0);
+        entity.getNavigator().clearPath();
+    }
+
     /**
      * Method to call to detect if an entity living is at site with move.
      *
@@ -142,6 +142,15 @@ public class ChunkLoadStorage
         return colonyId;
     }
 
+    /**
+     * Getter for the chunk position.
+     * @return the xz position as long.
+     */
+    public long getXz()
+    {
+        return xz;
+    }
+
     /**
      * Getter for the dimension.
      * @return the dimension id.
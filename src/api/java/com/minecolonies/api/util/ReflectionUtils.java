@@ -4,14 +4,22 @@ import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.core.config.AppenderControl;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class with methods regarding reflection.
  */
 public final class ReflectionUtils
 {
+    /**
+     * The resolved super types per type, resolving the type hierarchy through reflection is expensive.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final Map<TypeToken<?>, Set<TypeToken>> SUPER_CLASSES = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to hide the implicit public one.
@@ -25,21 +33,37 @@ public final class ReflectionUtils
      *
      * @param token The type to get the Supertypes for.
      * @param <T>   The type to get the super types for.
-     * @return A set with the super types of the given type.
+     * @return A modifiable copy of the set with the super types of the given type.
      */
     @SuppressWarnings("unchecked")
     public static <T> Set<TypeToken> getSuperClasses(final TypeToken<T> token)
     {
-        final Set<TypeToken> directSet = new LinkedHashSet<>(token.getTypes());
-        final Set<TypeToken> resultingSet = new LinkedHashSet<>();
+        return new LinkedHashSet<>(getCachedSuperClasses(token));
+    }
 
-        directSet.forEach(t ->
+    /**
+     * Method to get all Super types of a given Class, without copying.
+     *
+     * @param token The type to get the Supertypes for.
+     * @param <T>   The type to get the super types for.
+     * @return An unmodifiable set with the super types of the given type, the type itself first.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Set<TypeToken> getCachedSuperClasses(final TypeToken<T> token)
+    {
+        return SUPER_CLASSES.computeIfAbsent(token, type ->
         {
-            resultingSet.add(t);
-            resultingSet.add(TypeToken.of(t.getRawType()));
-        });
+            final Set<TypeToken> directSet = new LinkedHashSet<>(type.getTypes());
+            final Set<TypeToken> resultingSet = new LinkedHashSet<>();
+
+            directSet.forEach(t ->
+            {
+                resultingSet.add(t);
+                resultingSet.add(TypeToken.of(t.getRawType()));
+            });
 
-        return resultingSet;
+            return Collections.unmodifiableSet(resultingSet);
+        });
     }
 
     public static void setFMLLoggingLevelOnConsoleToDebug(final AppenderControl control)
@@ -116,6 +116,11 @@ public final class NbtTagConstants
      */
     public static final String TAG_AUTO_DELETE ="autoDelete";
 
+    /**
+     * Tag to store the request system type dictionary of a colony.
+     */
+    public static final String TAG_TYPE_DICTIONARY = "typeDictionary";
+
     /**
      * The tag to store the requester Id of the Building.
      */
@@ -200,11 +205,6 @@ public final class NbtTagConstants
 
     public static final String TAG_CITIZEN_BY_OPEN_REQUEST = "CitizenByOpenRequest";
 
-    /**
-     * Missing chunks to be loaded.
-     */
-    public static final String TAG_MISSING_CHUNKS = "missingChunks";
-
 
     /**
      * Private constructor to hide the implicit one.
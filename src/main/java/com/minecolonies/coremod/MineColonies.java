@@ -11,6 +11,7 @@ import com.minecolonies.coremod.commands.CommandEntryPoint;
 import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
 import net.minecraftforge.common.MinecraftForge;
@@ -56,11 +57,17 @@ public class MineColonies
 
     private static SimpleNetworkWrapper network;
 
+    /**
+     * The single listener handing the permission-check events to the colonies.
+     */
+    private static final ColonyPermissionEventDispatcher permissionEventDispatcher = new ColonyPermissionEventDispatcher();
+
     static
     {
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(permissionEventDispatcher);
     }
 
     /**
@@ -149,7 +156,7 @@ public class MineColonies
 
         //  ColonyView messages
         getNetwork().registerMessage(ColonyViewMessage.class, ColonyViewMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(ColonyViewCitizenViewMessage.class, ColonyViewCitizenViewMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(ColonyViewCitizensMessage.class, ColonyViewCitizensMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveCitizenMessage.class, ColonyViewRemoveCitizenMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewBuildingViewMessage.class, ColonyViewBuildingViewMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveBuildingMessage.class, ColonyViewRemoveBuildingMessage.class, ++id, Side.CLIENT);
@@ -195,6 +202,7 @@ public class MineColonies
         getNetwork().registerMessage(TransferItemsToCitizenRequestMessage.class, TransferItemsToCitizenRequestMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(UpdateRequestStateMessage.class, UpdateRequestStateMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(BuildingSetStyleMessage.class, BuildingSetStyleMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(ColonyViewAckMessage.class, ColonyViewAckMessage.class, ++id, Side.SERVER);
 
         // Schematic transfer messages
         getNetwork().registerMessage(SchematicRequestMessage.class, SchematicRequestMessage.class, ++id, Side.SERVER);
@@ -214,6 +222,16 @@ public class MineColonies
         return network;
     }
 
+    /**
+     * Get the listener handing the permission-check events to the colonies.
+     *
+     * @return the dispatcher.
+     */
+    public static ColonyPermissionEventDispatcher getPermissionEventDispatcher()
+    {
+        return permissionEventDispatcher;
+    }
+
     @Mod.EventHandler
     public void postInit(final FMLPostInitializationEvent event)
     {
@@ -0,0 +1,323 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.ChunkLoadStorage;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The colony claims waiting for their chunk to be loaded.
+ * All pending claims are indexed in memory by dimension and chunk, so a chunk load only needs a map lookup.
+ * On disk the claims are grouped in one file per region of 32x32 chunks, changed regions are written in batches
+ * through the {@link ColonySavePipeline}.
+ */
+public final class ChunkClaimStore
+{
+    /**
+     * Shift from chunk to region coordinates, 32x32 chunks per region.
+     */
+    private static final int REGION_SHIFT = 5;
+
+    /**
+     * Region filename, by dimension and region coordinates.
+     */
+    private static final String FILENAME_REGION = "claims_%d_%d_%d.dat";
+
+    /**
+     * Pattern of the region filenames.
+     */
+    private static final Pattern REGION_PATTERN = Pattern.compile("claims_(-?\\d+)_(-?\\d+)_(-?\\d+)\\.dat");
+
+    /**
+     * Pattern of the per chunk files of older versions.
+     */
+    private static final Pattern LEGACY_CHUNK_PATTERN = Pattern.compile("chunk-(-?\\d+)_(-?\\d+)_(-?\\d+)");
+
+    /**
+     * NBT tag of the claims of a region.
+     */
+    private static final String TAG_CLAIMS = "claims";
+
+    /**
+     * The pending claims by dimension and chunk position.
+     */
+    private final Map<Integer, Map<Long, ChunkLoadStorage>> claimsByDimension = new HashMap<>();
+
+    /**
+     * The regions changed since the last flush, by dimension.
+     */
+    private final Map<Integer, Set<Long>> dirtyRegions = new HashMap<>();
+
+    /**
+     * The directory of the region files, null until loaded.
+     */
+    @Nullable
+    private File directory;
+
+    /**
+     * Load all pending claims from a directory.
+     * Files of the per chunk format of older versions are moved into the region files.
+     *
+     * @param chunkDir the directory.
+     */
+    public void load(@NotNull final File chunkDir)
+    {
+        clear();
+        directory = chunkDir;
+
+        final File[] files = chunkDir.listFiles();
+        if (files == null)
+        {
+            return;
+        }
+
+        final List<File> legacyFiles = new ArrayList<>();
+        for (final File file : files)
+        {
+            if (REGION_PATTERN.matcher(file.getName()).matches())
+            {
+                final NBTTagCompound compound = read(file);
+                if (compound != null)
+                {
+                    NBTUtils.streamCompound(compound.getTagList(TAG_CLAIMS, Constants.NBT.TAG_COMPOUND))
+                      .map(ChunkLoadStorage::new)
+                      .forEach(storage -> getClaims(storage.getDimension()).put(storage.getXz(), storage));
+                }
+            }
+            else if (LEGACY_CHUNK_PATTERN.matcher(file.getName()).matches())
+            {
+                legacyFiles.add(file);
+            }
+        }
+
+        if (legacyFiles.isEmpty())
+        {
+            return;
+        }
+
+        Log.getLogger().info(String.format("Moving %d chunk claim files into region files", legacyFiles.size()));
+        for (final File file : legacyFiles)
+        {
+            final Matcher matcher = LEGACY_CHUNK_PATTERN.matcher(file.getName());
+            final NBTTagCompound compound = read(file);
+            if (matcher.matches() && compound != null)
+            {
+                addClaim(Integer.parseInt(matcher.group(3)),
+                  Integer.parseInt(matcher.group(1)),
+                  Integer.parseInt(matcher.group(2)),
+                  new ChunkLoadStorage(compound));
+            }
+        }
+
+        //  The legacy files are only deleted once the claims are safely in the region files.
+        final ColonySavePipeline pipeline = ColonyManager.getSavePipeline();
+        flush(pipeline);
+        pipeline.flush();
+        if (areRegionFilesWritten())
+        {
+            legacyFiles.forEach(pipeline::delete);
+        }
+        else
+        {
+            Log.getLogger().warn("Could not write all chunk claim region files, keeping the old chunk claim files");
+        }
+    }
+
+    /**
+     * Add a claim for a chunk, merged with the claims already waiting for it.
+     *
+     * @param dimension the dimension of the chunk.
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @param claim     the claim.
+     */
+    public void addClaim(final int dimension, final int chunkX, final int chunkZ, @NotNull final ChunkLoadStorage claim)
+    {
+        final Map<Long, ChunkLoadStorage> claims = getClaims(dimension);
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final ChunkLoadStorage existing = claims.get(key);
+        if (existing == null)
+        {
+            claims.put(key, claim);
+        }
+        else
+        {
+            existing.merge(claim);
+            if (existing.isEmpty())
+            {
+                claims.remove(key);
+            }
+        }
+        markDirty(dimension, chunkX, chunkZ);
+    }
+
+    /**
+     * Remove and return the claims waiting for a chunk.
+     *
+     * @param dimension the dimension of the chunk.
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @return the claims or null if there are none.
+     */
+    @Nullable
+    public ChunkLoadStorage takeClaim(final int dimension, final int chunkX, final int chunkZ)
+    {
+        final Map<Long, ChunkLoadStorage> claims = claimsByDimension.get(dimension);
+        if (claims == null)
+        {
+            return null;
+        }
+
+        final ChunkLoadStorage claim = claims.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (claim != null)
+        {
+            markDirty(dimension, chunkX, chunkZ);
+        }
+        return claim;
+    }
+
+    /**
+     * Queue the writes of all regions changed since the last flush.
+     *
+     * @param pipeline the pipeline writing the files.
+     */
+    public void flush(@NotNull final ColonySavePipeline pipeline)
+    {
+        if (directory == null)
+        {
+            dirtyRegions.clear();
+            return;
+        }
+
+        for (final Map.Entry<Integer, Set<Long>> dimensionEntry : dirtyRegions.entrySet())
+        {
+            final int dimension = dimensionEntry.getKey();
+            final Map<Long, ChunkLoadStorage> claims = getClaims(dimension);
+            for (final long region : dimensionEntry.getValue())
+            {
+                final int regionX = (int) region;
+                final int regionZ = (int) (region >> Integer.SIZE);
+
+                final NBTTagList list = new NBTTagList();
+                for (int x = regionX << REGION_SHIFT; x < (regionX + 1) << REGION_SHIFT; x++)
+                {
+                    for (int z = regionZ << REGION_SHIFT; z < (regionZ + 1) << REGION_SHIFT; z++)
+                    {
+                        final ChunkLoadStorage claim = claims.get(ChunkPos.asLong(x, z));
+                        if (claim != null)
+                        {
+                            list.appendTag(claim.toNBT());
+                        }
+                    }
+                }
+
+                final File file = getRegionFile(dimension, regionX, regionZ);
+                if (list.hasNoTags())
+                {
+                    pipeline.delete(file);
+                }
+                else
+                {
+                    final NBTTagCompound compound = new NBTTagCompound();
+                    compound.setTag(TAG_CLAIMS, list);
+                    pipeline.save(file, compound);
+                }
+            }
+        }
+        dirtyRegions.clear();
+    }
+
+    /**
+     * Drop all claims, when the server stops.
+     */
+    public void clear()
+    {
+        claimsByDimension.clear();
+        dirtyRegions.clear();
+        directory = null;
+    }
+
+    /**
+     * Check if any claim is waiting for its chunk.
+     *
+     * @return true if none is.
+     */
+    public boolean isEmpty()
+    {
+        return claimsByDimension.values().stream().allMatch(Map::isEmpty);
+    }
+
+    /**
+     * Get the amount of chunks with pending claims.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return claimsByDimension.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Check if the region file of every pending claim exists.
+     *
+     * @return true if so.
+     */
+    private boolean areRegionFilesWritten()
+    {
+        for (final Map.Entry<Integer, Map<Long, ChunkLoadStorage>> dimensionEntry : claimsByDimension.entrySet())
+        {
+            for (final ChunkLoadStorage claim : dimensionEntry.getValue().values())
+            {
+                final ChunkPos pos = new ChunkPos((int) claim.getXz(), (int) (claim.getXz() >> Integer.SIZE));
+                if (!getRegionFile(dimensionEntry.getKey(), pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT).exists())
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private File getRegionFile(final int dimension, final int regionX, final int regionZ)
+    {
+        return new File(directory, String.format(FILENAME_REGION, dimension, regionX, regionZ));
+    }
+
+    @NotNull
+    private Map<Long, ChunkLoadStorage> getClaims(final int dimension)
+    {
+        return claimsByDimension.computeIfAbsent(dimension, dim -> new HashMap<>());
+    }
+
+    private void markDirty(final int dimension, final int chunkX, final int chunkZ)
+    {
+        dirtyRegions.computeIfAbsent(dimension, dim -> new HashSet<>()).add(ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT));
+    }
+
+    @Nullable
+    private static NBTTagCompound read(@NotNull final File file)
+    {
+        try
+        {
+            return CompressedStreamTools.read(file);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when loading chunk claims from " + file.getName(), exception);
+            return null;
+        }
+    }
+}
@@ -110,6 +110,10 @@ public class CitizenData
      * If the citizen is dirty (Has to be updated on client side).
      */
     private       boolean                      dirty;
+    /**
+     * The view data last sent to the subscribers, to send only changed fields.
+     */
+    private final CitizenViewBaseline          viewBaseline = new CitizenViewBaseline();
     /**
      * Its entitity.
      */
@@ -805,6 +809,18 @@ public class CitizenData
         ByteBufUtils.writeTag(buf, compound);
     }
 
+    /**
+     * Write the view fields which changed since the last delta was written.
+     * Receivers need to have the full view or every delta written before.
+     *
+     * @param buf the buffer to write to.
+     * @return the mask of the written fields, 0 if nothing changed.
+     */
+    public int serializeViewNetworkDelta(@NotNull final ByteBuf buf)
+    {
+        return viewBaseline.writeDelta(this, MAX_HEALTH, buf);
+    }
+
     /**
      * Writes the citizen status to the byteBuffer.
      *
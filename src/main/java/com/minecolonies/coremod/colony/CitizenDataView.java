@@ -313,6 +313,77 @@ public class CitizenDataView
         this.inventory.setHeldItem(compound.getInteger(TAG_HELD_ITEM_SLOT));
     }
 
+    /**
+     * Apply the fields which changed since the last update.
+     *
+     * @param buf Byte buffer with the changed fields.
+     * @see CitizenData#serializeViewNetworkDelta(ByteBuf)
+     */
+    public void deserializeDelta(@NotNull final ByteBuf buf)
+    {
+        final int mask = buf.readInt();
+        if ((mask & CitizenViewBaseline.FIELD_IDENTITY) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            colonyId = buf.readInt();
+        }
+        if ((mask & CitizenViewBaseline.FIELD_BUILDINGS) != 0)
+        {
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        }
+        if ((mask & CitizenViewBaseline.FIELD_LEVEL) != 0)
+        {
+            level = buf.readInt();
+            experience = buf.readDouble();
+        }
+        if ((mask & CitizenViewBaseline.FIELD_HEALTH) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+        }
+        if ((mask & CitizenViewBaseline.FIELD_SKILLS) != 0)
+        {
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
+        if ((mask & CitizenViewBaseline.FIELD_SATURATION) != 0)
+        {
+            saturation = buf.readDouble();
+        }
+        if ((mask & CitizenViewBaseline.FIELD_JOB) != 0)
+        {
+            job = ByteBufUtils.readUTF8String(buf);
+        }
+        if ((mask & CitizenViewBaseline.FIELD_STATUS) != 0)
+        {
+            final int length = buf.readInt();
+            for (int i = 0; i < length; i++)
+            {
+                latestStatus[i] = new TextComponentTranslation(ByteBufUtils.readUTF8String(buf));
+            }
+        }
+        if ((mask & CitizenViewBaseline.FIELD_INVENTORY) != 0)
+        {
+            if (inventory == null)
+            {
+                inventory = new InventoryCitizen(this.name, true);
+            }
+            inventory.setHeldItem(buf.readInt());
+            final int slots = buf.readInt();
+            for (int i = 0; i < slots; i++)
+            {
+                final int slot = buf.readShort();
+                inventory.setInventorySlotContents(slot, ByteBufUtils.readItemStack(buf));
+            }
+        }
+    }
+
     /**
      * Get the array of the latest status.
      *
@@ -0,0 +1,263 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.inventory.InventoryCitizen;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The view data of a citizen as last sent to the subscribers of its colony.
+ * <p>
+ * Subscribers which received every update since they subscribed all have this state, so they only get the fields
+ * which changed since, as a bit mask followed by those fields. New subscribers get the full view instead.
+ * </p>
+ */
+final class CitizenViewBaseline
+{
+    /**
+     * Name, gender, entity and colony.
+     */
+    static final int FIELD_IDENTITY   = 1;
+    /**
+     * Home and work building.
+     */
+    static final int FIELD_BUILDINGS  = 1 << 1;
+    /**
+     * Level and experience.
+     */
+    static final int FIELD_LEVEL      = 1 << 2;
+    /**
+     * Health and max health.
+     */
+    static final int FIELD_HEALTH     = 1 << 3;
+    /**
+     * Strength, endurance, charisma, intelligence and dexterity.
+     */
+    static final int FIELD_SKILLS     = 1 << 4;
+    static final int FIELD_SATURATION = 1 << 5;
+    static final int FIELD_JOB        = 1 << 6;
+    static final int FIELD_STATUS     = 1 << 7;
+    /**
+     * The changed inventory slots and the held item slot.
+     */
+    static final int FIELD_INVENTORY  = 1 << 8;
+
+    /**
+     * Amount of skills of a citizen.
+     */
+    private static final int SKILL_COUNT = 5;
+
+    private String      name;
+    private boolean     female;
+    private int         entityId;
+    private int         colonyId;
+    @Nullable
+    private BlockPos    homeBuilding;
+    @Nullable
+    private BlockPos    workBuilding;
+    private int         level;
+    private double      experience;
+    private float       health;
+    private float       maxHealth;
+    private int[]       skills = new int[SKILL_COUNT];
+    private double      saturation;
+    private String      job;
+    private String[]    status = new String[0];
+    private ItemStack[] slots  = new ItemStack[0];
+    private int         heldItemSlot;
+
+    /**
+     * Whether nothing was sent yet.
+     */
+    private boolean empty = true;
+
+    /**
+     * Write the fields of a citizen which changed since the last call and remember them as sent.
+     *
+     * @param citizen   the citizen.
+     * @param maxHealth the health of a citizen without entity.
+     * @param buf       the buffer to write to.
+     * @return the mask of the written fields, 0 if nothing changed.
+     */
+    int writeDelta(@NotNull final CitizenData citizen, final float maxHealth, @NotNull final ByteBuf buf)
+    {
+        final Optional<EntityCitizen> entity = citizen.getCitizenEntity();
+        final int newEntityId = entity.map(Entity::getEntityId).orElse(-1);
+        final BlockPos newHome = citizen.getHomeBuilding() == null ? null : citizen.getHomeBuilding().getID();
+        final BlockPos newWork = citizen.getWorkBuilding() == null ? null : citizen.getWorkBuilding().getID();
+        final float newHealth = entity.map(EntityCitizen::getHealth).orElse(maxHealth);
+        final float newMaxHealth = entity.map(EntityCitizen::getMaxHealth).orElse(maxHealth);
+        final int[] newSkills = {citizen.getStrength(), citizen.getEndurance(), citizen.getCharisma(), citizen.getIntelligence(), citizen.getDexterity()};
+        final String newJob = citizen.getJob() == null ? "" : citizen.getJob().getName();
+        final String[] newStatus = entity.map(CitizenViewBaseline::getStatus).orElse(new String[0]);
+        final InventoryCitizen inventory = citizen.getInventory();
+        final int slotCount = inventory.getTotalSizeInventory();
+        if (slots.length != slotCount)
+        {
+            slots = new ItemStack[slotCount];
+            Arrays.fill(slots, ItemStackUtils.EMPTY);
+            empty = true;
+        }
+
+        int mask = 0;
+        if (empty || !Objects.equals(name, citizen.getName()) || female != citizen.isFemale() || entityId != newEntityId
+              || colonyId != citizen.getColony().getID())
+        {
+            mask |= FIELD_IDENTITY;
+        }
+        if (empty || !Objects.equals(homeBuilding, newHome) || !Objects.equals(workBuilding, newWork))
+        {
+            mask |= FIELD_BUILDINGS;
+        }
+        if (empty || level != citizen.getLevel() || Double.compare(experience, citizen.getExperience()) != 0)
+        {
+            mask |= FIELD_LEVEL;
+        }
+        if (empty || Float.compare(health, newHealth) != 0 || Float.compare(this.maxHealth, newMaxHealth) != 0)
+        {
+            mask |= FIELD_HEALTH;
+        }
+        if (empty || !Arrays.equals(skills, newSkills))
+        {
+            mask |= FIELD_SKILLS;
+        }
+        if (empty || Double.compare(saturation, citizen.getSaturation()) != 0)
+        {
+            mask |= FIELD_SATURATION;
+        }
+        if (empty || !Objects.equals(job, newJob))
+        {
+            mask |= FIELD_JOB;
+        }
+        if (empty || !Arrays.equals(status, newStatus))
+        {
+            mask |= FIELD_STATUS;
+        }
+
+        int changedSlots = 0;
+        for (int slot = 0; slot < slotCount; slot++)
+        {
+            if (empty || !ItemStack.areItemStacksEqual(slots[slot], inventory.getStackInSlot(slot)))
+            {
+                changedSlots++;
+            }
+        }
+        if (changedSlots > 0 || heldItemSlot != inventory.getHeldItemSlot())
+        {
+            mask |= FIELD_INVENTORY;
+        }
+
+        buf.writeInt(mask);
+        if ((mask & FIELD_IDENTITY) != 0)
+        {
+            name = citizen.getName();
+            female = citizen.isFemale();
+            entityId = newEntityId;
+            colonyId = citizen.getColony().getID();
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
+            buf.writeInt(entityId);
+            buf.writeInt(colonyId);
+        }
+        if ((mask & FIELD_BUILDINGS) != 0)
+        {
+            homeBuilding = newHome;
+            workBuilding = newWork;
+            writeOptionalPos(buf, homeBuilding);
+            writeOptionalPos(buf, workBuilding);
+        }
+        if ((mask & FIELD_LEVEL) != 0)
+        {
+            level = citizen.getLevel();
+            experience = citizen.getExperience();
+            buf.writeInt(level);
+            buf.writeDouble(experience);
+        }
+        if ((mask & FIELD_HEALTH) != 0)
+        {
+            health = newHealth;
+            this.maxHealth = newMaxHealth;
+            buf.writeFloat(health);
+            buf.writeFloat(this.maxHealth);
+        }
+        if ((mask & FIELD_SKILLS) != 0)
+        {
+            skills = newSkills;
+            for (final int skill : skills)
+            {
+                buf.writeInt(skill);
+            }
+        }
+        if ((mask & FIELD_SATURATION) != 0)
+        {
+            saturation = citizen.getSaturation();
+            buf.writeDouble(saturation);
+        }
+        if ((mask & FIELD_JOB) != 0)
+        {
+            job = newJob;
+            ByteBufUtils.writeUTF8String(buf, job);
+        }
+        if ((mask & FIELD_STATUS) != 0)
+        {
+            status = newStatus;
+            buf.writeInt(status.length);
+            for (final String line : status)
+            {
+                ByteBufUtils.writeUTF8String(buf, line);
+            }
+        }
+        if ((mask & FIELD_INVENTORY) != 0)
+        {
+            heldItemSlot = inventory.getHeldItemSlot();
+            buf.writeInt(heldItemSlot);
+            buf.writeInt(changedSlots);
+            for (int slot = 0; slot < slotCount; slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (empty || !ItemStack.areItemStacksEqual(slots[slot], stack))
+                {
+                    slots[slot] = stack.copy();
+                    buf.writeShort(slot);
+                    ByteBufUtils.writeItemStack(buf, stack);
+                }
+            }
+        }
+
+        empty = false;
+        return mask;
+    }
+
+    @NotNull
+    private static String[] getStatus(@NotNull final EntityCitizen entity)
+    {
+        final ITextComponent[] latestStatus = entity.getLatestStatus();
+        final String[] lines = new String[latestStatus.length];
+        for (int i = 0; i < latestStatus.length; i++)
+        {
+            lines[i] = latestStatus[i] == null ? "" : latestStatus[i].getUnformattedText();
+        }
+        return lines;
+    }
+
+    private static void writeOptionalPos(@NotNull final ByteBuf buf, @Nullable final BlockPos pos)
+    {
+        buf.writeBoolean(pos != null);
+        if (pos != null)
+        {
+            BlockPosUtil.writeToByteBuf(buf, pos);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.google.common.collect.ImmutableList;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.permissions.Rank;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryTypeDictionary;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.configuration.Configurations;
@@ -32,14 +34,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,8 +47,6 @@ import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
-import static com.minecolonies.coremod.colony.ColonyManager.FILENAME_COLONY;
-import static com.minecolonies.coremod.colony.ColonyManager.FILENAME_MINECOLONIES_PATH;
 
 /**
  * This class describes a colony and contains all the data and methods for
@@ -108,6 +105,11 @@ public class Colony implements IColony
      */
     private final IColonyPackageManager packageManager = new ColonyPackageManager(this);
 
+    /**
+     * Threat tracker of the colony.
+     */
+    private final ThreatTracker threatTracker = new ThreatTracker(this);
+
     /**
      * The Positions which players can freely interact.
      */
@@ -220,9 +222,8 @@ public class Colony implements IColony
         this.world = world;
         this.permissions = new Permissions(this);
 
-        // Register a new event handler
+        // Permission events are handed to this handler by the global dispatcher.
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
 
         for (final String s : Configurations.gameplay.freeToInteractBlocks)
         {
@@ -276,6 +277,17 @@ public class Colony implements IColony
      * @param compound compound to read from.
      */
     private void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        final FactoryTypeDictionary dictionary = FactoryTypeDictionary.deserialize(compound.getTagList(TAG_TYPE_DICTIONARY, NBT.TAG_STRING));
+        StandardFactoryController.getInstance().runWithTypeDictionary(dictionary, () -> readColonyFromNBT(compound));
+    }
+
+    /**
+     * Read the colony data, with the type dictionary of the save active.
+     *
+     * @param compound compound to read from.
+     */
+    private void readColonyFromNBT(@NotNull final NBTTagCompound compound)
     {
         manualHiring = compound.getBoolean(TAG_MANUAL_HIRING);
 
@@ -392,6 +404,18 @@ public class Colony implements IColony
      * @param compound compound to write to.
      */
     protected void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        StandardFactoryController.getInstance().runWithTypeDictionary(dictionary, () -> writeColonyToNBT(compound));
+        compound.setTag(TAG_TYPE_DICTIONARY, dictionary.serialize());
+    }
+
+    /**
+     * Write the colony data, request system types are written to the type dictionary of the save.
+     *
+     * @param compound compound to write to.
+     */
+    private void writeColonyToNBT(@NotNull final NBTTagCompound compound)
     {
         //  Core attributes
         compound.setInteger(TAG_ID, id);
@@ -634,6 +658,9 @@ public class Colony implements IColony
             // Clean up or spawn citizens.
             citizenManager.onWorldTick(event);
 
+            // Find the threats around the colony.
+            threatTracker.onWorldTick(event.world);
+
             if (shallUpdate(world, TICKS_SECOND)
                   && event.world.getDifficulty() != EnumDifficulty.PEACEFUL
                   && Configurations.gameplay.doBarbariansSpawn
@@ -662,10 +689,23 @@ public class Colony implements IColony
         workManager.onWorldTick(event);
 
         if(this.isDirty && shallUpdate(world, CLEANUP_TICK_INCREMENT))
+        {
+            saveIfDirty();
+        }
+    }
+
+    /**
+     * Queue the colony file for saving if the colony changed since it was last saved.
+     * The NBT snapshot is taken right away, the write happens on the save thread.
+     */
+    public void saveIfDirty()
+    {
+        if (this.isDirty)
         {
             this.isDirty = false;
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-            ColonyManager.saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, this.getID())), this.getColonyTag());
+            final long start = System.nanoTime();
+            final NBTTagCompound compound = this.getColonyTag();
+            ColonyManager.getSavePipeline().saveColony(this.getID(), ColonyManager.getColonySaveLocation(this.getID()), compound, System.nanoTime() - start);
         }
     }
 
@@ -978,29 +1018,35 @@ public class Colony implements IColony
     @NotNull
     public List<BlockPos> getWayPoints(@NotNull final BlockPos position, @NotNull final BlockPos target)
     {
-        final List<BlockPos> tempWayPoints = new ArrayList<>();
-        tempWayPoints.addAll(wayPoints.keySet());
-        tempWayPoints.addAll(buildingManager.getBuildings().keySet());
+        final int maxX = Math.max(position.getX(), target.getX());
+        final int maxZ = Math.max(position.getZ(), target.getZ());
 
-        final double maxX = Math.max(position.getX(), target.getX());
-        final double maxZ = Math.max(position.getZ(), target.getZ());
+        final int minX = Math.min(position.getX(), target.getX());
+        final int minZ = Math.min(position.getZ(), target.getZ());
 
-        final double minX = Math.min(position.getX(), target.getX());
-        final double minZ = Math.min(position.getZ(), target.getZ());
+        final List<BlockPos> tempWayPoints = new ArrayList<>();
+        addWayPointsInArea(wayPoints.keySet(), tempWayPoints, minX, minZ, maxX, maxZ);
+        addWayPointsInArea(buildingManager.getBuildings().keySet(), tempWayPoints, minX, minZ, maxX, maxZ);
+        return tempWayPoints;
+    }
 
-        final Iterator<BlockPos> iterator = tempWayPoints.iterator();
-        while (iterator.hasNext())
+    private static void addWayPointsInArea(
+                                            @NotNull final Collection<BlockPos> points,
+                                            @NotNull final List<BlockPos> result,
+                                            final int minX,
+                                            final int minZ,
+                                            final int maxX,
+                                            final int maxZ)
+    {
+        for (final BlockPos p : points)
         {
-            final BlockPos p = iterator.next();
             final int x = p.getX();
             final int z = p.getZ();
-            if (x < minX || x > maxX || z < minZ || z > maxZ)
+            if (x >= minX && x <= maxX && z >= minZ && z <= maxZ)
             {
-                iterator.remove();
+                result.add(p);
             }
         }
-
-        return tempWayPoints;
     }
 
 
@@ -1017,11 +1063,11 @@ public class Colony implements IColony
     /**
      * Get all the waypoints of the colony.
      *
-     * @return copy of hashmap.
+     * @return unmodifiable view of the waypoints.
      */
     public Map<BlockPos, IBlockState> getWayPoints()
     {
-        return new HashMap<>(wayPoints);
+        return Collections.unmodifiableMap(wayPoints);
     }
 
     /**
@@ -1098,6 +1144,15 @@ public class Colony implements IColony
         return packageManager;
     }
 
+    /**
+     * Get the threat tracker of the colony.
+     * @return the tracker.
+     */
+    public ThreatTracker getThreatTracker()
+    {
+        return threatTracker;
+    }
+
     /**
      * Get all visiting players.
      * @return the list.
@@ -16,7 +16,11 @@ import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ContainerItemIndex;
 import com.minecolonies.coremod.util.AchievementUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
@@ -31,7 +35,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
@@ -104,11 +107,6 @@ public final class ColonyManager
      */
     public static final String FILENAME_COLONY = "colony%d.dat";
 
-    /**
-     * chunk filename.
-     */
-    private static final String FILENAME_CHUNK = "chunk-%d_%d_%d";
-
     /**
      * The damage source used to kill citizens.
      */
@@ -159,15 +157,20 @@ public final class ColonyManager
     private static volatile UUID    serverUUID          = null;
 
     /**
-     * Removed elements of the list of chunks to load.
+     * The colony claims waiting for their chunk to be loaded.
      */
-    private static int missingChunksToLoad = 0;
+    private static final ChunkClaimStore chunkClaims = new ChunkClaimStore();
 
     /**
      * Creates a new compatabilityManager.
      */
     private static final ICompatabilityManager compatabilityManager = new CompatabilityManager();
 
+    /**
+     * Writes the colony files off the server thread.
+     */
+    private static final ColonySavePipeline savePipeline = new ColonySavePipeline();
+
     private ColonyManager()
     {
         //Hides default constructor.
@@ -237,38 +240,15 @@ public final class ColonyManager
         final int buffer = Configurations.gameplay.townHallPaddingChunk;
 
         final int maxRange = range * 2 + buffer;
-        @NotNull final File chunkDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), CHUNK_INFO_PATH);
-        Utils.checkDirectory(chunkDir);
-
         for(int i = chunkX - maxRange; i <= chunkX + maxRange; i++)
         {
             for (int j = chunkZ - maxRange; j <= chunkZ + maxRange; j++)
             {
                 final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(id, ChunkPos.asLong(i, j), add, dimension, owning);
-                @NotNull final File file = new File(chunkDir, String.format(FILENAME_CHUNK, i, j, dimension));
-                if (file.exists())
-                {
-                    @Nullable final NBTTagCompound chunkData = loadNBTFromPath(file);
-                    final ChunkLoadStorage storage = new ChunkLoadStorage(chunkData);
-                    storage.merge(newStorage);
-                    if (storage.isEmpty())
-                    {
-                        file.delete();
-                    }
-                    else
-                    {
-                        saveNBTToPath(file, newStorage.toNBT());
-                        missingChunksToLoad++;
-                    }
-                }
-                else
-                {
-                    saveNBTToPath(file, newStorage.toNBT());
-                    missingChunksToLoad++;
-                }
+                chunkClaims.addClaim(dimension, i, j, new ChunkLoadStorage(id, ChunkPos.asLong(i, j), add, dimension, owning));
             }
         }
+        chunkClaims.flush(savePipeline);
     }
 
     /**
@@ -292,18 +272,12 @@ public final class ColonyManager
      */
     public static void loadChunk(final Chunk chunk, final World world)
     {
-        if(missingChunksToLoad > 0)
+        final ChunkLoadStorage storage = chunkClaims.takeClaim(world.provider.getDimension(), chunk.x, chunk.z);
+        if (storage != null)
         {
-            @NotNull final File chunkDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), CHUNK_INFO_PATH);
-            @NotNull final File file = new File(chunkDir, String.format(FILENAME_CHUNK, chunk.x, chunk.z, world.provider.getDimension()));
-            if(file.exists())
-            {
-                @Nullable final NBTTagCompound chunkData = loadNBTFromPath(file);
-                final ChunkLoadStorage storage = new ChunkLoadStorage(chunkData);
-                addStorageToChunk(chunk, storage);
-                file.delete();
-                missingChunksToLoad--;
-            }
+            addStorageToChunk(chunk, storage);
+            // The consumed claims are removed from their region file with the next save.
+            markDirty();
         }
     }
 
@@ -366,7 +340,6 @@ public final class ColonyManager
                 }
             }
 
-            MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
             Log.getLogger().info("Deleting colony: " + colony.getID());
             colonies.remove(id);
             coloniesByWorld.get(colony.getDimension()).remove(colony);
@@ -379,7 +352,7 @@ public final class ColonyManager
         }
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, id));
-        file.delete();
+        savePipeline.delete(file);
         ColonyManager.markDirty();
     }
 
@@ -462,7 +435,7 @@ public final class ColonyManager
     public static boolean isTooCloseToColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
         final Chunk centralChunk = w.getChunkFromBlockCoords(pos);
-        return !centralChunk.getCapability(CLOSE_COLONY_CAP, null).getAllCloseColonies().isEmpty();
+        return centralChunk.getCapability(CLOSE_COLONY_CAP, null).hasCloseColonies();
     }
 
     /**
@@ -606,25 +579,18 @@ public final class ColonyManager
         {
             return getColonyView(cap.getOwningColony());
         }
-        else if(!cap.getAllCloseColonies().isEmpty())
+        else if(cap.hasCloseColonies())
         {
-            @Nullable ColonyView closestColony = null;
-            long closestDist = Long.MAX_VALUE;
-
-            for (@NotNull final int cId : cap.getAllCloseColonies())
+            final ClosestColony<ColonyView> closest = new ClosestColony<>(pos);
+            cap.forEachCloseColony(cId ->
             {
                 final ColonyView c = getColonyView(cId);
                 if (c != null && c.getDimension() == w.provider.getDimension())
                 {
-                    final long dist = c.getDistanceSquared(pos);
-                    if (dist < closestDist)
-                    {
-                        closestColony = c;
-                        closestDist = dist;
-                    }
+                    closest.offer(c);
                 }
-            }
-            return closestColony;
+            });
+            return closest.colony;
         }
 
         @Nullable ColonyView closestColony = null;
@@ -661,25 +627,18 @@ public final class ColonyManager
         {
             return getColony(cap.getOwningColony());
         }
-        else if(!cap.getAllCloseColonies().isEmpty())
+        else if(cap.hasCloseColonies())
         {
-            @Nullable Colony closestColony = null;
-            long closestDist = Long.MAX_VALUE;
-
-            for (@NotNull final int cId : cap.getAllCloseColonies())
+            final ClosestColony<Colony> closest = new ClosestColony<>(pos);
+            cap.forEachCloseColony(cId ->
             {
                 final Colony c = getColony(cId);
                 if (c != null && c.getDimension() == w.provider.getDimension())
                 {
-                    final long dist = c.getDistanceSquared(pos);
-                    if (dist < closestDist)
-                    {
-                        closestColony = c;
-                        closestDist = dist;
-                    }
+                    closest.offer(c);
                 }
-            }
-            return closestColony;
+            });
+            return closest.colony;
         }
 
         @Nullable Colony closestColony = null;
@@ -808,23 +767,47 @@ public final class ColonyManager
 
     /**
      * Save all the Colonies.
+     * Only colonies which changed since their last save are written, the writes happen on the save thread.
      */
     private static void saveColonies()
     {
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         writeToNBT(compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        savePipeline.save(getSaveLocation(), compound);
         for(final Colony colony: colonies)
         {
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID())), colony.getColonyTag());
+            colony.saveIfDirty();
         }
+        chunkClaims.flush(savePipeline);
 
         saveNeeded = false;
     }
 
+    /**
+     * Get the file a colony is saved to.
+     *
+     * @param id the id of the colony.
+     * @return the save file.
+     */
+    @NotNull
+    public static File getColonySaveLocation(final int id)
+    {
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        return new File(saveDir, String.format(FILENAME_COLONY, id));
+    }
+
+    /**
+     * Get the pipeline writing the colony files.
+     *
+     * @return the save pipeline.
+     */
+    @NotNull
+    public static ColonySavePipeline getSavePipeline()
+    {
+        return savePipeline;
+    }
+
     /**
      * Write colonies to NBT data for saving.
      *
@@ -849,7 +832,6 @@ public final class ColonyManager
         recipeManager.writeToNBT(recipeCompound);
         compound.setTag(RECIPE_MANAGER_TAG, recipeCompound);
         compound.setInteger(TAG_NEW_COLONIES, colonies.getTopID());
-        compound.setInteger(TAG_MISSING_CHUNKS, missingChunksToLoad);
     }
 
     /**
@@ -933,6 +915,10 @@ public final class ColonyManager
                 //load the structures when we know where the world is
                 Structures.init();
 
+                @NotNull final File chunkDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), CHUNK_INFO_PATH);
+                Utils.checkDirectory(chunkDir);
+                chunkClaims.load(chunkDir);
+
                 @NotNull final File file = getSaveLocation();
                 @Nullable final NBTTagCompound data = loadNBTFromPath(file);
                 if (data != null)
@@ -978,6 +964,9 @@ public final class ColonyManager
             }
 
             world.addEventListener(new ColonyManagerWorldAccess());
+            PathCache.register(world);
+            PassabilitySnapshot.register(world);
+            SectionGraph.register(world);
         }
     }
 
@@ -987,6 +976,7 @@ public final class ColonyManager
         {
             saveColonies();
         }
+        savePipeline.flush();
 
         try(FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
         {
@@ -1077,6 +1067,8 @@ public final class ColonyManager
             for (int i = 0; i < colonyTags.tagCount(); ++i)
             {
                 @NotNull final Colony colony = Colony.loadColony(colonyTags.getCompoundTagAt(i), world);
+                //Old saves have no colony file yet, make sure it is written on the next save.
+                colony.markDirty();
                 colonies.add(colony);
                 addColonyByWorld(colony);
             }
@@ -1096,8 +1088,6 @@ public final class ColonyManager
         final NBTTagCompound recipeCompound = compound.getCompoundTag(RECIPE_MANAGER_TAG);
         recipeManager.readFromNBT(recipeCompound);
 
-        missingChunksToLoad = compound.getInteger(TAG_MISSING_CHUNKS);
-
         Log.getLogger().info(String.format("Loaded %d colonies", colonies.getSize()));
     }
 
@@ -1147,6 +1137,9 @@ public final class ColonyManager
             if (world.provider.getDimension() == 0)
             {
                 saveColonies();
+                savePipeline.flush();
+                Log.getLogger().info(String.format("Colony saves: %d files, %d bytes written, %.2f ms average per file",
+                  savePipeline.getFilesWritten(), savePipeline.getBytesWritten(), savePipeline.getAverageWriteMillis()));
             }
 
 
@@ -1154,12 +1147,17 @@ public final class ColonyManager
             {
                 c.onWorldUnload(world);
             }
+            PathCache.unregister(world);
+            PassabilitySnapshot.unregister(world);
+            SectionGraph.unregister(world);
+            ContainerItemIndex.unregister(world);
 
             --numWorldsLoaded;
             if (numWorldsLoaded == 0)
             {
                 colonies.clear();
                 coloniesByWorld.clear();
+                chunkClaims.clear();
             }
         }
     }
@@ -1221,24 +1219,23 @@ public final class ColonyManager
     }
 
     /**
-     * Returns result of {@link ColonyView#handleColonyViewCitizensMessage(int,
-     * ByteBuf)} if {@link #getColonyView(int)} gives a not-null result. If
+     * Returns result of {@link ColonyView#handleColonyViewCitizensMessage(ByteBuf)}
+     * if {@link #getColonyView(int)} gives a not-null result. If
      * {@link #getColonyView(int)} is null, returns null.
      *
-     * @param colonyId  ID of the colony.
-     * @param citizenId ID of the citizen.
-     * @param buf       {@link ByteBuf} with colony data.
-     * @return result of {@link ColonyView#handleColonyViewCitizensMessage(int,
-     * ByteBuf)} or null.
+     * @param colonyId ID of the colony.
+     * @param buf      {@link ByteBuf} with citizen data.
+     * @return result of {@link ColonyView#handleColonyViewCitizensMessage(ByteBuf)}
+     * or null.
      */
-    public static IMessage handleColonyViewCitizensMessage(final int colonyId, final int citizenId, final ByteBuf buf)
+    public static IMessage handleColonyViewCitizensMessage(final int colonyId, final ByteBuf buf)
     {
         final ColonyView view = getColonyView(colonyId);
         if (view == null)
         {
             return null;
         }
-        return view.handleColonyViewCitizensMessage(citizenId, buf);
+        return view.handleColonyViewCitizensMessage(buf);
     }
 
     /**
@@ -1405,4 +1402,32 @@ public final class ColonyManager
     {
         return recipeManager;
     }
+
+    /**
+     * The closest of the colonies offered to it, for lookups iterating the close colony ids of a chunk.
+     *
+     * @param <T> the colony type.
+     */
+    private static final class ClosestColony<T extends IColony>
+    {
+        private final BlockPos pos;
+        @Nullable
+        private       T        colony;
+        private       long     distance = Long.MAX_VALUE;
+
+        private ClosestColony(@NotNull final BlockPos pos)
+        {
+            this.pos = pos;
+        }
+
+        private void offer(@NotNull final T candidate)
+        {
+            final long dist = candidate.getDistanceSquared(pos);
+            if (dist < distance)
+            {
+                colony = candidate;
+                distance = dist;
+            }
+        }
+    }
 }
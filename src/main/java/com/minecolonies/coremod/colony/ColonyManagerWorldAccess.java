@@ -1,6 +1,11 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.util.Structure;
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
+import com.minecolonies.coremod.tileentities.ContainerItemIndex;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -19,8 +24,14 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(final World worldIn, final BlockPos pos, final IBlockState oldState, final IBlockState newState, final int flags)
     {
-        //Not needed
-
+        if (oldState != newState)
+        {
+            PathCache.onBlockChange(worldIn, pos);
+            PassabilitySnapshot.onBlockChange(worldIn, pos);
+            SectionGraph.onBlockChange(worldIn, pos);
+            Structure.onBlockChange(worldIn, pos);
+            ContainerItemIndex.onContainerChanged(worldIn, pos);
+        }
     }
 
     @Override
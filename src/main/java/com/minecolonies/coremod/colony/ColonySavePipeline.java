@@ -0,0 +1,366 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous persistence pipeline for the colony save files.
+ * The NBT snapshot is taken on the calling (tick) thread, compression and the disk write happen on a dedicated
+ * I/O thread. Repeated saves of the same file which are still waiting in the queue are coalesced into one write.
+ */
+public final class ColonySavePipeline
+{
+    /**
+     * Name of the I/O thread.
+     */
+    private static final String THREAD_NAME = "Minecolonies Save Thread";
+
+    /**
+     * Max time to wait for pending writes on a flush, in seconds.
+     */
+    private static final int FLUSH_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Colony id of the files which don't belong to a colony.
+     */
+    private static final int NO_COLONY = -1;
+
+    /**
+     * The snapshots waiting to be written, keyed by their destination.
+     * A file has an entry in here only while exactly one write task for it is queued.
+     */
+    private final Map<File, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * The save times by colony id.
+     */
+    private final Map<Integer, ColonySaveStats> colonyStats = new ConcurrentHashMap<>();
+
+    /**
+     * The single I/O thread executing the writes in submission order.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Amount of compressed bytes written in total.
+     */
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * Amount of files written in total.
+     */
+    private final AtomicLong filesWritten = new AtomicLong();
+
+    /**
+     * Amount of saves which were merged into an already queued write.
+     */
+    private final AtomicLong savesCoalesced = new AtomicLong();
+
+    /**
+     * Total nanoseconds spent compressing and writing.
+     */
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    /**
+     * Nanoseconds the last write took.
+     */
+    private volatile long lastWriteNanos = 0;
+
+    /**
+     * Queue an NBT compound to be written to a file.
+     * The compound is written as is, so the caller must not modify it anymore.
+     *
+     * @param file     the destination file.
+     * @param compound the compound to write.
+     */
+    public void save(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        queue(file, new PendingWrite(compound, NO_COLONY));
+    }
+
+    /**
+     * Queue the NBT compound of a colony to be written to a file, recording the save times of the colony.
+     * The compound is written as is, so the caller must not modify it anymore.
+     *
+     * @param colonyId      the id of the colony.
+     * @param file          the destination file.
+     * @param compound      the compound to write.
+     * @param snapshotNanos the nanoseconds it took to create the compound on the tick thread.
+     */
+    public void saveColony(final int colonyId, @NotNull final File file, @NotNull final NBTTagCompound compound, final long snapshotNanos)
+    {
+        colonyStats.computeIfAbsent(colonyId, id -> new ColonySaveStats()).recordSnapshot(snapshotNanos);
+        queue(file, new PendingWrite(compound, colonyId));
+    }
+
+    private void queue(@NotNull final File file, @NotNull final PendingWrite write)
+    {
+        if (pendingWrites.put(file, write) != null)
+        {
+            savesCoalesced.incrementAndGet();
+            return;
+        }
+        executor.execute(() -> write(file));
+    }
+
+    /**
+     * Queue the deletion of a file, dropping any write to it still waiting in the queue.
+     *
+     * @param file the file to delete.
+     */
+    public void delete(@NotNull final File file)
+    {
+        pendingWrites.remove(file);
+        executor.execute(() ->
+        {
+            if (file.exists() && !file.delete())
+            {
+                Log.getLogger().warn("Unable to delete " + file.getName());
+            }
+        });
+    }
+
+    /**
+     * Block until every write queued so far is on disk.
+     * Used before backups and when the server shuts down.
+     */
+    public void flush()
+    {
+        try
+        {
+            executor.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            Log.getLogger().warn("Interrupted while waiting for colony saves to finish", e);
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().error("Colony saves did not finish in time", e);
+        }
+    }
+
+    /**
+     * Write the latest snapshot of a file, runs on the I/O thread.
+     *
+     * @param file the file to write.
+     */
+    private void write(@NotNull final File file)
+    {
+        final PendingWrite pending = pendingWrites.remove(file);
+        if (pending == null)
+        {
+            //The write was cancelled by a delete.
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try
+        {
+            file.getParentFile().mkdir();
+            CompressedStreamTools.safeWrite(pending.compound, file);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when saving " + file.getName(), exception);
+            return;
+        }
+        final long duration = System.nanoTime() - start;
+
+        lastWriteNanos = duration;
+        writeNanos.addAndGet(duration);
+        bytesWritten.addAndGet(file.length());
+        filesWritten.incrementAndGet();
+        if (pending.colonyId != NO_COLONY)
+        {
+            colonyStats.computeIfAbsent(pending.colonyId, id -> new ColonySaveStats()).recordWrite(duration);
+        }
+    }
+
+    /**
+     * Get the amount of compressed bytes written since the server started.
+     *
+     * @return the amount of bytes.
+     */
+    public long getBytesWritten()
+    {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Get the amount of files written since the server started.
+     *
+     * @return the amount of files.
+     */
+    public long getFilesWritten()
+    {
+        return filesWritten.get();
+    }
+
+    /**
+     * Get the amount of saves which have been merged into an already queued write.
+     *
+     * @return the amount of coalesced saves.
+     */
+    public long getSavesCoalesced()
+    {
+        return savesCoalesced.get();
+    }
+
+    /**
+     * Get the amount of writes still waiting in the queue.
+     *
+     * @return the queue size.
+     */
+    public int getPendingWrites()
+    {
+        return pendingWrites.size();
+    }
+
+    /**
+     * Get the average time it took to compress and write one colony file.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getAverageWriteMillis()
+    {
+        final long files = filesWritten.get();
+        return files == 0 ? 0 : writeNanos.get() / NANOS_PER_MILLI / files;
+    }
+
+    /**
+     * Get the time the last write took.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getLastWriteMillis()
+    {
+        return lastWriteNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Get the save times of the colonies saved since the server started.
+     *
+     * @return an unmodifiable view of the save times by colony id.
+     */
+    @NotNull
+    public Map<Integer, ColonySaveStats> getColonyStats()
+    {
+        return Collections.unmodifiableMap(colonyStats);
+    }
+
+    /**
+     * A snapshot waiting to be written.
+     */
+    private static final class PendingWrite
+    {
+        private final NBTTagCompound compound;
+        private final int            colonyId;
+
+        private PendingWrite(@NotNull final NBTTagCompound compound, final int colonyId)
+        {
+            this.compound = compound;
+            this.colonyId = colonyId;
+        }
+    }
+
+    /**
+     * Save times of one colony.
+     */
+    public static final class ColonySaveStats
+    {
+        private final AtomicLong saves         = new AtomicLong();
+        private final AtomicLong snapshotNanos = new AtomicLong();
+        private final AtomicLong writes        = new AtomicLong();
+        private final AtomicLong writeNanos    = new AtomicLong();
+
+        private volatile long lastSnapshotNanos = 0;
+        private volatile long lastWriteNanos    = 0;
+
+        private void recordSnapshot(final long nanos)
+        {
+            lastSnapshotNanos = nanos;
+            snapshotNanos.addAndGet(nanos);
+            saves.incrementAndGet();
+        }
+
+        private void recordWrite(final long nanos)
+        {
+            lastWriteNanos = nanos;
+            writeNanos.addAndGet(nanos);
+            writes.incrementAndGet();
+        }
+
+        /**
+         * Get the amount of writes of the colony file.
+         *
+         * @return the amount.
+         */
+        public long getWrites()
+        {
+            return writes.get();
+        }
+
+        /**
+         * Get the time the last snapshot of the colony took on the tick thread.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getLastSnapshotMillis()
+        {
+            return lastSnapshotNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * Get the average time a snapshot of the colony took on the tick thread.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageSnapshotMillis()
+        {
+            final long count = saves.get();
+            return count == 0 ? 0 : snapshotNanos.get() / NANOS_PER_MILLI / count;
+        }
+
+        /**
+         * Get the time the last write of the colony file took on the I/O thread.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getLastWriteMillis()
+        {
+            return lastWriteNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * Get the average time a write of the colony file took on the I/O thread.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageWriteMillis()
+        {
+            final long count = writes.get();
+            return count == 0 ? 0 : writeNanos.get() / NANOS_PER_MILLI / count;
+        }
+    }
+}
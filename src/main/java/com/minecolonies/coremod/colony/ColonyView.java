@@ -16,11 +16,13 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import com.minecolonies.coremod.network.messages.ColonyViewAckMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -103,6 +105,23 @@ public final class ColonyView implements IColony
      */
     private IRequestManager requestManager;
 
+    /**
+     * The serialized request system the request manager was created from.
+     */
+    private NBTTagCompound requestManagerData;
+
+    /**
+     * The last received states, by version, as baselines for deltas.
+     */
+    private final Map<Integer, ColonyViewState> receivedStates = new LinkedHashMap<Integer, ColonyViewState>()
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, ColonyViewState> eldest)
+        {
+            return size() > ColonyViewState.MAX_BASELINES;
+        }
+    };
+
     /**
      * The world.
      */
@@ -131,13 +150,18 @@ public final class ColonyView implements IColony
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Populate a network packet representing a ColonyView.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link ByteBuf} to write data in.
-     * @param isNewSubScription true if this is a new subscription.
+     * @param colony   Colony to write data about.
+     * @param buf      {@link ByteBuf} to write data in.
+     * @param state    the captured state of the colony.
+     * @param baseline the state the receivers already have, or null to send it in full.
      */
-    public static void serializeNetworkData(@NotNull final Colony colony, @NotNull final ByteBuf buf, final boolean isNewSubScription)
+    public static void serializeNetworkData(
+                                             @NotNull final Colony colony,
+                                             @NotNull final ByteBuf buf,
+                                             @NotNull final ColonyViewState state,
+                                             @Nullable final ColonyViewState baseline)
     {
         //  General Attributes
         ByteBufUtils.writeUTF8String(buf, colony.getName());
@@ -147,35 +171,14 @@ public final class ColonyView implements IColony
         //  Citizenry
         buf.writeInt(colony.getCitizenManager().getMaxCitizens());
 
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Set<BlockPos> waypoints = colony.getWayPoints().keySet();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            ByteBufUtils.writeUTF8String(buf, block.getRegistryName().toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            BlockPosUtil.writeToByteBuf(buf, block);
-        }
         buf.writeDouble(colony.getOverallHappiness());
         buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final BlockPos block : waypoints)
-        {
-            BlockPosUtil.writeToByteBuf(buf, block);
-        }
-
         buf.writeInt(colony.getLastContactInHours());
         buf.writeBoolean(colony.isManualHousing());
         //  Citizens are sent as a separate packet
 
-        ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+        //  Free blocks, waypoints and request system, possibly as delta
+        state.write(buf, baseline);
     }
 
     /**
@@ -427,7 +430,7 @@ public final class ColonyView implements IColony
      *
      * @param buf               {@link ByteBuf} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
-     * @return null == no response.
+     * @return the acknowledgement of the received version.
      */
     @Nullable
     public IMessage handleColonyViewMessage(@NotNull final ByteBuf buf, @NotNull final World world, final boolean isNewSubscription)
@@ -446,37 +449,38 @@ public final class ColonyView implements IColony
             citizens.clear();
             townHall = null;
             buildings.clear();
+            receivedStates.clear();
         }
 
-        freePositions = new HashSet<>();
-        freeBlocks = new HashSet<>();
-        wayPoints = new HashSet<>();
+        this.overallHappiness = buf.readDouble();
+        this.hasColonyWarehouse = buf.readBoolean();
+        this.lastContactInHours = buf.readInt();
+        this.manualHousing = buf.readBoolean();
 
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        final ColonyViewState state = ColonyViewState.read(buf, receivedStates);
+        if (state == null)
         {
-            freeBlocks.add(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            //  The delta is based on a version we don't know anymore, ask for the full view.
+            receivedStates.clear();
+            return new ColonyViewAckMessage(id, ColonyViewAckMessage.RESYNC);
         }
+        receivedStates.put(state.getVersion(), state);
 
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        freeBlocks = new HashSet<>();
+        for (final String block : state.getFreeBlocks())
         {
-            freePositions.add(BlockPosUtil.readFromByteBuf(buf));
+            freeBlocks.add(Block.getBlockFromName(block));
         }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
+        freePositions = new HashSet<>(state.getFreePositions());
+        wayPoints = new HashSet<>(state.getWayPoints());
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
+        if (requestManager == null || state.getRequestManager() != requestManagerData)
         {
-            wayPoints.add(BlockPosUtil.readFromByteBuf(buf));
+            requestManagerData = state.getRequestManager();
+            this.requestManager = new StandardRequestManager(this);
+            state.readRequestManager(this.requestManager);
         }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-
-        this.requestManager = new StandardRequestManager(this);
-        this.requestManager.deserializeNBT(ByteBufUtils.readTag(buf));
-        return null;
+        return new ColonyViewAckMessage(id, state.getVersion());
     }
 
     /**
@@ -514,20 +518,35 @@ public final class ColonyView implements IColony
 
     /**
      * Update a ColonyView's citizens given a network data ColonyView update
-     * packet. This uses a full-replacement - citizens do not get updated and
-     * are instead overwritten.
+     * packet. Each citizen is either sent in full, replacing its view, or as
+     * the fields which changed since the last update, see
+     * {@link CitizenData#serializeViewNetworkDelta(ByteBuf)}.
      *
-     * @param id  ID of the citizen.
-     * @param buf Network data.
+     * @param buf Network data: the amount of citizens, then per citizen its id,
+     *            whether it is sent in full and the length and data of the citizen.
      * @return null == no response.
      */
     @Nullable
-    public IMessage handleColonyViewCitizensMessage(final int id, final ByteBuf buf)
+    public IMessage handleColonyViewCitizensMessage(final ByteBuf buf)
     {
-        final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
-        if (citizen != null)
+        final int count = buf.readInt();
+        for (int i = 0; i < count; i++)
         {
-            citizens.put(citizen.getId(), citizen);
+            final int id = buf.readInt();
+            final boolean full = buf.readBoolean();
+            final ByteBuf citizenBuffer = buf.readSlice(buf.readInt());
+            if (full)
+            {
+                final CitizenDataView citizen = CitizenData.createCitizenDataView(id, citizenBuffer);
+                if (citizen != null)
+                {
+                    citizens.put(citizen.getId(), citizen);
+                }
+            }
+            else
+            {
+                citizens.computeIfAbsent(id, CitizenDataView::new).deserializeDelta(citizenBuffer);
+            }
         }
 
         return null;
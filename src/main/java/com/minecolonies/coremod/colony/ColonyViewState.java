@@ -0,0 +1,279 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryTypeDictionary;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.util.NBTDeltaUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_REQUESTMANAGER;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TYPE_DICTIONARY;
+
+/**
+ * The parts of a colony view which are sent as delta against a version the client acknowledged:
+ * the free blocks and positions, the waypoints and the request system.
+ * The request system is written with a type dictionary, so its objects carry a type id instead of the class name.
+ * Immutable once created, both server and client keep a few recent versions as baselines.
+ */
+public final class ColonyViewState
+{
+    /**
+     * Amount of recent states kept as baselines.
+     */
+    public static final int MAX_BASELINES = 32;
+
+    private final int            version;
+    private final Set<String>    freeBlocks;
+    private final Set<BlockPos>  freePositions;
+    private final Set<BlockPos>  wayPoints;
+    private final NBTTagCompound requestManager;
+
+    private ColonyViewState(
+                             final int version,
+                             @NotNull final Set<String> freeBlocks,
+                             @NotNull final Set<BlockPos> freePositions,
+                             @NotNull final Set<BlockPos> wayPoints,
+                             @NotNull final NBTTagCompound requestManager)
+    {
+        this.version = version;
+        this.freeBlocks = freeBlocks;
+        this.freePositions = freePositions;
+        this.wayPoints = wayPoints;
+        this.requestManager = requestManager;
+    }
+
+    /**
+     * Capture the current state of a colony.
+     *
+     * @param colony  the colony.
+     * @param version the version of the state.
+     * @return the state.
+     */
+    @NotNull
+    public static ColonyViewState capture(@NotNull final Colony colony, final int version)
+    {
+        final Set<String> freeBlocks = new LinkedHashSet<>();
+        for (final Block block : colony.getFreeBlocks())
+        {
+            freeBlocks.add(block.getRegistryName().toString());
+        }
+
+        final NBTTagCompound requestManager = new NBTTagCompound();
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        StandardFactoryController.getInstance().runWithTypeDictionary(dictionary,
+          () -> requestManager.setTag(TAG_REQUESTMANAGER, colony.getRequestManager().serializeNBT()));
+        requestManager.setTag(TAG_TYPE_DICTIONARY, dictionary.serialize());
+
+        return new ColonyViewState(version,
+          freeBlocks,
+          new LinkedHashSet<>(colony.getFreePositions()),
+          new LinkedHashSet<>(colony.getWayPoints().keySet()),
+          requestManager);
+    }
+
+    /**
+     * Write the state, as delta if a baseline is given.
+     *
+     * @param buf      the buffer to write to.
+     * @param baseline the state the receiver has, or null to write it in full.
+     */
+    public void write(@NotNull final ByteBuf buf, @Nullable final ColonyViewState baseline)
+    {
+        buf.writeInt(version);
+        buf.writeBoolean(baseline != null);
+        if (baseline == null)
+        {
+            writeStrings(buf, freeBlocks);
+            writePositions(buf, freePositions);
+            writePositions(buf, wayPoints);
+            ByteBufUtils.writeTag(buf, requestManager);
+            return;
+        }
+
+        buf.writeInt(baseline.version);
+        writeStrings(buf, difference(baseline.freeBlocks, freeBlocks));
+        writeStrings(buf, difference(freeBlocks, baseline.freeBlocks));
+        writePositions(buf, difference(baseline.freePositions, freePositions));
+        writePositions(buf, difference(freePositions, baseline.freePositions));
+        writePositions(buf, difference(baseline.wayPoints, wayPoints));
+        writePositions(buf, difference(wayPoints, baseline.wayPoints));
+
+        final boolean requestsChanged = !requestManager.equals(baseline.requestManager);
+        buf.writeBoolean(requestsChanged);
+        if (requestsChanged)
+        {
+            ByteBufUtils.writeTag(buf, NBTDeltaUtils.diff(baseline.requestManager, requestManager));
+        }
+    }
+
+    /**
+     * Read a state written by {@link #write(ByteBuf, ColonyViewState)}.
+     *
+     * @param buf       the buffer to read from.
+     * @param baselines the states received before, by version.
+     * @return the state, or null if it is a delta against a baseline which isn't known anymore.
+     */
+    @Nullable
+    public static ColonyViewState read(@NotNull final ByteBuf buf, @NotNull final Map<Integer, ColonyViewState> baselines)
+    {
+        final int version = buf.readInt();
+        if (!buf.readBoolean())
+        {
+            final Set<String> freeBlocks = readStrings(buf);
+            final Set<BlockPos> freePositions = readPositions(buf);
+            final Set<BlockPos> wayPoints = readPositions(buf);
+            return new ColonyViewState(version, freeBlocks, freePositions, wayPoints, ByteBufUtils.readTag(buf));
+        }
+
+        final ColonyViewState baseline = baselines.get(buf.readInt());
+
+        final Set<String> freeBlocks = baseline == null ? new LinkedHashSet<>() : new LinkedHashSet<>(baseline.freeBlocks);
+        freeBlocks.removeAll(readStrings(buf));
+        freeBlocks.addAll(readStrings(buf));
+        final Set<BlockPos> freePositions = baseline == null ? new LinkedHashSet<>() : new LinkedHashSet<>(baseline.freePositions);
+        freePositions.removeAll(readPositions(buf));
+        freePositions.addAll(readPositions(buf));
+        final Set<BlockPos> wayPoints = baseline == null ? new LinkedHashSet<>() : new LinkedHashSet<>(baseline.wayPoints);
+        wayPoints.removeAll(readPositions(buf));
+        wayPoints.addAll(readPositions(buf));
+
+        NBTTagCompound requestManager = baseline == null ? null : baseline.requestManager;
+        if (buf.readBoolean())
+        {
+            final NBTTagCompound delta = ByteBufUtils.readTag(buf);
+            requestManager = baseline == null || delta == null ? null : NBTDeltaUtils.apply(baseline.requestManager, delta);
+        }
+
+        if (baseline == null || requestManager == null)
+        {
+            return null;
+        }
+        return new ColonyViewState(version, freeBlocks, freePositions, wayPoints, requestManager);
+    }
+
+    @NotNull
+    private static <T> Set<T> difference(@NotNull final Set<T> from, @NotNull final Set<T> without)
+    {
+        final Set<T> result = new LinkedHashSet<>(from);
+        result.removeAll(without);
+        return result;
+    }
+
+    private static void writeStrings(@NotNull final ByteBuf buf, @NotNull final Set<String> strings)
+    {
+        buf.writeInt(strings.size());
+        for (final String string : strings)
+        {
+            ByteBufUtils.writeUTF8String(buf, string);
+        }
+    }
+
+    @NotNull
+    private static Set<String> readStrings(@NotNull final ByteBuf buf)
+    {
+        final int size = buf.readInt();
+        final Set<String> strings = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++)
+        {
+            strings.add(ByteBufUtils.readUTF8String(buf));
+        }
+        return strings;
+    }
+
+    private static void writePositions(@NotNull final ByteBuf buf, @NotNull final Set<BlockPos> positions)
+    {
+        buf.writeInt(positions.size());
+        for (final BlockPos pos : positions)
+        {
+            BlockPosUtil.writeToByteBuf(buf, pos);
+        }
+    }
+
+    @NotNull
+    private static Set<BlockPos> readPositions(@NotNull final ByteBuf buf)
+    {
+        final int size = buf.readInt();
+        final Set<BlockPos> positions = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++)
+        {
+            positions.add(BlockPosUtil.readFromByteBuf(buf));
+        }
+        return positions;
+    }
+
+    /**
+     * Get the version of the state.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Get the registry names of the free to interact blocks.
+     *
+     * @return unmodifiable set of names.
+     */
+    @NotNull
+    public Set<String> getFreeBlocks()
+    {
+        return Collections.unmodifiableSet(freeBlocks);
+    }
+
+    /**
+     * Get the free to interact positions.
+     *
+     * @return unmodifiable set of positions.
+     */
+    @NotNull
+    public Set<BlockPos> getFreePositions()
+    {
+        return Collections.unmodifiableSet(freePositions);
+    }
+
+    /**
+     * Get the waypoints.
+     *
+     * @return unmodifiable set of positions.
+     */
+    @NotNull
+    public Set<BlockPos> getWayPoints()
+    {
+        return Collections.unmodifiableSet(wayPoints);
+    }
+
+    /**
+     * Get the serialized request system together with its type dictionary, must not be modified.
+     *
+     * @return the compound.
+     */
+    @NotNull
+    public NBTTagCompound getRequestManager()
+    {
+        return requestManager;
+    }
+
+    /**
+     * Deserialize the request system into a request manager, with the type dictionary it was written with.
+     *
+     * @param manager the request manager to read into.
+     */
+    public void readRequestManager(@NotNull final IRequestManager manager)
+    {
+        final FactoryTypeDictionary dictionary = FactoryTypeDictionary.deserialize(requestManager.getTagList(TAG_TYPE_DICTIONARY, NBT.TAG_STRING));
+        StandardFactoryController.getInstance().runWithTypeDictionary(dictionary,
+          () -> manager.deserializeNBT(requestManager.getCompoundTag(TAG_REQUESTMANAGER)));
+    }
+}
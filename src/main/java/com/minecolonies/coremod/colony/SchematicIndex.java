@@ -0,0 +1,277 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.structures.helpers.Structure;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On disk index of the schematic files, with the MD5 hash and compressed size of each file.
+ * <p>
+ * Files are identified by their uri, size and modification time, only files which are new or changed
+ * since the index was saved are read again, in parallel.
+ * </p>
+ */
+final class SchematicIndex
+{
+    private static final String TAG_ENTRIES         = "entries";
+    private static final String TAG_PATH            = "path";
+    private static final String TAG_SIZE            = "size";
+    private static final String TAG_LAST_MODIFIED   = "lastModified";
+    private static final String TAG_MD5             = "md5";
+    private static final String TAG_COMPRESSED_SIZE = "compressedSize";
+
+    /**
+     * Separator between the archive and the entry of a jar uri.
+     */
+    private static final String JAR_SEPARATOR = "!/";
+
+    /**
+     * The file the index is saved in.
+     */
+    private final File file;
+
+    /**
+     * The entries by uri of the schematic file.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Whether entries changed since the index was loaded or saved.
+     */
+    private boolean dirty = false;
+
+    /**
+     * The index data of one schematic file.
+     */
+    static final class Entry
+    {
+        private final long   size;
+        private final long   lastModified;
+        @Nullable
+        private final String md5;
+        private final int    compressedSize;
+
+        private Entry(final long size, final long lastModified, @Nullable final String md5, final int compressedSize)
+        {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.md5 = md5;
+            this.compressedSize = compressedSize;
+        }
+
+        /**
+         * Get the MD5 hash of the file.
+         *
+         * @return the hash or null if it couldn't be calculated.
+         */
+        @Nullable
+        public String getMD5()
+        {
+            return md5;
+        }
+
+        /**
+         * Get the size of the file when compressed to be sent.
+         *
+         * @return the size in bytes.
+         */
+        public int getCompressedSize()
+        {
+            return compressedSize;
+        }
+    }
+
+    /**
+     * Create an index saved in a file, loading the entries saved before.
+     *
+     * @param file the file.
+     */
+    SchematicIndex(@NotNull final File file)
+    {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Get the entries of a set of schematic files, reading the files which aren't in the index or changed.
+     *
+     * @param paths the paths of the files.
+     * @return the entries by path, files which couldn't be read are missing.
+     */
+    @NotNull
+    Map<Path, Entry> getEntries(@NotNull final Collection<Path> paths)
+    {
+        final Map<Path, Entry> result = new ConcurrentHashMap<>();
+        final List<Path> misses = new ArrayList<>();
+        for (final Path path : paths)
+        {
+            final Entry entry = entries.get(path.toUri().toString());
+            if (entry != null && isCurrent(path, entry))
+            {
+                result.put(path, entry);
+            }
+            else
+            {
+                misses.add(path);
+            }
+        }
+
+        if (!misses.isEmpty())
+        {
+            misses.parallelStream().forEach(path -> {
+                final Entry entry = read(path);
+                if (entry != null)
+                {
+                    entries.put(path.toUri().toString(), entry);
+                    result.put(path, entry);
+                }
+            });
+            dirty = true;
+            Log.getLogger().info("Indexed " + misses.size() + " of " + paths.size() + " schematics");
+        }
+        return result;
+    }
+
+    /**
+     * Save the index if entries changed, dropping the entries of files which don't exist anymore.
+     */
+    void save()
+    {
+        if (!dirty)
+        {
+            return;
+        }
+
+        final NBTTagList list = new NBTTagList();
+        for (final Map.Entry<String, Entry> indexEntry : entries.entrySet())
+        {
+            if (isStale(indexEntry.getKey()))
+            {
+                continue;
+            }
+
+            final Entry entry = indexEntry.getValue();
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setString(TAG_PATH, indexEntry.getKey());
+            compound.setLong(TAG_SIZE, entry.size);
+            compound.setLong(TAG_LAST_MODIFIED, entry.lastModified);
+            if (entry.md5 != null)
+            {
+                compound.setString(TAG_MD5, entry.md5);
+            }
+            compound.setInteger(TAG_COMPRESSED_SIZE, entry.compressedSize);
+            list.appendTag(compound);
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_ENTRIES, list);
+        try
+        {
+            if (!file.getParentFile().exists() && !file.getParentFile().mkdirs())
+            {
+                Log.getLogger().warn("Could not create the folder of the schematic index " + file);
+                return;
+            }
+            CompressedStreamTools.safeWrite(compound, file);
+            dirty = false;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not save the schematic index " + file, e);
+        }
+    }
+
+    private void load()
+    {
+        try
+        {
+            final NBTTagCompound compound = CompressedStreamTools.read(file);
+            if (compound == null)
+            {
+                return;
+            }
+
+            final NBTTagList list = compound.getTagList(TAG_ENTRIES, NBT.TAG_COMPOUND);
+            for (int i = 0; i < list.tagCount(); i++)
+            {
+                final NBTTagCompound entry = list.getCompoundTagAt(i);
+                entries.put(entry.getString(TAG_PATH), new Entry(entry.getLong(TAG_SIZE),
+                  entry.getLong(TAG_LAST_MODIFIED),
+                  entry.hasKey(TAG_MD5) ? entry.getString(TAG_MD5) : null,
+                  entry.getInteger(TAG_COMPRESSED_SIZE)));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not load the schematic index " + file + ", all schematics will be read again", e);
+        }
+    }
+
+    private static boolean isCurrent(@NotNull final Path path, @NotNull final Entry entry)
+    {
+        try
+        {
+            return Files.size(path) == entry.size && Files.getLastModifiedTime(path).toMillis() == entry.lastModified;
+        }
+        catch (final IOException e)
+        {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Entry read(@NotNull final Path path)
+    {
+        try
+        {
+            final long lastModified = Files.getLastModifiedTime(path).toMillis();
+            final byte[] data = Files.readAllBytes(path);
+            return new Entry(data.length, lastModified, Structure.calculateMD5(data), Structure.compress(data).length);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not read the schematic " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Check if the file of an entry doesn't exist anymore, for jar entries if the jar doesn't exist anymore.
+     */
+    private static boolean isStale(@NotNull final String uri)
+    {
+        try
+        {
+            String location = uri;
+            if (location.startsWith("jar:"))
+            {
+                location = location.substring("jar:".length());
+                final int separator = location.indexOf(JAR_SEPARATOR);
+                if (separator >= 0)
+                {
+                    location = location.substring(0, separator);
+                }
+            }
+            final URI fileUri = URI.create(location);
+            return "file".equals(fileUri.getScheme()) && !Files.exists(Paths.get(fileUri));
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return true;
+        }
+    }
+}
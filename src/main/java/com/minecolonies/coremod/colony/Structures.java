@@ -1,12 +1,14 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.structures.helpers.Structure;
 import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +59,10 @@ public final class Structures
      * Maximum size for a compressed schematic.
      */
     private static final int MAX_TOTAL_SIZE = 32_767;
+    /**
+     * Name of the file of the schematic index, in the mod folder of the game directory.
+     */
+    private static final String SCHEMATIC_INDEX_FILE = "schematics.index";
 
     /**
      * Hut/Decoration, Styles, Levels.
@@ -90,6 +96,11 @@ public final class Structures
      */
     private static boolean allowPlayerSchematics = false;
 
+    /**
+     * The index of the md5 hashes and sizes of the schematic files, loaded on first use.
+     */
+    private static SchematicIndex schematicIndex;
+
     /**
      * Private constructor so Structures objects can't be made.
      */
@@ -229,6 +240,7 @@ public final class Structures
      */
     private static void loadSchematicsForPrefix(@NotNull final Path basePath, @NotNull final String prefix)
     {
+        final Map<Path, StructureName> structureNames = new LinkedHashMap<>();
         try (Stream<Path> walk = Files.walk(basePath.resolve(prefix)))
         {
             final Iterator<Path> it = walk.iterator();
@@ -247,22 +259,31 @@ public final class Structures
                         relativePath = relativePath.substring(1);
                     }
 
-                    final StructureName structureName = new StructureName(relativePath);
-                    final String md5 = Structure.calculateMD5(Structure.getStream(relativePath));
-                    if (md5 == null)
-                    {
-                        Log.getLogger().error("Structures: " + structureName + " with md5 null.");
-                    }
-                    else if (isSchematicSizeValid(structureName.toString()))
+                    structureNames.put(path, new StructureName(relativePath));
+                }
+            }
+
+            final SchematicIndex index = getSchematicIndex();
+            final Map<Path, SchematicIndex.Entry> entries = index.getEntries(structureNames.keySet());
+            for (final Map.Entry<Path, StructureName> structure : structureNames.entrySet())
+            {
+                final StructureName structureName = structure.getValue();
+                final SchematicIndex.Entry entry = entries.get(structure.getKey());
+                final String md5 = entry == null ? null : entry.getMD5();
+                if (md5 == null)
+                {
+                    Log.getLogger().error("Structures: " + structureName + " with md5 null.");
+                }
+                else if (isSchematicSizeValid(structureName.toString(), entry.getCompressedSize()))
+                {
+                    md5Map.put(structureName.toString(), md5);
+                    if (MineColonies.isClient())
                     {
-                        md5Map.put(structureName.toString(), md5);
-                        if (MineColonies.isClient())
-                        {
-                            addSchematic(structureName);
-                        }
+                        addSchematic(structureName);
                     }
                 }
             }
+            index.save();
         }
         catch (@NotNull final IOException e)
         {
@@ -270,21 +291,34 @@ public final class Structures
         }
     }
 
+    /**
+     * Get the index of the schematic files, loading it if needed.
+     *
+     * @return the index.
+     */
+    @NotNull
+    private static synchronized SchematicIndex getSchematicIndex()
+    {
+        if (schematicIndex == null)
+        {
+            schematicIndex = new SchematicIndex(new File(Loader.instance().getConfigDir().getParentFile(), Constants.MOD_ID + SCHEMATICS_SEPARATOR + SCHEMATIC_INDEX_FILE));
+        }
+        return schematicIndex;
+    }
+
     /**
      * check that a schematic is not too big to be sent.
      *
-     * @param structureName name of the structure to check for.
+     * @param structureName  name of the structure to check for.
+     * @param compressedSize the size of the schematic when compressed.
      * @return True when the schematic is not too big.
      */
-    private static boolean isSchematicSizeValid(@NotNull final String structureName)
+    private static boolean isSchematicSizeValid(@NotNull final String structureName, final int compressedSize)
     {
         final int maxSize = MAX_TOTAL_SIZE - Integer.SIZE / Byte.SIZE;
-        final byte[] data = Structure.getStreamAsByteArray(Structure.getStream(structureName));
-        final byte[] compressed = Structure.compress(data);
-
-        if (compressed != null && compressed.length > maxSize)
+        if (compressedSize > maxSize)
         {
-            Log.getLogger().warn("Structure " + structureName + " is " + compressed.length + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
+            Log.getLogger().warn("Structure " + structureName + " is " + compressedSize + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
             return false;
         }
         return true;
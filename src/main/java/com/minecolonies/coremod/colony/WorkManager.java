@@ -1,5 +1,7 @@
 package com.minecolonies.coremod.colony;
 
+import com.minecolonies.coremod.colony.buildings.BuildingBuilder;
+import com.minecolonies.coremod.colony.jobs.JobBuilder;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -19,17 +21,45 @@ public class WorkManager
     private static final String TAG_WORK_ORDERS              = "workOrders";
     //  Once a second
     private static final int    WORK_ORDER_FULFILL_INCREMENT = 1 * 20;
+    /**
+     * Order in which unclaimed work orders are assigned: highest priority first, then oldest first.
+     */
+    private static final Comparator<AbstractWorkOrder> ASSIGNMENT_ORDER =
+      Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed().thenComparingInt(AbstractWorkOrder::getID);
     /**
      * The Colony the workManager takes part of.
      */
     protected final Colony colony;
     @NotNull
-    private final Map<Integer, AbstractWorkOrder> workOrders     = new LinkedHashMap<>();
-    private       int                             topWorkOrderId = 0;
+    private final Map<Integer, AbstractWorkOrder> workOrders        = new LinkedHashMap<>();
+    /**
+     * The unclaimed work orders in assignment order, kept current on add, claim, unclaim, priority change and removal.
+     */
+    @NotNull
+    private final NavigableSet<AbstractWorkOrder> unclaimedOrders   = new TreeSet<>(ASSIGNMENT_ORDER);
+    /**
+     * The builders without a work order, kept current through {@link #onBuilderAvailable(CitizenData)},
+     * {@link #claimWorkOrder(AbstractWorkOrder, CitizenData)} and {@link #clearWorkForCitizen(CitizenData)}.
+     */
+    @NotNull
+    private final Set<CitizenData>                idleBuilders      = new LinkedHashSet<>();
+    /**
+     * Whether the idle builders were collected since the colony was loaded.
+     */
+    private       boolean                         idleBuildersKnown = false;
+    private       int                             topWorkOrderId    = 0;
     /**
      * Checks if there has been changes.
      */
-    private       boolean                         dirty          = false;
+    private       boolean                         dirty             = false;
+    /**
+     * Whether an order or a builder changed since unclaimed work orders were last assigned.
+     */
+    private       boolean                         assignmentPending = true;
+    /**
+     * Whether a building was removed since the work orders were last validated.
+     */
+    private       boolean                         validationPending = false;
 
     /**
      * Constructor, saves reference to the colony.
@@ -58,8 +88,8 @@ public class WorkManager
      */
     public void removeWorkOrder(final int orderId)
     {
-        final AbstractWorkOrder workOrder = workOrders.get(orderId);
-        workOrders.remove(orderId);
+        final AbstractWorkOrder workOrder = workOrders.remove(orderId);
+        unclaimedOrders.remove(workOrder);
         colony.removeWorkOrderInView(orderId);
         workOrder.onRemoved(colony);
         colony.markDirty();
@@ -142,6 +172,46 @@ public class WorkManager
         return workOrders;
     }
 
+    /**
+     * Get the builders without a work order.
+     *
+     * @return an unmodifiable view of the builders.
+     */
+    @NotNull
+    public Set<CitizenData> getIdleBuilders()
+    {
+        return Collections.unmodifiableSet(idleBuilders);
+    }
+
+    /**
+     * Claim a work order for a builder.
+     *
+     * @param order   the unclaimed order.
+     * @param citizen the builder, which took the order as its job's work order.
+     */
+    public void claimWorkOrder(@NotNull final AbstractWorkOrder order, @NotNull final CitizenData citizen)
+    {
+        order.setClaimedBy(citizen);
+        unclaimedOrders.remove(order);
+        idleBuilders.remove(citizen);
+    }
+
+    /**
+     * Change the priority of a work order.
+     *
+     * @param order    the order.
+     * @param priority the new priority.
+     */
+    public void setWorkOrderPriority(@NotNull final AbstractWorkOrder order, final int priority)
+    {
+        final boolean unclaimed = unclaimedOrders.remove(order);
+        order.setPriority(priority);
+        if (unclaimed)
+        {
+            unclaimedOrders.add(order);
+        }
+    }
+
     /**
      * When a citizen is removed, unclaim any Work Orders that were claimed by
      * that citizen.
@@ -151,7 +221,16 @@ public class WorkManager
     public void clearWorkForCitizen(@NotNull final CitizenData citizen)
     {
         dirty = true;
-        workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(AbstractWorkOrder::clearClaimedBy);
+        assignmentPending = true;
+        idleBuilders.remove(citizen);
+        for (final AbstractWorkOrder o : workOrders.values())
+        {
+            if (o != null && o.isClaimedBy(citizen))
+            {
+                o.clearClaimedBy();
+                unclaimedOrders.add(o);
+            }
+        }
     }
 
     /**
@@ -187,8 +266,6 @@ public class WorkManager
             @Nullable final AbstractWorkOrder o = AbstractWorkOrder.createFromNBT(orderCompound);
             if (o != null)
             {
-                addWorkOrder(o, true);
-
                 //  If this Work Order is claimed, and the Citizen who claimed it no longer exists
                 //  then clear the Claimed status
                 //  This is just a failsafe cleanup; this should not happen under normal circumstances
@@ -197,6 +274,8 @@ public class WorkManager
                     o.clearClaimedBy();
                 }
 
+                addWorkOrder(o, true);
+
                 topWorkOrderId = Math.max(topWorkOrderId, o.getID());
             }
         }
@@ -219,42 +298,122 @@ public class WorkManager
         }
 
         workOrders.put(order.getID(), order);
+        if (!order.isClaimed())
+        {
+            unclaimedOrders.add(order);
+        }
         order.onAdded(colony, readingFromNbt);
+        assignmentPending = true;
+    }
+
+    /**
+     * Called when a builder may be able to take a work order, because it was hired, finished or dropped its order or was upgraded.
+     *
+     * @param citizen the builder.
+     */
+    public void onBuilderAvailable(@NotNull final CitizenData citizen)
+    {
+        if (isIdleBuilder(citizen))
+        {
+            idleBuilders.add(citizen);
+        }
+        assignmentPending = true;
+    }
+
+    /**
+     * Check if a citizen is a builder without a work order.
+     *
+     * @param citizen the citizen.
+     * @return true if so.
+     */
+    private static boolean isIdleBuilder(@NotNull final CitizenData citizen)
+    {
+        final JobBuilder job = citizen.getJob(JobBuilder.class);
+        return job != null && !job.hasWorkOrder() && citizen.getWorkBuilding() != null;
+    }
+
+    /**
+     * Called when a building of the colony was removed, the work orders for it are removed on the next tick.
+     */
+    public void onBuildingRemoved()
+    {
+        validationPending = true;
+        assignmentPending = true;
     }
 
     /**
      * Process updates on the World Tick.
-     * Currently, does periodic Work Order cleanup.
+     * Validates the work orders once a second or when a building was removed, and assigns unclaimed work orders
+     * once a second if an order or a builder changed since the last assignment.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}.
      */
     public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
     {
-        if (event.phase == TickEvent.Phase.END)
+        if (event.phase != TickEvent.Phase.END)
+        {
+            return;
+        }
+
+        final boolean fulfillTick = (event.world.getWorldTime() % WORK_ORDER_FULFILL_INCREMENT) == 0;
+        if (fulfillTick || validationPending)
+        {
+            validateWorkOrders();
+        }
+
+        if (fulfillTick && assignmentPending)
         {
-            @NotNull final Iterator<AbstractWorkOrder> iter = workOrders.values().iterator();
-            while (iter.hasNext())
+            assignWorkOrders();
+        }
+    }
+
+    /**
+     * Remove the work orders which aren't valid anymore and check the others for changes.
+     */
+    private void validateWorkOrders()
+    {
+        validationPending = false;
+        @NotNull final Iterator<AbstractWorkOrder> iter = workOrders.values().iterator();
+        while (iter.hasNext())
+        {
+            final AbstractWorkOrder o = iter.next();
+            if (!o.isValid(colony))
             {
-                final AbstractWorkOrder o = iter.next();
-                if (!o.isValid(colony))
-                {
-                    iter.remove();
-                    dirty = true;
-                }
-                else if (o.hasChanged())
-                {
-                    dirty = true;
-                    o.resetChange();
-                }
+                iter.remove();
+                unclaimedOrders.remove(o);
+                dirty = true;
+            }
+            else if (o.hasChanged())
+            {
+                dirty = true;
+                o.resetChange();
             }
+        }
+    }
 
-            if ((event.world.getWorldTime() % WORK_ORDER_FULFILL_INCREMENT) == 0)
+    /**
+     * Try to assign the unclaimed work orders to the idle builders, by priority.
+     */
+    private void assignWorkOrders()
+    {
+        assignmentPending = false;
+        if (!idleBuildersKnown)
+        {
+            idleBuildersKnown = true;
+            for (final BuildingBuilder building : colony.getBuildingManager().getBuildings(BuildingBuilder.class))
             {
-                workOrders.values().stream().filter(o -> !o.isClaimed())
-                  .sorted(Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed())
-                  .forEach(o -> o.attemptToFulfill(colony));
+                for (final CitizenData citizen : building.getWorker())
+                {
+                    onBuilderAvailable(citizen);
+                }
             }
         }
+
+        //  Orders leave the set when claimed
+        for (final AbstractWorkOrder o : new ArrayList<>(unclaimedOrders))
+        {
+            o.attemptToFulfill(colony);
+        }
     }
 
     /**
@@ -27,7 +27,9 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.BuildingRequestRe
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuild;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
+import com.minecolonies.coremod.tileentities.ContainerItemIndex;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.coremod.tileentities.TileEntityRack;
 import com.minecolonies.coremod.util.BuildingUtils;
@@ -152,6 +154,10 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
      * worker building.
      */
     private final List<BlockPos> containerList = new ArrayList<>();
+    /**
+     * Index of the items in the hut block and the additional containers.
+     */
+    private final ContainerItemIndex itemIndex = new ContainerItemIndex();
     /**
      * The location of the building.
      */
@@ -225,6 +231,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
     {
         location = pos;
         this.colony = colony;
+        itemIndex.addContainer(pos);
 
         this.requester = StandardFactoryController.getInstance().getNewInstance(TypeToken.of(BuildingBasedRequester.class), this);
         setupRsDataStore();
@@ -383,7 +390,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         for (int i = 0; i < containerTagList.tagCount(); ++i)
         {
             final NBTTagCompound containerCompound = containerTagList.getCompoundTagAt(i);
-            containerList.add(NBTUtil.getPosFromTag(containerCompound));
+            addContainerPosition(NBTUtil.getPosFromTag(containerCompound));
         }
         isBuildingMirrored = compound.getBoolean(TAG_MIRROR);
 
@@ -509,6 +516,11 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         this.cornerX2 = x2;
         this.cornerZ1 = z1;
         this.cornerZ2 = z2;
+
+        if (colony.getBuildingManager().getBuilding(getID()) == this)
+        {
+            colony.getBuildingManager().updateFootprints();
+        }
     }
 
     /**
@@ -674,6 +686,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
     public final void destroy()
     {
         onDestroyed();
+        itemIndex.clear();
         colony.getBuildingManager().removeBuilding(this, colony.getPackageManager().getSubscribers());
     }
 
@@ -1116,6 +1129,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         if (!containerList.contains(pos))
         {
             containerList.add(pos);
+            itemIndex.addContainer(pos);
         }
     }
 
@@ -1127,6 +1141,10 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        if (!pos.equals(location))
+        {
+            itemIndex.removeContainer(pos);
+        }
     }
 
     /**
@@ -1139,6 +1157,22 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         return new ArrayList<>(containerList);
     }
 
+    /**
+     * Get the index of the items in the hut block and the additional containers, with the containers changed since the last call scanned again.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public ContainerItemIndex getItemIndex()
+    {
+        final World world = colony.getWorld();
+        if (world != null)
+        {
+            itemIndex.update(world);
+        }
+        return itemIndex;
+    }
+
     /**
      * Increase or decrease the current pickup priority.
      *
@@ -1158,6 +1192,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         {
             this.pickUpPriority += value;
         }
+        colony.getBuildingManager().updatePickUpWeight(this);
     }
 
     /**
@@ -1178,6 +1213,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
     public void setBeingGathered(final boolean gathering)
     {
         this.beingGathered = gathering;
+        colony.getBuildingManager().updatePickUpWeight(this);
     }
 
     /**
@@ -1226,6 +1262,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
                 if (tempTileEntity instanceof TileEntityChest && !InventoryUtils.isProviderFull(tempTileEntity))
                 {
                     resultStack = InventoryUtils.addItemStackToProviderWithResult(tempTileEntity, stack);
+                    ContainerItemIndex.onContainerChanged(world, pos);
                 }
             }
 
@@ -1309,6 +1346,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
                 final TileEntity tempTileEntity = world.getTileEntity(pos);
                 if (tempTileEntity instanceof TileEntityChest && !InventoryUtils.isProviderFull(tempTileEntity))
                 {
+                    ContainerItemIndex.onContainerChanged(world, pos);
                     return forceItemStackToProvider(tempTileEntity, stack);
                 }
             }
@@ -1704,6 +1742,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         }
         getCompletedRequestsByCitizen().get(citizenThatRequested).add(token);
 
+        wakeUpRequester(citizenThatRequested);
         markDirty();
     }
 
@@ -1734,9 +1773,24 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         {
             getColony().getCitizenManager().getCitizen(citizenThatRequested).onRequestCancelled(token);
         }
+        wakeUpRequester(citizenThatRequested);
         markDirty();
     }
 
+    /**
+     * Wake up the ai of a citizen waiting for the state of its requests.
+     *
+     * @param citizenId the id of the citizen which requested.
+     */
+    private void wakeUpRequester(final int citizenId)
+    {
+        final CitizenData citizen = getColony().getCitizenManager().getCitizen(citizenId);
+        if (citizen != null && citizen.getJob() != null)
+        {
+            citizen.getJob().wakeUpAI(AITrigger.REQUEST_STATE_CHANGED);
+        }
+    }
+
     @NotNull
     @Override
     public ITextComponent getDisplayName(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
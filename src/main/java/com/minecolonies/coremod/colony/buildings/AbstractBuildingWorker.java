@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.BuildingRequestRe
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PrivateWorkerCraftingRequestResolver;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -29,7 +30,6 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -66,6 +66,13 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
      */
     private final List<IToken> recipes = new ArrayList<>();
 
+    /**
+     * The known recipes by the item of their primary output, in priority order.
+     * Built on first use, dropped when the recipe list changes.
+     */
+    @Nullable
+    private Map<Item, List<IRecipeStorage>> recipesByOutput = null;
+
     /** 
      * Tag to store the id to NBT.
      */
@@ -164,10 +171,9 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        for(final IToken token : recipes)
+        for(final IRecipeStorage storage : getRecipesWithOutput(stack))
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
-            if (storage != null && storage.getPrimaryOutput().isItemEqual(stack))
+            if (storage.getPrimaryOutput().isItemEqual(stack))
             {
                 return storage;
             }
@@ -182,10 +188,9 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
      */
     public IRecipeStorage getFirstFullFillableRecipe(final ItemStack tempStack)
     {
-        for(final IToken token : recipes)
+        for(final IRecipeStorage storage : getRecipesWithOutput(tempStack))
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
-            if(storage != null && storage.getPrimaryOutput().isItemEqual(tempStack))
+            if(storage.getPrimaryOutput().isItemEqual(tempStack))
             {
                 final List<IItemHandler> handlers = getHandlers();
                 if(storage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
@@ -197,6 +202,29 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
         return null;
     }
 
+    /**
+     * Get the known recipes producing the item of a stack, in priority order.
+     * @param stack the stack.
+     * @return the recipes, possibly of other variants of the item.
+     */
+    @NotNull
+    private List<IRecipeStorage> getRecipesWithOutput(final ItemStack stack)
+    {
+        if (recipesByOutput == null)
+        {
+            recipesByOutput = new HashMap<>();
+            for (final IToken token : recipes)
+            {
+                final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+                if (storage != null)
+                {
+                    recipesByOutput.computeIfAbsent(storage.getPrimaryOutput().getItem(), item -> new ArrayList<>()).add(storage);
+                }
+            }
+        }
+        return recipesByOutput.getOrDefault(stack.getItem(), Collections.emptyList());
+    }
+
     /**
      * Try to fullfill a recipe.
      * @param storage with the storage.
@@ -220,6 +248,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
             final IToken storage = recipes.get(i);
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
+            recipesByOutput = null;
         }
     }
 
@@ -352,6 +381,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
         recipes.addAll(NBTUtils.streamCompound(recipesTags)
                 .map(recipeCompound -> (IToken) StandardFactoryController.getInstance().deserialize(recipeCompound))
                 .collect(Collectors.toList()));
+        recipesByOutput = null;
     }
 
     @Override
@@ -432,6 +462,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
         if(canRecipeBeAdded() && Math.pow(2, getBuildingLevel()) >= (recipes.size() + 1))
         {
             recipes.add(token);
+            recipesByOutput = null;
         }
     }
 
@@ -442,6 +473,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
     public void removeRecipe(final IToken token)
     {
         recipes.remove(token);
+        recipesByOutput = null;
     }
 
     /**
@@ -515,11 +547,13 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
             }
         }
 
-        buf.writeInt(storages.size());
-        for(final IRecipeStorage storage: storages)
-        {
-            ByteBufUtils.writeTag(buf, StandardFactoryController.getInstance().serialize(storage));
-        }
+        StandardFactoryController.getInstance().writeWithTypeDictionary(buf, data -> {
+            data.writeInt(storages.size());
+            for (final IRecipeStorage storage : storages)
+            {
+                StandardFactoryController.getInstance().writeToBuffer(data, storage);
+            }
+        });
     }
 
     /**
@@ -636,15 +670,17 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
 
             recipes.clear();
 
-            final int recipesSize = buf.readInt();
-            for(int i = 0; i < recipesSize; i++)
-            {
-                final IRecipeStorage storage = StandardFactoryController.getInstance().deserialize(ByteBufUtils.readTag(buf));
-                if(storage != null)
+            StandardFactoryController.getInstance().readWithTypeDictionary(buf, data -> {
+                final int recipesSize = data.readInt();
+                for (int i = 0; i < recipesSize; i++)
                 {
-                    recipes.add(storage);
+                    final IRecipeStorage storage = StandardFactoryController.getInstance().readFromBuffer(data);
+                    if (storage != null)
+                    {
+                        recipes.add(storage);
+                    }
                 }
-            }
+            });
         }
 
         /**
@@ -111,6 +111,20 @@ public class BuildingBuilder extends AbstractBuildingWorker
         {
             this.getColony().getStatsManager().triggerAchievement(ModAchievements.achievementUpgradeBuilderMax);
         }
+        for (final CitizenData citizen : getWorker())
+        {
+            this.getColony().getWorkManager().onBuilderAvailable(citizen);
+        }
+    }
+
+    @Override
+    public void setWorker(final CitizenData citizen)
+    {
+        super.setWorker(citizen);
+        if (citizen != null)
+        {
+            this.getColony().getWorkManager().onBuilderAvailable(citizen);
+        }
     }
 
     @Override
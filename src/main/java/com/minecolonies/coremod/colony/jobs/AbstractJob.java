@@ -9,6 +9,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import net.minecraft.entity.ai.EntityAITasks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -108,6 +109,12 @@ public abstract class AbstractJob
      */
     private boolean searchedForFoodToday;
 
+    /**
+     * The ai generated for the citizen entity, null until the tasks are added.
+     */
+    @Nullable
+    private AbstractAISkeleton<? extends AbstractJob> workerAI;
+
     /**
      * Initialize citizen data.
      *
@@ -268,12 +275,37 @@ public abstract class AbstractJob
     public void addTasks(@NotNull final EntityAITasks tasks)
     {
         final AbstractAISkeleton<? extends AbstractJob> aiTask = generateAI();
+        workerAI = aiTask;
         if (aiTask != null)
         {
             tasks.addTask(TASK_PRIORITY, aiTask);
         }
     }
 
+    /**
+     * Get the ai generated for the citizen entity.
+     *
+     * @return the ai or null if the tasks weren't added yet.
+     */
+    @Nullable
+    public AbstractAISkeleton<? extends AbstractJob> getWorkerAI()
+    {
+        return workerAI;
+    }
+
+    /**
+     * Wake up the targets of the worker ai waiting for a trigger.
+     *
+     * @param trigger the trigger which happened.
+     */
+    public void wakeUpAI(@NotNull final AITrigger trigger)
+    {
+        if (workerAI != null)
+        {
+            workerAI.wakeUp(trigger);
+        }
+    }
+
     /**
      * Generate your AI class to register.
      * <p>
@@ -190,6 +190,10 @@ public class JobBuilder extends AbstractJobStructure
         {
             workOrderId = 0;
             resetNeededItems();
+            if (getColony() != null)
+            {
+                getColony().getWorkManager().onBuilderAvailable(getCitizen());
+            }
         }
         else
         {
@@ -0,0 +1,199 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The horizontal footprints of the buildings of a colony, bucketed by chunk.
+ * <p>
+ * The corners of a building lie one block outside of its structure, so a position is inside of a building
+ * if it lies strictly between its corners. An instance is immutable, the building manager replaces it as a
+ * whole when a building is added, removed or changes its corners, so it can be queried from any thread.
+ * </p>
+ */
+public final class BuildingFootprints
+{
+    /**
+     * The footprints without any building.
+     */
+    public static final BuildingFootprints EMPTY = new BuildingFootprints(Collections.emptyList());
+
+    /**
+     * Shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * Amount of ints per footprint: x1, x2, z1 and z2.
+     */
+    private static final int FOOTPRINT_SIZE = 4;
+
+    /**
+     * The ids of the buildings.
+     */
+    private final BlockPos[] ids;
+
+    /**
+     * The corners of the buildings, FOOTPRINT_SIZE ints per building.
+     */
+    private final int[] corners;
+
+    /**
+     * The indices of the buildings overlapping each chunk.
+     */
+    private final Map<Long, int[]> buildingsByChunk = new HashMap<>();
+
+    /**
+     * Create the footprints of a set of buildings.
+     *
+     * @param buildings the buildings.
+     */
+    public BuildingFootprints(@NotNull final Collection<AbstractBuilding> buildings)
+    {
+        this.ids = new BlockPos[buildings.size()];
+        this.corners = new int[buildings.size() * FOOTPRINT_SIZE];
+
+        final Map<Long, List<Integer>> chunks = new HashMap<>();
+        int index = 0;
+        for (final AbstractBuilding building : buildings)
+        {
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> buildingCorners = building.getCorners();
+            final int x1 = Math.min(buildingCorners.getFirst().getFirst(), buildingCorners.getFirst().getSecond());
+            final int x2 = Math.max(buildingCorners.getFirst().getFirst(), buildingCorners.getFirst().getSecond());
+            final int z1 = Math.min(buildingCorners.getSecond().getFirst(), buildingCorners.getSecond().getSecond());
+            final int z2 = Math.max(buildingCorners.getSecond().getFirst(), buildingCorners.getSecond().getSecond());
+
+            ids[index] = building.getID();
+            corners[index * FOOTPRINT_SIZE] = x1;
+            corners[index * FOOTPRINT_SIZE + 1] = x2;
+            corners[index * FOOTPRINT_SIZE + 2] = z1;
+            corners[index * FOOTPRINT_SIZE + 3] = z2;
+
+            if (x2 - x1 > 1 && z2 - z1 > 1)
+            {
+                for (int chunkX = (x1 + 1) >> CHUNK_SHIFT; chunkX <= (x2 - 1) >> CHUNK_SHIFT; chunkX++)
+                {
+                    for (int chunkZ = (z1 + 1) >> CHUNK_SHIFT; chunkZ <= (z2 - 1) >> CHUNK_SHIFT; chunkZ++)
+                    {
+                        chunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ArrayList<>()).add(index);
+                    }
+                }
+            }
+            index++;
+        }
+
+        for (final Map.Entry<Long, List<Integer>> entry : chunks.entrySet())
+        {
+            buildingsByChunk.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Check if a position is inside of any building.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    public boolean isInAnyBuilding(final int x, final int z)
+    {
+        final int[] candidates = buildingsByChunk.get(ChunkPos.asLong(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        if (candidates == null)
+        {
+            return false;
+        }
+
+        for (final int candidate : candidates)
+        {
+            if (contains(candidate, x, z))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the ids of all buildings a position is inside of.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the ids, empty if none.
+     */
+    @NotNull
+    public List<BlockPos> getBuildingsAt(final int x, final int z)
+    {
+        final int[] candidates = buildingsByChunk.get(ChunkPos.asLong(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        if (candidates == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<BlockPos> result = new ArrayList<>();
+        for (final int candidate : candidates)
+        {
+            if (contains(candidate, x, z))
+            {
+                result.add(ids[candidate]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the ids of all buildings overlapping an area.
+     *
+     * @param minX the smallest x coordinate of the area, inclusive.
+     * @param minZ the smallest z coordinate of the area, inclusive.
+     * @param maxX the largest x coordinate of the area, inclusive.
+     * @param maxZ the largest z coordinate of the area, inclusive.
+     * @return the ids, empty if none.
+     */
+    @NotNull
+    public Set<BlockPos> getBuildingsOverlapping(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        final Set<BlockPos> result = new LinkedHashSet<>();
+        for (int chunkX = minX >> CHUNK_SHIFT; chunkX <= maxX >> CHUNK_SHIFT; chunkX++)
+        {
+            for (int chunkZ = minZ >> CHUNK_SHIFT; chunkZ <= maxZ >> CHUNK_SHIFT; chunkZ++)
+            {
+                final int[] candidates = buildingsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (candidates == null)
+                {
+                    continue;
+                }
+
+                for (final int candidate : candidates)
+                {
+                    final int offset = candidate * FOOTPRINT_SIZE;
+                    if (corners[offset] < maxX && corners[offset + 1] > minX && corners[offset + 2] < maxZ && corners[offset + 3] > minZ)
+                    {
+                        result.add(ids[candidate]);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the amount of buildings.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return ids.length;
+    }
+
+    private boolean contains(final int index, final int x, final int z)
+    {
+        final int offset = index * FOOTPRINT_SIZE;
+        return x > corners[offset] && x < corners[offset + 1] && z > corners[offset + 2] && z < corners[offset + 3];
+    }
+}
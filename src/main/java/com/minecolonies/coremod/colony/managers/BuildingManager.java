@@ -41,9 +41,22 @@ public class BuildingManager implements IBuildingManager
     private final List<BlockPos> fields = new ArrayList<>();
 
     /**
-     * The warehouse building position. Initially null.
+     * The buildings by the classes queried so far, holding all buildings which are an instance of the key.
      */
-    private BuildingWareHouse wareHouse = null;
+    @NotNull
+    private final Map<Class<?>, List<AbstractBuilding>> buildingsByClass = new HashMap<>();
+
+    /**
+     * The pickup weights of the buildings, null if they need to be calculated again.
+     */
+    @Nullable
+    private PickUpWeights pickUpWeights = null;
+
+    /**
+     * The footprints of the buildings, replaced as a whole on change to be readable from other threads.
+     */
+    @NotNull
+    private volatile BuildingFootprints footprints = BuildingFootprints.EMPTY;
 
     /**
      * The townhall of the colony.
@@ -89,6 +102,7 @@ public class BuildingManager implements IBuildingManager
                 addBuilding(b);
             }
         }
+        updateFootprints();
 
         if(compound.hasKey(TAG_NEW_FIELDS))
         {
@@ -224,6 +238,56 @@ public class BuildingManager implements IBuildingManager
         return Collections.unmodifiableMap(buildings);
     }
 
+    @NotNull
+    @Override
+    public <B extends AbstractBuilding> List<B> getBuildings(@NotNull final Class<B> type)
+    {
+        @SuppressWarnings("unchecked")
+        final List<B> list = (List<B>) buildingsByClass.computeIfAbsent(type, this::collectBuildings);
+        return Collections.unmodifiableList(list);
+    }
+
+    @Nullable
+    @Override
+    public <B extends AbstractBuilding> B getFirstBuilding(@NotNull final Class<B> type)
+    {
+        final List<B> list = getBuildings(type);
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    @NotNull
+    @Override
+    public PickUpWeights getPickUpWeights()
+    {
+        if (pickUpWeights == null)
+        {
+            pickUpWeights = new PickUpWeights(buildings.values());
+        }
+        return pickUpWeights;
+    }
+
+    @Override
+    public void updatePickUpWeight(@NotNull final AbstractBuilding building)
+    {
+        if (pickUpWeights != null)
+        {
+            pickUpWeights.update(building);
+        }
+    }
+
+    @NotNull
+    @Override
+    public BuildingFootprints getFootprints()
+    {
+        return footprints;
+    }
+
+    @Override
+    public void updateFootprints()
+    {
+        footprints = new BuildingFootprints(buildings.values());
+    }
+
     @Override
     public BuildingTownHall getTownHall()
     {
@@ -233,7 +297,7 @@ public class BuildingManager implements IBuildingManager
     @Override
     public boolean hasWarehouse()
     {
-        return wareHouse != null;
+        return getFirstBuilding(BuildingWareHouse.class) != null;
     }
 
     @Override
@@ -294,6 +358,7 @@ public class BuildingManager implements IBuildingManager
             if (building != null)
             {
                 addBuilding(building);
+                updateFootprints();
                 tileEntity.setBuilding(building);
 
                 Log.getLogger().info(String.format("Colony %d - new AbstractBuilding for %s at %s",
@@ -334,6 +399,9 @@ public class BuildingManager implements IBuildingManager
     {
         if (buildings.remove(building.getID()) != null)
         {
+            removeFromIndex(building);
+            updateFootprints();
+
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
@@ -349,12 +417,9 @@ public class BuildingManager implements IBuildingManager
         {
             townHall = null;
         }
-        else if (building instanceof BuildingWareHouse)
-        {
-            wareHouse = null;
-        }
 
         colony.getRequestManager().onProviderRemovedFromColony(building);
+        colony.getWorkManager().onBuildingRemoved();
 
         //Allow Citizens to fix up any data that wasn't fixed up by the AbstractBuilding's own onDestroyed
         for (@NotNull final CitizenData citizen : colony.getCitizenManager().getCitizens())
@@ -378,9 +443,9 @@ public class BuildingManager implements IBuildingManager
     {
         double distance = Double.MAX_VALUE;
         BlockPos goodCook = null;
-        for (final AbstractBuilding building : citizen.getColony().getBuildingManager().getBuildings().values())
+        for (final BuildingCook building : citizen.getColony().getBuildingManager().getBuildings(BuildingCook.class))
         {
-            if (building instanceof BuildingCook && building.getBuildingLevel() > 0)
+            if (building.getBuildingLevel() > 0)
             {
                 final double localDistance = building.getLocation().distanceSq(citizen.getPosition());
                 if (localDistance < distance)
@@ -408,7 +473,12 @@ public class BuildingManager implements IBuildingManager
      */
     private void addBuilding(@NotNull final AbstractBuilding building)
     {
-        buildings.put(building.getID(), building);
+        final AbstractBuilding previous = buildings.put(building.getID(), building);
+        if (previous != null)
+        {
+            removeFromIndex(previous);
+        }
+        addToIndex(building);
         building.markDirty();
 
         //  Limit 1 town hall
@@ -416,14 +486,58 @@ public class BuildingManager implements IBuildingManager
         {
             townHall = (BuildingTownHall) building;
         }
+    }
 
-        if (building instanceof BuildingWareHouse && wareHouse == null)
+    /**
+     * Collect all buildings of a type, when the type is queried the first time.
+     *
+     * @param type the type.
+     * @return the list of buildings.
+     */
+    @NotNull
+    private List<AbstractBuilding> collectBuildings(@NotNull final Class<?> type)
+    {
+        final List<AbstractBuilding> list = new ArrayList<>();
+        for (final AbstractBuilding building : buildings.values())
         {
-            wareHouse = (BuildingWareHouse) building;
+            if (type.isInstance(building))
+            {
+                list.add(building);
+            }
         }
+        return list;
     }
 
+    /**
+     * Add a building to the lists of all queried types it is an instance of.
+     *
+     * @param building the building.
+     */
+    private void addToIndex(@NotNull final AbstractBuilding building)
+    {
+        for (final Map.Entry<Class<?>, List<AbstractBuilding>> entry : buildingsByClass.entrySet())
+        {
+            if (entry.getKey().isInstance(building))
+            {
+                entry.getValue().add(building);
+            }
+        }
+        pickUpWeights = null;
+    }
 
+    /**
+     * Remove a building from the lists of all queried types.
+     *
+     * @param building the building.
+     */
+    private void removeFromIndex(@NotNull final AbstractBuilding building)
+    {
+        for (final List<AbstractBuilding> list : buildingsByClass.values())
+        {
+            list.remove(building);
+        }
+        pickUpWeights = null;
+    }
 
     /**
      * Sends packages to update the buildings.
@@ -456,12 +570,9 @@ public class BuildingManager implements IBuildingManager
     {
         if (isFieldsDirty || hasNewSubscribers)
         {
-            for (final AbstractBuilding building : buildings.values())
+            for (final BuildingFarmer building : getBuildings(BuildingFarmer.class))
             {
-                if (building instanceof BuildingFarmer)
-                {
-                    subscribers.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
-                }
+                subscribers.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
             }
         }
     }
@@ -10,9 +10,11 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.*;
 import com.minecolonies.coremod.entity.EntityCitizen;
-import com.minecolonies.coremod.network.messages.ColonyViewCitizenViewMessage;
+import com.minecolonies.coremod.network.messages.ColonyViewCitizensMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveCitizenMessage;
 import com.minecolonies.coremod.util.ColonyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -104,16 +106,77 @@ public class CitizenManager implements ICitizenManager
     {
         if (isCitizensDirty || hasNewSubscribers)
         {
+            //  Old subscribers get the changed fields of the changed citizens, new subscribers all citizens in full.
+            //  With new subscribers all baselines are brought up to date, so afterwards every subscriber has the baselines.
+            final ByteBuf deltas = Unpooled.buffer();
+            int deltaCount = 0;
+            deltas.writeInt(0);
             for (@NotNull final CitizenData citizen : citizens.values())
             {
                 if (citizen.isDirty() || hasNewSubscribers)
                 {
-                    subscribers.stream()
-                            .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                            .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    final ByteBuf delta = Unpooled.buffer();
+                    if (citizen.serializeViewNetworkDelta(delta) != 0)
+                    {
+                        writeCitizen(deltas, citizen.getId(), false, delta);
+                        deltaCount++;
+                    }
+                    delta.release();
+                }
+            }
+            deltas.setInt(0, deltaCount);
+
+            ByteBuf full = null;
+            for (@NotNull final EntityPlayerMP player : subscribers)
+            {
+                if (!oldSubscribers.contains(player))
+                {
+                    if (full == null)
+                    {
+                        full = serializeAllCitizens();
+                    }
+                    MineColonies.getNetwork().sendTo(new ColonyViewCitizensMessage(colony.getID(), full), player);
+                }
+                else if (deltaCount > 0)
+                {
+                    MineColonies.getNetwork().sendTo(new ColonyViewCitizensMessage(colony.getID(), deltas), player);
                 }
             }
+
+            deltas.release();
+            if (full != null)
+            {
+                full.release();
+            }
+        }
+    }
+
+    /**
+     * Serialize all citizens in full.
+     *
+     * @return the buffer, see {@link com.minecolonies.coremod.colony.ColonyView#handleColonyViewCitizensMessage(ByteBuf)}.
+     */
+    @NotNull
+    private ByteBuf serializeAllCitizens()
+    {
+        final ByteBuf buf = Unpooled.buffer();
+        buf.writeInt(citizens.size());
+        for (@NotNull final CitizenData citizen : citizens.values())
+        {
+            final ByteBuf citizenBuffer = Unpooled.buffer();
+            citizen.serializeViewNetworkData(citizenBuffer);
+            writeCitizen(buf, citizen.getId(), true, citizenBuffer);
+            citizenBuffer.release();
         }
+        return buf;
+    }
+
+    private static void writeCitizen(@NotNull final ByteBuf buf, final int id, final boolean full, @NotNull final ByteBuf citizenBuffer)
+    {
+        buf.writeInt(id);
+        buf.writeBoolean(full);
+        buf.writeInt(citizenBuffer.readableBytes());
+        buf.writeBytes(citizenBuffer);
     }
 
     @Override
@@ -241,20 +304,17 @@ public class CitizenManager implements ICitizenManager
     {
         int newMaxCitizens = 0;
 
-        for (final AbstractBuilding b : colony.getBuildingManager().getBuildings().values())
+        for (final BuildingHome home : colony.getBuildingManager().getBuildings(BuildingHome.class))
         {
-            if (b.getBuildingLevel() > 0)
+            if (home.getBuildingLevel() > 0)
             {
-                if (b instanceof BuildingHome)
-                {
-                    newMaxCitizens += ((BuildingHome) b).getMaxInhabitants();
-                }
-                else if (b instanceof BuildingBarracksTower)
-                {
-                    newMaxCitizens += b.getBuildingLevel();
-                }
+                newMaxCitizens += home.getMaxInhabitants();
             }
         }
+        for (final BuildingBarracksTower tower : colony.getBuildingManager().getBuildings(BuildingBarracksTower.class))
+        {
+            newMaxCitizens += tower.getBuildingLevel();
+        }
         // Have at least the minimum amount of citizens
         newMaxCitizens = Math.max(Configurations.gameplay.maxCitizens, newMaxCitizens);
         if (getMaxCitizens() != newMaxCitizens)
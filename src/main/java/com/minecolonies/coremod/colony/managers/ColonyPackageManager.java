@@ -3,23 +3,26 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.ColonyViewState;
 import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.colony.WorkManager;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
+import com.minecolonies.coremod.network.messages.ColonyViewAckMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewWorkOrderMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.util.ColonyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE;
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_SUBSCRIBER_UPDATE;
@@ -32,6 +35,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private static final int CHANCE_TO_UPDATE = 1000;
 
+    /**
+     * Baseline of receivers which need the full colony view.
+     */
+    private static final int NO_BASELINE = -1;
+
     /**
      * List of players subscribing to the colony already known for a long time.
      */
@@ -64,6 +72,33 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * Version of the last colony view state which was sent.
+     */
+    private int viewVersion = 0;
+
+    /**
+     * The recently sent colony view states by version, the baselines deltas can be computed against.
+     */
+    private final Map<Integer, ColonyViewState> sentStates = new LinkedHashMap<Integer, ColonyViewState>()
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, ColonyViewState> eldest)
+        {
+            return size() > ColonyViewState.MAX_BASELINES;
+        }
+    };
+
+    /**
+     * The colony view version each subscriber confirmed to have.
+     */
+    private final Map<UUID, Integer> acknowledgedVersions = new HashMap<>();
+
+    /**
+     * Subscribers which need the full colony view with the next update.
+     */
+    private final Set<UUID> resyncRequests = new HashSet<>();
+
     /**
      * Creates the ColonyPackageManager for a colony.
      * @param colony the colony.
@@ -200,16 +235,62 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers)
     {
-        if (isDirty || hasNewSubscribers)
+        if (isDirty || hasNewSubscribers || !resyncRequests.isEmpty())
         {
+            final ColonyViewState state = ColonyViewState.capture(colony, ++viewVersion);
+
+            //  Group the receivers by the version they have, each group gets the same bytes.
+            final Map<Integer, List<EntityPlayerMP>> receiversByBaseline = new HashMap<>();
             for (final EntityPlayerMP player : subscribers)
             {
                 final boolean isNewSubscriber = !oldSubscribers.contains(player);
-                if (isDirty || isNewSubscriber)
+                if (isDirty || isNewSubscriber || resyncRequests.contains(player.getUniqueID()))
                 {
-                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, isNewSubscriber), player);
+                    final Integer acknowledged = acknowledgedVersions.get(player.getUniqueID());
+                    final int baseline = isNewSubscriber || acknowledged == null || !sentStates.containsKey(acknowledged) ? NO_BASELINE : acknowledged;
+                    receiversByBaseline.computeIfAbsent(baseline, version -> new ArrayList<>()).add(player);
                 }
             }
+
+            for (final Map.Entry<Integer, List<EntityPlayerMP>> entry : receiversByBaseline.entrySet())
+            {
+                final ByteBuf buffer = Unpooled.buffer();
+                ColonyView.serializeNetworkData(colony, buffer, state, sentStates.get(entry.getKey()));
+                for (final EntityPlayerMP player : entry.getValue())
+                {
+                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony.getID(), !oldSubscribers.contains(player), buffer), player);
+                }
+                buffer.release();
+            }
+
+            sentStates.put(state.getVersion(), state);
+            resyncRequests.clear();
+        }
+
+        final Set<UUID> subscriberIds = new HashSet<>();
+        for (final EntityPlayerMP player : subscribers)
+        {
+            subscriberIds.add(player.getUniqueID());
+        }
+        acknowledgedVersions.keySet().retainAll(subscriberIds);
+    }
+
+    @Override
+    public void onColonyViewAcknowledged(@NotNull final EntityPlayerMP player, final int version)
+    {
+        if (version == ColonyViewAckMessage.RESYNC)
+        {
+            acknowledgedVersions.remove(player.getUniqueID());
+            resyncRequests.add(player.getUniqueID());
+        }
+        else if (sentStates.containsKey(version))
+        {
+            acknowledgedVersions.put(player.getUniqueID(), version);
+        }
+        else
+        {
+            //  Too old to be a baseline, the next update is sent in full.
+            acknowledgedVersions.remove(player.getUniqueID());
         }
     }
 
@@ -276,6 +357,7 @@ public class ColonyPackageManager implements IColonyPackageManager
         if(!colony.getMessageEntityPlayers().contains(player))
         {
             subscribers.remove(player);
+            acknowledgedVersions.remove(player.getUniqueID());
         }
     }
 }
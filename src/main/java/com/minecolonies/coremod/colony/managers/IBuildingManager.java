@@ -81,6 +81,55 @@ public interface IBuildingManager
     @NotNull
     Map<BlockPos, AbstractBuilding> getBuildings();
 
+    /**
+     * Get all buildings which are an instance of a class.
+     * The lists are indexed on first use and kept up to date when buildings are added or removed.
+     *
+     * @param type the class.
+     * @param <B>  the building class.
+     * @return unmodifiable list of the buildings.
+     */
+    @NotNull
+    <B extends AbstractBuilding> List<B> getBuildings(@NotNull final Class<B> type);
+
+    /**
+     * Get the first building which is an instance of a class.
+     *
+     * @param type the class.
+     * @param <B>  the building class.
+     * @return the building or null if there is none.
+     */
+    @Nullable
+    <B extends AbstractBuilding> B getFirstBuilding(@NotNull final Class<B> type);
+
+    /**
+     * Get the pickup weights of the buildings.
+     *
+     * @return the weights, calculated again only after a building was added or removed.
+     */
+    @NotNull
+    PickUpWeights getPickUpWeights();
+
+    /**
+     * Update the pickup weight of a building, after its priority or gathering state changed.
+     *
+     * @param building the building.
+     */
+    void updatePickUpWeight(@NotNull final AbstractBuilding building);
+
+    /**
+     * Get the footprints of all buildings, safe to query from any thread.
+     *
+     * @return the current footprints.
+     */
+    @NotNull
+    BuildingFootprints getFootprints();
+
+    /**
+     * Calculate the footprints again, after a building changed its corners.
+     */
+    void updateFootprints();
+
     /**
      * Get the townhall from the colony.
      * @return the townhall building.
@@ -84,4 +84,11 @@ public interface IColonyPackageManager
      * @param player the subscriber to remove.
      */
     void removeSubscriber(@NotNull final EntityPlayerMP player);
+
+    /**
+     * Called when a subscriber confirmed to have received a colony view version.
+     * @param player  the subscriber.
+     * @param version the version, or {@link com.minecolonies.coremod.network.messages.ColonyViewAckMessage#RESYNC} to request the full view.
+     */
+    void onColonyViewAcknowledged(@NotNull final EntityPlayerMP player, final int version);
 }
@@ -0,0 +1,173 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The pickup priorities of the buildings of a colony, for the weighted random selection of the deliveryman.
+ * Kept in a fenwick tree, so a changed priority or gathering state is updated in place in logarithmic time,
+ * the building manager only creates a new one after a building was added or removed.
+ */
+public final class PickUpWeights
+{
+    /**
+     * The buildings, in iteration order.
+     */
+    private final AbstractBuilding[] buildings;
+
+    /**
+     * The index of each building.
+     */
+    private final Map<AbstractBuilding, Integer> indices;
+
+    /**
+     * The weight of each building, its priority or 0 if it is being gathered.
+     */
+    private final int[] weights;
+
+    /**
+     * The fenwick tree over the weights, 1 based.
+     */
+    private final int[] tree;
+
+    /**
+     * Create the weights of a set of buildings.
+     *
+     * @param allBuildings all buildings of the colony.
+     */
+    public PickUpWeights(@NotNull final Collection<AbstractBuilding> allBuildings)
+    {
+        this.buildings = allBuildings.toArray(new AbstractBuilding[allBuildings.size()]);
+        this.indices = new HashMap<>(buildings.length * 2);
+        this.weights = new int[buildings.length];
+        this.tree = new int[buildings.length + 1];
+        for (int i = 0; i < buildings.length; i++)
+        {
+            indices.put(buildings[i], i);
+            weights[i] = weightOf(buildings[i]);
+            tree[i + 1] += weights[i];
+            final int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= buildings.length)
+            {
+                tree[parent] += tree[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Get the weight of a building.
+     *
+     * @param building the building.
+     * @return its priority, or 0 if it is being gathered.
+     */
+    private static int weightOf(@NotNull final AbstractBuilding building)
+    {
+        return building.isBeingGathered() ? 0 : building.getPickUpPriority();
+    }
+
+    /**
+     * Update the weight of a building after its priority or gathering state changed.
+     *
+     * @param building the building.
+     */
+    public void update(@NotNull final AbstractBuilding building)
+    {
+        final Integer index = indices.get(building);
+        if (index == null)
+        {
+            return;
+        }
+
+        final int delta = weightOf(building) - weights[index];
+        if (delta == 0)
+        {
+            return;
+        }
+
+        weights[index] += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i)
+        {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Get the index of the building a random value falls on, never one being gathered.
+     *
+     * @param random a random value between 0 and 1.
+     * @return the index, or -1 if no building can be picked.
+     */
+    public int select(final double random)
+    {
+        if (getTotalWeight() == 0)
+        {
+            return -1;
+        }
+
+        double remaining = random * getTotalWeight();
+        int position = 0;
+        for (int step = Integer.highestOneBit(buildings.length); step > 0; step >>= 1)
+        {
+            final int next = position + step;
+            if (next < tree.length && (tree[next] < remaining || tree[next] == 0))
+            {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position < buildings.length ? position : -1;
+    }
+
+    /**
+     * Get the building at an index.
+     *
+     * @param index the index.
+     * @return the building or null if the index is out of range.
+     */
+    @Nullable
+    public AbstractBuilding getBuilding(final int index)
+    {
+        return index < 0 || index >= buildings.length ? null : buildings[index];
+    }
+
+    /**
+     * Get the weight of the building at an index.
+     *
+     * @param index the index.
+     * @return its priority, or 0 if it is being gathered.
+     */
+    public int getWeight(final int index)
+    {
+        return weights[index];
+    }
+
+    /**
+     * Get the sum of all priorities.
+     *
+     * @return the sum.
+     */
+    public int getTotalWeight()
+    {
+        int total = 0;
+        for (int i = tree.length - 1; i > 0; i -= i & -i)
+        {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    /**
+     * Get the amount of buildings.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return buildings.length;
+    }
+}
@@ -0,0 +1,214 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.monster.EntitySlime;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The hostile entities and players around a colony, bucketed by chunk.
+ * <p>
+ * The area around the colony is scanned once every few ticks and entities joining the world in between are added right away,
+ * so citizens and guards look up threats from here instead of each querying the world.
+ * Entities are bucketed by their position at the last scan, queries check the current position of the candidates.
+ * </p>
+ */
+public class ThreatTracker
+{
+    /**
+     * Ticks between two scans of the colony area.
+     */
+    private static final int REFRESH_INTERVAL = 10;
+
+    /**
+     * Blocks an entity might have moved since the last scan, added to the searched buckets.
+     */
+    private static final int MOVEMENT_MARGIN = 8;
+
+    /**
+     * Blocks around the working range of the colony which are tracked, for citizens at the border.
+     */
+    private static final int TRACKING_MARGIN = 64;
+
+    /**
+     * Shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The colony of the tracker.
+     */
+    private final Colony colony;
+
+    /**
+     * The tracked entities by the chunk they were in at the last scan.
+     */
+    private final Map<Long, List<EntityLivingBase>> threatsByChunk = new HashMap<>();
+
+    /**
+     * Creates the tracker for a colony.
+     *
+     * @param colony the colony.
+     */
+    public ThreatTracker(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Check if an entity is tracked as threat.
+     *
+     * @param entity the entity.
+     * @return true if it is a monster, a slime or a player.
+     */
+    public static boolean isThreat(@Nullable final Entity entity)
+    {
+        return entity instanceof EntityMob || entity instanceof EntitySlime || entity instanceof EntityPlayer;
+    }
+
+    /**
+     * Scan the colony area again if the last scan is long enough ago.
+     *
+     * @param world the world of the colony.
+     */
+    public void onWorldTick(@NotNull final World world)
+    {
+        if (world.getTotalWorldTime() % REFRESH_INTERVAL == 0)
+        {
+            refresh(world);
+        }
+    }
+
+    /**
+     * Scan the colony area for threats.
+     *
+     * @param world the world of the colony.
+     */
+    public void refresh(@NotNull final World world)
+    {
+        threatsByChunk.clear();
+        final AxisAlignedBB area = getTrackedArea(world);
+        for (final EntityLivingBase entity : world.getEntitiesWithinAABB(EntityLivingBase.class, area, candidate -> candidate instanceof EntityMob || candidate instanceof EntitySlime))
+        {
+            add(entity);
+        }
+        for (final EntityPlayer player : world.playerEntities)
+        {
+            if (area.intersects(player.getEntityBoundingBox()))
+            {
+                add(player);
+            }
+        }
+    }
+
+    /**
+     * Track an entity which joined the world, if it is a threat close to the colony.
+     *
+     * @param entity the entity.
+     */
+    public void onEntityJoin(@NotNull final Entity entity)
+    {
+        if (isThreat(entity) && getTrackedArea(CompatibilityUtils.getWorld(entity)).intersects(entity.getEntityBoundingBox()))
+        {
+            add((EntityLivingBase) entity);
+        }
+    }
+
+    /**
+     * Get the closest threat of a type around an entity.
+     *
+     * @param from   the entity.
+     * @param range  the horizontal range around its bounding box.
+     * @param yRange the vertical range around its bounding box.
+     * @param type   the type of the threat.
+     * @param <T>    the class of the threat.
+     * @return the closest threat or null if there is none in range.
+     */
+    @Nullable
+    public <T extends EntityLivingBase> T getClosestThreat(@NotNull final Entity from, final double range, final double yRange, @NotNull final Class<T> type)
+    {
+        final List<T> threats = getThreatsInRange(from, range, yRange, type);
+        return threats.isEmpty() ? null : threats.get(0);
+    }
+
+    /**
+     * Get all living threats of a type around an entity.
+     *
+     * @param from   the entity.
+     * @param range  the horizontal range around its bounding box.
+     * @param yRange the vertical range around its bounding box.
+     * @param type   the type of the threats.
+     * @param <T>    the class of the threats.
+     * @return the threats in range, sorted by distance.
+     */
+    @NotNull
+    public <T extends EntityLivingBase> List<T> getThreatsInRange(@NotNull final Entity from, final double range, final double yRange, @NotNull final Class<T> type)
+    {
+        final AxisAlignedBB area = from.getEntityBoundingBox().grow(range, yRange, range);
+        final List<T> result = new ArrayList<>();
+        for (int chunkX = ((int) Math.floor(area.minX) - MOVEMENT_MARGIN) >> CHUNK_SHIFT; chunkX <= ((int) Math.floor(area.maxX) + MOVEMENT_MARGIN) >> CHUNK_SHIFT; chunkX++)
+        {
+            for (int chunkZ = ((int) Math.floor(area.minZ) - MOVEMENT_MARGIN) >> CHUNK_SHIFT; chunkZ <= ((int) Math.floor(area.maxZ) + MOVEMENT_MARGIN) >> CHUNK_SHIFT; chunkZ++)
+            {
+                final List<EntityLivingBase> bucket = threatsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (bucket == null)
+                {
+                    continue;
+                }
+
+                for (final EntityLivingBase entity : bucket)
+                {
+                    if (entity != from && type.isInstance(entity) && entity.isEntityAlive() && CompatibilityUtils.getWorld(entity) == CompatibilityUtils.getWorld(from)
+                          && area.intersects(entity.getEntityBoundingBox()))
+                    {
+                        result.add(type.cast(entity));
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(threat -> from.getDistanceSq(threat)));
+        return result;
+    }
+
+    /**
+     * Get the amount of tracked entities.
+     *
+     * @return the amount, including entities which died since the last scan.
+     */
+    public int size()
+    {
+        return threatsByChunk.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void add(@NotNull final EntityLivingBase entity)
+    {
+        final List<EntityLivingBase> bucket =
+          threatsByChunk.computeIfAbsent(ChunkPos.asLong(entity.getPosition().getX() >> CHUNK_SHIFT, entity.getPosition().getZ() >> CHUNK_SHIFT),
+            chunk -> new ArrayList<>());
+        if (!bucket.contains(entity))
+        {
+            bucket.add(entity);
+        }
+    }
+
+    @NotNull
+    private AxisAlignedBB getTrackedArea(@NotNull final World world)
+    {
+        final BlockPos center = colony.getCenter();
+        final int range = Configurations.gameplay.workingRangeTownHall + TRACKING_MARGIN;
+        return new AxisAlignedBB(center.getX() - range, 0, center.getZ() - range, center.getX() + range, world.getHeight(), center.getZ() + range);
+    }
+}
@@ -15,9 +15,11 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -27,12 +29,18 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
     private final Map<IToken<?>, Collection<IToken<?>>> assignments;
     private IToken<?> id;
 
+    /**
+     * The resolver of each assigned request, the reverse of the assignments.
+     */
+    private final Map<IToken<?>, IToken<?>> resolverByRequest = new HashMap<>();
+
     public StandardRequestResolverRequestAssignmentDataStore(
       final IToken<?> id,
       final Map<IToken<?>, Collection<IToken<?>>> assignments
       ) {
         this.id = id;
         this.assignments = assignments;
+        assignments.forEach((resolver, requests) -> requests.forEach(request -> resolverByRequest.put(request, resolver)));
     }
 
     public StandardRequestResolverRequestAssignmentDataStore()
@@ -47,6 +55,37 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
         return assignments;
     }
 
+    @Override
+    public void assign(@NotNull final IToken<?> resolver, @NotNull final IToken<?> request)
+    {
+        assignments.computeIfAbsent(resolver, r -> new HashSet<>()).add(request);
+        resolverByRequest.put(request, resolver);
+    }
+
+    @Override
+    public void unassign(@NotNull final IToken<?> resolver, @NotNull final IToken<?> request)
+    {
+        final Collection<IToken<?>> requests = assignments.get(resolver);
+        if (requests == null)
+        {
+            return;
+        }
+
+        requests.remove(request);
+        if (requests.isEmpty())
+        {
+            assignments.remove(resolver);
+        }
+        resolverByRequest.remove(request, resolver);
+    }
+
+    @Nullable
+    @Override
+    public IToken<?> getAssignmentForValue(final IToken<?> value)
+    {
+        return resolverByRequest.get(value);
+    }
+
     @Override
     public IToken<?> getId()
     {
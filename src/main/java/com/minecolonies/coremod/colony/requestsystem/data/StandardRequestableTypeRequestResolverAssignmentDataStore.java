@@ -15,9 +15,8 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StandardRequestableTypeRequestResolverAssignmentDataStore implements IRequestableTypeRequestResolverAssignmentDataStore
@@ -26,6 +25,11 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
     private IToken<?> id;
     private final Map<TypeToken<?>, Collection<IToken<?>>> assignments;
 
+    /**
+     * The ordered resolvers per request type, cleared whenever the assignments change.
+     */
+    private final Map<TypeToken<?>, List<IToken<?>>> sortedResolvers = new HashMap<>();
+
     public StandardRequestableTypeRequestResolverAssignmentDataStore(
       final IToken<?> id,
       final Map<TypeToken<?>, Collection<IToken<?>>> assignments) {
@@ -45,6 +49,37 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
         return assignments;
     }
 
+    @Override
+    public void addAssignment(@NotNull final TypeToken<?> type, @NotNull final IToken<?> resolver)
+    {
+        assignments.computeIfAbsent(type, t -> new ArrayList<>()).add(resolver);
+        sortedResolvers.clear();
+    }
+
+    @Override
+    public void removeAssignment(@NotNull final TypeToken<?> type, @NotNull final IToken<?> resolver)
+    {
+        final Collection<IToken<?>> resolvers = assignments.get(type);
+        if (resolvers != null)
+        {
+            resolvers.remove(resolver);
+        }
+        sortedResolvers.clear();
+    }
+
+    @NotNull
+    @Override
+    public List<IToken<?>> getSortedResolvers(@NotNull final TypeToken<?> requestType, @NotNull final Function<TypeToken<?>, List<IToken<?>>> sorter)
+    {
+        List<IToken<?>> resolvers = sortedResolvers.get(requestType);
+        if (resolvers == null)
+        {
+            resolvers = Collections.unmodifiableList(new ArrayList<>(sorter.apply(requestType)));
+            sortedResolvers.put(requestType, resolvers);
+        }
+        return resolvers;
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -51,7 +51,7 @@ public final class RequestHandler
     public static void registerRequest(final IStandardRequestManager manager, final IRequest<?> request)
     {
         if (manager.getRequestIdentitiesDataStore().getIdentities().containsKey(request.getToken()) ||
-              manager.getRequestIdentitiesDataStore().getIdentities().containsValue(request))
+              manager.getRequestIdentitiesDataStore().getIdentities().inverse().containsKey(request))
         {
             throw new IllegalArgumentException("The given request is already known to this manager");
         }
@@ -122,32 +122,19 @@ public final class RequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
+        final List<IToken<?>> resolvers = manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                            .getSortedResolvers(request.getRequestType(), type -> sortResolversForType(manager, type));
 
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> ResolverHandler.getResolver(manager, iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
-
-        for (final IRequestResolver<?> resolver : resolvers)
+        for (final IToken<?> resolverToken : resolvers)
         {
             //Skip when the resolver is in the blacklist.
-            if (resolverTokenBlackList.contains(resolver.getRequesterId()))
+            if (resolverTokenBlackList.contains(resolverToken))
             {
                 continue;
             }
 
+            final IRequestResolver<?> resolver = ResolverHandler.getResolver(manager, resolverToken);
+
             //Skip if preliminary check fails
             if (!resolver.canResolve(manager, request))
             {
@@ -196,6 +183,35 @@ public final class RequestHandler
         return null;
     }
 
+    /**
+     * Method used to compute the order in which the resolvers are tried for a request type:
+     * by priority, then by how close the type they resolve is to the request type.
+     *
+     * @param manager     The manager to get the resolvers from.
+     * @param requestType The type of the request.
+     * @return The tokens of the resolvers in order.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private static List<IToken<?>> sortResolversForType(final IStandardRequestManager manager, final TypeToken<?> requestType)
+    {
+        final List<TypeToken> typeIndexList = new ArrayList<>(ReflectionUtils.getCachedSuperClasses(requestType));
+        typeIndexList.remove(TypeConstants.OBJECT);
+
+        return typeIndexList.stream()
+                 .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
+                 .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                    .getAssignments()
+                                    .get(type)
+                                    .stream()
+                                    .map(iToken -> ResolverHandler.getResolver(manager, iToken)))
+                 .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+                 .distinct()
+                 .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                           .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                 .map(IRequestResolver::getRequesterId)
+                 .collect(Collectors.toList());
+    }
+
     /**
      * Method used to reassign the request to a resolver that is not in the given blacklist.
      * Cancels the request internally without notify the requester, and attempts a reassign. If the reassignment failed, it is assigned back to the orignal resolver.
@@ -227,14 +243,7 @@ public final class RequestHandler
 
         if (currentResolver != null)
         {
-            if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(currentResolver.getRequesterId()))
-            {
-                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(currentResolver.getRequesterId()).remove(request.getToken());
-                if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(currentResolver.getRequesterId()).isEmpty())
-                {
-                    manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(currentResolver.getRequesterId());
-                }
-            }
+            manager.getRequestResolverRequestAssignmentDataStore().unassign(currentResolver.getRequesterId(), request.getToken());
         }
 
         manager.updateRequestState(request.getToken(), RequestState.REPORTED);
@@ -481,11 +490,7 @@ public final class RequestHandler
         if (isAssigned(manager, token))
         {
             final IRequestResolver<?> resolver = ResolverHandler.getResolverForRequest(manager, token);
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getRequesterId()).remove(token);
-            if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getRequesterId()).isEmpty())
-            {
-                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getRequesterId());
-            }
+            manager.getRequestResolverRequestAssignmentDataStore().unassign(resolver.getRequesterId(), token);
         }
 
         manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
@@ -74,13 +74,8 @@ public final class ResolverHandler
         @SuppressWarnings(RAWTYPES) final Set<TypeToken> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
         resolverTypes.forEach(c -> {
-            if (!manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(c))
-            {
-                manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().put(c, new ArrayList<>());
-            }
-
             LogHandler.log("Registering resolver: " + resolver + " with request type: " + c);
-            manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getRequesterId());
+            manager.getRequestableTypeRequestResolverAssignmentDataStore().addAssignment(c, resolver.getRequesterId());
         });
 
         return resolver.getRequesterId();
@@ -192,7 +187,7 @@ public final class ResolverHandler
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
             LogHandler.log("Removing resolver: " + resolver + " with request type: " + c);
-            manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getRequesterId());
+            manager.getRequestableTypeRequestResolverAssignmentDataStore().removeAssignment(c, resolver.getRequesterId());
         });
     }
 
@@ -245,14 +240,9 @@ public final class ResolverHandler
      */
     public static void addRequestToResolver(final IStandardRequestManager manager, final IRequestResolver<?> resolver, final IRequest<?> request)
     {
-        if (!manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(resolver.getRequesterId()))
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().put(resolver.getRequesterId(), new HashSet<>());
-        }
-
         LogHandler.log("Adding request: " + request + " to resolver: " + resolver);
 
-        manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getRequesterId()).add(request.getToken());
+        manager.getRequestResolverRequestAssignmentDataStore().assign(resolver.getRequesterId(), request.getToken());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
     }
@@ -284,11 +274,7 @@ public final class ResolverHandler
 
         LogHandler.log("Removing request: " + request + " from resolver: " + resolver);
 
-        manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getRequesterId()).remove(request.getToken());
-        if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getRequesterId()).isEmpty())
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getRequesterId());
-        }
+        manager.getRequestResolverRequestAssignmentDataStore().unassign(resolver.getRequesterId(), request.getToken());
     }
 
     /**
@@ -1,8 +1,5 @@
 package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
@@ -13,8 +10,7 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 public class StandardRecipeManager implements IRecipeManager
 {
@@ -26,18 +22,37 @@ public class StandardRecipeManager implements IRecipeManager
     /**
      * Map of all recipes which have been discovered globally already.
      */
-    private final BiMap<IToken, IRecipeStorage> recipes = HashBiMap.create();
+    private final Map<IToken, IRecipeStorage> recipes = new LinkedHashMap<>();
+
+    /**
+     * Unmodifiable view of the recipes, handed out instead of copies.
+     */
+    private final Map<IToken, IRecipeStorage> recipesView = Collections.unmodifiableMap(recipes);
+
+    /**
+     * The tokens of the recipes by the hash of their content, to find equal recipes without comparing all.
+     */
+    private final Map<Integer, List<IToken>> tokensByContent = new HashMap<>();
 
     @Override
-    public ImmutableMap<IToken, IRecipeStorage> getRecipes()
+    public Map<IToken, IRecipeStorage> getRecipes()
     {
-        return ImmutableMap.copyOf(recipes);
+        return recipesView;
     }
 
     @Override
     public IToken addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
+        final IRecipeStorage previous = recipes.put(storage.getToken(), storage);
+        if (previous != null)
+        {
+            final List<IToken> tokens = tokensByContent.get(previous.hashCode());
+            if (tokens != null)
+            {
+                tokens.remove(previous.getToken());
+            }
+        }
+        tokensByContent.computeIfAbsent(storage.hashCode(), hash -> new ArrayList<>()).add(storage.getToken());
         return storage.getToken();
     }
 
@@ -55,11 +70,11 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public IToken getRecipeId(final IRecipeStorage storage)
     {
-        for(final Map.Entry<IToken, IRecipeStorage> tempStorage: recipes.entrySet())
+        for (final IToken token : tokensByContent.getOrDefault(storage.hashCode(), Collections.emptyList()))
         {
-            if(tempStorage.getValue().equals(storage))
+            if (recipes.get(token).equals(storage))
             {
-                return tempStorage.getKey();
+                return token;
             }
         }
         return null;
@@ -76,8 +91,8 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
-        recipes.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
+        NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
                 .map(recipeCompound -> (IRecipeStorage) StandardFactoryController.getInstance().deserialize(recipeCompound))
-                .collect(Collectors.toMap(IRecipeStorage::getToken, recipe -> recipe)));
+                .forEach(this::addRecipe);
     }
 }
@@ -10,10 +10,12 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.colony.requestable.SmeltableOre;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagInt;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -106,6 +108,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.ItemStackRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, Stack::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.ItemStackRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, Stack::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.ItemStackRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -162,6 +182,24 @@ public final class StandardRequestFactories
                 requestState));
         }
 
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.DeliveryRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, Delivery::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.DeliveryRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, Delivery::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.DeliveryRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
+
         /**
          * Method to get a new instance of a request given the input and token.
          *
@@ -228,6 +266,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.ToolRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, Tool::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.ToolRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, Tool::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.ToolRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -276,6 +332,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.FoodRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, Food::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.FoodRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, Food::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.FoodRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -324,6 +398,24 @@ public final class StandardRequestFactories
                             requester,
                             requestState));
         }
+
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.SmeltAbleOreRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, SmeltableOre::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.SmeltAbleOreRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, SmeltableOre::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.SmeltAbleOreRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -372,6 +464,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void writeToBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, @NotNull final StandardRequests.BurnableRequest request)
+        {
+            StandardRequestFactories.writeToBuffer(controller, buffer, request, Burnable::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.BurnableRequest readFromBuffer(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return StandardRequestFactories.readFromBuffer(controller, buffer, Burnable::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.BurnableRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     /**
@@ -451,6 +561,93 @@ public final class StandardRequestFactories
         return request;
     }
 
+    /**
+     * Write a request to a buffer, the requested and result objects as NBT and the rest of the request directly.
+     *
+     * @param controller        The controller to write the requester and tokens with.
+     * @param buffer            The buffer to write to.
+     * @param request           The request.
+     * @param typeSerialization The serializer of the requested type.
+     * @param <T>               The requested type.
+     */
+    public static <T extends IRequestable> void writeToBuffer(
+                                                               final IFactoryController controller,
+                                                               final ByteBuf buffer,
+                                                               final IRequest<T> request,
+                                                               final IObjectToNBTConverter<T> typeSerialization)
+    {
+        controller.writeToBuffer(buffer, request.getRequester());
+        controller.writeToBuffer(buffer, request.getToken());
+        buffer.writeInt(request.getState().ordinal());
+        ByteBufUtils.writeTag(buffer, typeSerialization.apply(controller, request.getRequest()));
+
+        buffer.writeBoolean(request.hasResult());
+        if (request.hasResult())
+        {
+            ByteBufUtils.writeTag(buffer, typeSerialization.apply(controller, request.getResult()));
+        }
+
+        buffer.writeBoolean(request.hasParent());
+        if (request.hasParent())
+        {
+            controller.writeToBuffer(buffer, request.getParent());
+        }
+
+        buffer.writeInt(request.getChildren().size());
+        for (final IToken token : request.getChildren())
+        {
+            controller.writeToBuffer(buffer, token);
+        }
+    }
+
+    /**
+     * Read a request written by {@link #writeToBuffer(IFactoryController, ByteBuf, IRequest, IObjectToNBTConverter)} from a buffer.
+     *
+     * @param controller          The controller to read the requester and tokens with.
+     * @param buffer              The buffer to read from.
+     * @param typeDeserialization The deserializer of the requested type.
+     * @param objectConstructor   The constructor of the request.
+     * @param <T>                 The requested type.
+     * @param <R>                 The request type.
+     * @return The request.
+     */
+    public static <T extends IRequestable, R extends IRequest<T>> R readFromBuffer(
+                                                                                    final IFactoryController controller,
+                                                                                    final ByteBuf buffer,
+                                                                                    final INBTToObjectConverter<T> typeDeserialization,
+                                                                                    final IObjectConstructor<T, R> objectConstructor)
+    {
+        final IRequester requester = controller.readFromBuffer(buffer);
+        final IToken token = controller.readFromBuffer(buffer);
+        final RequestState state = RequestState.values()[buffer.readInt()];
+        final T requested = typeDeserialization.apply(controller, ByteBufUtils.readTag(buffer));
+        final T result = buffer.readBoolean() ? typeDeserialization.apply(controller, ByteBufUtils.readTag(buffer)) : null;
+        final IToken parent = buffer.readBoolean() ? controller.readFromBuffer(buffer) : null;
+
+        final List<IToken> childTokens = new ArrayList<>();
+        final int childCount = buffer.readInt();
+        for (int i = 0; i < childCount; i++)
+        {
+            childTokens.add(controller.readFromBuffer(buffer));
+        }
+
+        @SuppressWarnings(Suppression.LEFT_CURLY_BRACE) final R request = objectConstructor.construct(requested, token, requester, state);
+
+        request.addChildren(childTokens);
+
+        if (parent != null)
+        {
+            request.setParent(parent);
+        }
+
+        if (result != null)
+        {
+            request.setResult(result);
+        }
+
+        return request;
+    }
+
     @FunctionalInterface
     public interface IObjectToNBTConverter<O>
     {
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TranslationConstants;
@@ -18,6 +19,7 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.BuildingWareHouse;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.core.AbstractRequestResolver;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
@@ -61,7 +63,10 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
             try
             {
-                return wareHouses.stream().anyMatch(wareHouse -> wareHouse.hasMatchinItemStackInWarehouse(itemStack -> requestToCheck.getRequest().matches(itemStack)));
+                final Item item = getRequestedItem(requestToCheck.getRequest());
+                return wareHouses.stream()
+                         .anyMatch(wareHouse -> !ItemStackUtils.isEmpty(wareHouse.getFirstMatchingItemStackInWarehouse(item,
+                           itemStack -> requestToCheck.getRequest().matches(itemStack))));
             } catch (Exception e)
             {
                 Log.getLogger().error(e);
@@ -89,9 +94,10 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
         final Colony colony = (Colony) manager.getColony();
         final Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
 
+        final Item item = getRequestedItem(request.getRequest());
         for (final TileEntityWareHouse wareHouse : wareHouses)
         {
-            ItemStack matchingStack = wareHouse.getFirstMatchingItemStackInWarehouse(itemStack -> request.getRequest().matches(itemStack));
+            ItemStack matchingStack = wareHouse.getFirstMatchingItemStackInWarehouse(item, itemStack -> request.getRequest().matches(itemStack));
             if (ItemStackUtils.isEmpty(matchingStack))
             {
                 continue;
@@ -103,7 +109,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
             final ItemStack deliveryStack = matchingStack.copy();
             request.setDelivery(deliveryStack.copy());
 
-            final BlockPos itemStackPos = wareHouse.getPositionOfChestWithItemStack(itemStack -> ItemStack.areItemsEqual(itemStack, deliveryStack));
+            final BlockPos itemStackPos = wareHouse.getPositionOfChestWithItemStack(deliveryStack.getItem(), itemStack -> ItemStack.areItemsEqual(itemStack, deliveryStack));
             final ILocation itemStackLocation = manager.getFactoryController().getNewInstance(TypeConstants.ILOCATION, itemStackPos, wareHouse.getWorld().provider.getDimension());
 
             final Delivery delivery = new Delivery(itemStackLocation, request.getRequester().getRequesterLocation(), deliveryStack.copy());
@@ -116,6 +122,22 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
         return Lists.newArrayList();
     }
 
+    /**
+     * Get the only item which can match a deliverable, to look it up in the warehouse index directly.
+     *
+     * @param deliverable the requested deliverable.
+     * @return the item, or null if different items can match.
+     */
+    @Nullable
+    private static Item getRequestedItem(@NotNull final IDeliverable deliverable)
+    {
+        if (deliverable instanceof Stack && !((Stack) deliverable).isMatchOreDic())
+        {
+            return ((Stack) deliverable).getStack().getItem();
+        }
+        return null;
+    }
+
     @Override
     public void resolve(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request)
     {
@@ -148,8 +170,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
     private static Set<TileEntityWareHouse> getWareHousesInColony(final Colony colony)
     {
-        return colony.getBuildingManager().getBuildings().values().stream()
-                 .filter(building -> building instanceof BuildingWareHouse)
+        return colony.getBuildingManager().getBuildings(BuildingWareHouse.class).stream()
                  .map(building -> (TileEntityWareHouse) building.getTileEntity())
                  .collect(Collectors.toSet());
     }
@@ -7,6 +7,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.StructureName;
 import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.coremod.colony.buildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.jobs.JobBuilder;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import net.minecraft.nbt.NBTTagCompound;
@@ -160,36 +161,19 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
      * Attempt to fulfill the Work Order.
      * Override this with an implementation for the Work Order to find a Citizen to perform the job
      * <p>
-     * finds the closest suitable builder for this job.
+     * finds the closest suitable builder without a work order for this job.
      *
      * @param colony The colony that owns the Work Order.
      */
     @Override
     public void attemptToFulfill(@NotNull final Colony colony)
     {
-        boolean sendMessage = true;
-        boolean hasBuilder = false;
         double distanceToBuilder = 0;
         CitizenData claimedBy = null;
 
-        for (@NotNull final CitizenData citizen : colony.getCitizenManager().getCitizens())
+        for (@NotNull final CitizenData citizen : colony.getWorkManager().getIdleBuilders())
         {
-            final JobBuilder job = citizen.getJob(JobBuilder.class);
-
-            if (job == null || citizen.getWorkBuilding() == null)
-            {
-                continue;
-            }
-
-            hasBuilder = true;
-
-            // don't send a message if we have a valid worker that is busy.
             if (canBuild(citizen))
-            {
-                sendMessage = false;
-            }
-
-            if (!job.hasWorkOrder() && canBuild(citizen))
             {
                 final double distance = citizen.getWorkBuilding().getID().distanceSq(this.buildingLocation);
                 if (claimedBy == null || distance < distanceToBuilder)
@@ -204,10 +188,45 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         {
             final JobBuilder job = claimedBy.getJob(JobBuilder.class);
             job.setWorkOrder(this);
-            this.setClaimedBy(claimedBy);
+            colony.getWorkManager().claimWorkOrder(this, claimedBy);
             return;
         }
 
+        if (!hasSentMessageForThisWorkOrder)
+        {
+            sendBuilderMessage(colony);
+        }
+    }
+
+    /**
+     * Check all builders, busy or not, to tell the players why the work order wasn't claimed.
+     *
+     * @param colony which the work order belong to.
+     */
+    private void sendBuilderMessage(@NotNull final Colony colony)
+    {
+        boolean sendMessage = true;
+        boolean hasBuilder = false;
+
+        for (@NotNull final BuildingBuilder building : colony.getBuildingManager().getBuildings(BuildingBuilder.class))
+        {
+            for (@NotNull final CitizenData citizen : building.getWorker())
+            {
+                if (citizen.getJob(JobBuilder.class) == null || citizen.getWorkBuilding() == null)
+                {
+                    continue;
+                }
+
+                hasBuilder = true;
+
+                // don't send a message if we have a valid worker that is busy.
+                if (canBuild(citizen))
+                {
+                    sendMessage = false;
+                }
+            }
+        }
+
         sendBuilderMessage(colony, hasBuilder, sendMessage);
     }
 
@@ -0,0 +1,195 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonySavePipeline;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
+import com.minecolonies.structures.helpers.TemplateCache;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Command printing the statistics of the colony saves, the pathfinding, the colony protection, the template cache
+ * and the worker ais, for server admins tracking down lag. With the argument "ai" the targets of each ai are listed.
+ */
+public class StatsCommand extends AbstractSingleCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "stats";
+
+    /**
+     * Argument listing the targets of each ai.
+     */
+    private static final String AI_ARG = "ai";
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public StatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public boolean canRankUseCommand(@NotNull final Colony colony, @NotNull final EntityPlayer player)
+    {
+        return false;
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString("Must be OP to use command"));
+            return;
+        }
+
+        final ColonySavePipeline pipeline = ColonyManager.getSavePipeline();
+        sender.sendMessage(new TextComponentString(String.format("Colony saves: %d files, %d bytes written, %d coalesced, %d pending, %.2f ms average per file",
+          pipeline.getFilesWritten(), pipeline.getBytesWritten(), pipeline.getSavesCoalesced(), pipeline.getPendingWrites(), pipeline.getAverageWriteMillis())));
+        for (final Map.Entry<Integer, ColonySavePipeline.ColonySaveStats> entry : pipeline.getColonyStats().entrySet())
+        {
+            final ColonySavePipeline.ColonySaveStats stats = entry.getValue();
+            sender.sendMessage(new TextComponentString(String.format("  Colony %d: %d writes, snapshot %.2f ms (%.2f ms average), write %.2f ms (%.2f ms average)",
+              entry.getKey(), stats.getWrites(), stats.getLastSnapshotMillis(), stats.getAverageSnapshotMillis(), stats.getLastWriteMillis(),
+              stats.getAverageWriteMillis())));
+        }
+
+        for (final WorldServer world : server.worlds)
+        {
+            final PathCache cache = PathCache.forWorld(world);
+            if (cache != null)
+            {
+                sender.sendMessage(new TextComponentString(String.format("Path cache of dimension %d: %d paths, %d hits, %d misses (%.1f%% hit rate), %d invalidations",
+                  world.provider.getDimension(), cache.size(), cache.getHits(), cache.getMisses(), cache.getHitRate() * 100, cache.getInvalidations())));
+            }
+
+            final SectionGraph graph = SectionGraph.forWorld(world);
+            if (graph != null)
+            {
+                sender.sendMessage(new TextComponentString(String.format("Section routes of dimension %d: %d routes, %d failed, %.1f regions expanded on average, %d sections built",
+                  world.provider.getDimension(), graph.getRoutes(), graph.getFailedRoutes(), graph.getAverageExpandedRegions(), graph.getBuiltSections())));
+            }
+        }
+
+        final PathJobScheduler scheduler = Pathfinding.getScheduler();
+        sender.sendMessage(new TextComponentString(String.format("Path jobs: %d queued", scheduler.getQueueDepth())));
+        for (final Map.Entry<Class<?>, PathJobScheduler.JobStats> entry : scheduler.getStats().entrySet())
+        {
+            final PathJobScheduler.JobStats stats = entry.getValue();
+            sender.sendMessage(new TextComponentString(String.format("  %s: %d completed, %d cancelled, %.2f ms average wait, %.2f ms average compute",
+              entry.getKey().getSimpleName(), stats.getCompleted(), stats.getCancelled(), stats.getAverageWaitMillis(), stats.getAverageComputeMillis())));
+        }
+
+        final ColonyPermissionEventDispatcher dispatcher = MineColonies.getPermissionEventDispatcher();
+        sender.sendMessage(new TextComponentString(String.format("Colony protection: %d events handed to colonies, %d denied",
+          dispatcher.getHandledEvents(), dispatcher.getDeniedEvents())));
+
+        sender.sendMessage(new TextComponentString(String.format("Template cache: %d hits, %d misses, rotated templates: %d hits, %d misses",
+          TemplateCache.getTemplateHits(), TemplateCache.getTemplateMisses(), TemplateCache.getRotationHits(), TemplateCache.getRotationMisses())));
+
+        sendAIStats(sender, args.length > 0 && AI_ARG.equalsIgnoreCase(args[0]));
+    }
+
+    /**
+     * Print the target evaluations of the worker ais of all colonies, summed up per ai class.
+     *
+     * @param sender      the sender to print to.
+     * @param listTargets whether to list every target or only the totals of each ai.
+     */
+    private static void sendAIStats(@NotNull final ICommandSender sender, final boolean listTargets)
+    {
+        //  Evaluations, executions and nanoseconds per target index, by ai class
+        final Map<String, List<long[]>> statsByAI = new TreeMap<>();
+        for (final Colony colony : ColonyManager.getColonies())
+        {
+            for (final CitizenData citizen : colony.getCitizenManager().getCitizens())
+            {
+                final AbstractJob job = citizen.getJob();
+                final AbstractAISkeleton<? extends AbstractJob> ai = job == null ? null : job.getWorkerAI();
+                if (ai == null)
+                {
+                    continue;
+                }
+
+                final List<long[]> stats = statsByAI.computeIfAbsent(ai.getClass().getSimpleName(), name -> new ArrayList<>());
+                final List<AITarget> targets = ai.getTargets();
+                for (int i = 0; i < targets.size(); i++)
+                {
+                    if (stats.size() <= i)
+                    {
+                        stats.add(new long[3]);
+                    }
+                    final AITarget target = targets.get(i);
+                    stats.get(i)[0] += target.getEvaluations();
+                    stats.get(i)[1] += target.getExecutions();
+                    stats.get(i)[2] += target.getEvaluationNanos();
+                }
+            }
+        }
+
+        for (final Map.Entry<String, List<long[]>> entry : statsByAI.entrySet())
+        {
+            final long[] total = new long[3];
+            for (final long[] stats : entry.getValue())
+            {
+                total[0] += stats[0];
+                total[1] += stats[1];
+                total[2] += stats[2];
+            }
+            sender.sendMessage(new TextComponentString(String.format("AI %s: %d evaluations, %d executions, %.2f ms total",
+              entry.getKey(), total[0], total[1], total[2] / 1_000_000D)));
+
+            if (listTargets)
+            {
+                for (int i = 0; i < entry.getValue().size(); i++)
+                {
+                    final long[] stats = entry.getValue().get(i);
+                    sender.sendMessage(new TextComponentString(String.format("  Target %d: %d evaluations, %d executions, %.2f ms total",
+                      i, stats[0], stats[1], stats[2] / 1_000_000D)));
+                }
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return args.length <= 1 ? Collections.singletonList(AI_ARG) : Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -1677,7 +1677,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
             return DesiredActivity.WORK;
         }
 
-        if (BarbarianUtils.getClosestBarbarianToEntity(this, AVOID_BARBARIAN_RANGE) != null && !(this.getColonyJob() instanceof JobGuard))
+        if (BarbarianUtils.getClosestBarbarianToEntity(getColony(), this, AVOID_BARBARIAN_RANGE) != null)
         {
             return DesiredActivity.SLEEP;
         }
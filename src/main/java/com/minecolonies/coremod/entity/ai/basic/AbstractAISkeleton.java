@@ -6,13 +6,13 @@ import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import com.minecolonies.coremod.entity.ai.util.ChatSpamFilter;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.*;
 
 import static com.minecolonies.coremod.entity.EntityCitizen.Status.IDLE;
 
@@ -43,6 +43,33 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
      */
     private         AIState             state;
 
+    /**
+     * Indices of the targets which can run in each state, in registration order.
+     * Built lazily and dropped when a target is registered.
+     */
+    private EnumMap<AIState, int[]> targetsByState;
+
+    /**
+     * Amount of ticks the ai ran, used to schedule targets with a recheck interval.
+     */
+    private long tickCount = 0;
+
+    /**
+     * Tick in which each target was last checked, by registration index.
+     */
+    private long[] lastEvaluatedTick = new long[0];
+
+    /**
+     * Trigger sequence seen when each target was last checked, by registration index.
+     */
+    private long[] lastEvaluatedSequence = new long[0];
+
+    /**
+     * Incremented on each wakeup, and the value of the last wakeup by trigger.
+     */
+    private long triggerSequence = 0;
+    private final long[] lastTriggerSequence = new long[AITrigger.values().length];
+
     /**
      * Sets up some important skeleton stuff for every ai.
      *
@@ -74,6 +101,10 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     private void registerTarget(final AITarget target)
     {
         targetList.add(target);
+        lastEvaluatedTick = Arrays.copyOf(lastEvaluatedTick, targetList.size());
+        lastEvaluatedTick[targetList.size() - 1] = Long.MIN_VALUE / 2;
+        lastEvaluatedSequence = Arrays.copyOf(lastEvaluatedSequence, targetList.size());
+        targetsByState = null;
     }
 
     /**
@@ -132,7 +163,88 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     @Override
     public final void updateTask()
     {
-        targetList.stream().anyMatch(this::checkOnTarget);
+        tickCount++;
+        for (final int index : getTargetsForState(state))
+        {
+            if (isDue(index) && checkOnTarget(index))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the targets which can run in a state, the ones matching it and the state independent ones.
+     *
+     * @param currentState the state.
+     * @return the target indices, in registration order.
+     */
+    private int[] getTargetsForState(final AIState currentState)
+    {
+        if (targetsByState == null)
+        {
+            targetsByState = new EnumMap<>(AIState.class);
+            for (final AIState aiState : AIState.values())
+            {
+                final int[] indices = new int[targetList.size()];
+                int size = 0;
+                for (int i = 0; i < targetList.size(); i++)
+                {
+                    final AIState targetState = targetList.get(i).getState();
+                    if (targetState == null || targetState == aiState)
+                    {
+                        indices[size++] = i;
+                    }
+                }
+                targetsByState.put(aiState, Arrays.copyOf(indices, size));
+            }
+        }
+        return targetsByState.get(currentState);
+    }
+
+    /**
+     * Check if a target has to be checked this tick,
+     * because its interval passed or one of its triggers happened since its last check.
+     *
+     * @param index the index of the target.
+     * @return true if so.
+     */
+    private boolean isDue(final int index)
+    {
+        final AITarget target = targetList.get(index);
+        if (tickCount - lastEvaluatedTick[index] >= target.getRecheckInterval())
+        {
+            return true;
+        }
+        for (final AITrigger trigger : target.getWakeupTriggers())
+        {
+            if (lastTriggerSequence[trigger.ordinal()] > lastEvaluatedSequence[index])
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wake up the targets waiting for a trigger, they will be checked on the next tick.
+     *
+     * @param trigger the trigger which happened.
+     */
+    public void wakeUp(@NotNull final AITrigger trigger)
+    {
+        lastTriggerSequence[trigger.ordinal()] = ++triggerSequence;
+    }
+
+    /**
+     * Get the registered targets, with their evaluation statistics.
+     *
+     * @return unmodifiable list of the targets in registration order.
+     */
+    @NotNull
+    public List<AITarget> getTargets()
+    {
+        return Collections.unmodifiableList(targetList);
     }
 
     /**
@@ -157,29 +269,38 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
      * Tester and target are both error-checked
      * to prevent minecraft from crashing on bad ai.
      *
-     * @param target the target to check
+     * @param index the index of the target to check
      * @return true if this target worked and we should stop executing this tick
      */
-    private boolean checkOnTarget(@NotNull final AITarget target)
+    private boolean checkOnTarget(final int index)
     {
+        final AITarget target = targetList.get(index);
         if (state != target.getState() && target.getState() != null)
         {
             return false;
         }
+        lastEvaluatedTick[index] = tickCount;
+        lastEvaluatedSequence[index] = triggerSequence;
+
+        final long start = System.nanoTime();
         try
         {
             if (!target.test())
             {
+                target.recordEvaluation(System.nanoTime() - start, false);
                 return false;
             }
         }
         catch (final RuntimeException e)
         {
+            target.recordEvaluation(System.nanoTime() - start, false);
             Log.getLogger().warn("Condition check for target " + target + " threw an exception:", e);
             this.onException(e);
             return false;
         }
-        return applyTarget(target);
+        final boolean applied = applyTarget(target);
+        target.recordEvaluation(System.nanoTime() - start, true);
+        return applied;
     }
 
     /**
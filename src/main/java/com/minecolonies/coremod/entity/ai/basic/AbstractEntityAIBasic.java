@@ -19,11 +19,14 @@ import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import com.minecolonies.coremod.entity.pathfinding.EntityCitizenWalkToProxy;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
+import com.minecolonies.coremod.tileentities.ContainerItemIndex;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -40,6 +43,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.HIGH_SATURATION;
@@ -85,6 +89,10 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      * Hit a block every x ticks when mining.
      */
     private static final   int HIT_EVERY_X_TICKS             = 5;
+    /**
+     * Ticks between two checks of the targets which don't have to run every tick.
+     */
+    private static final   int CHECK_INTERVAL                = 20;
 
     /**
      * The block the ai is currently working at or wants to work.
@@ -175,7 +183,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
           /*
             Check if inventory has to be dumped.
            */
-          new AITarget(this::inventoryNeedsDump, INVENTORY_FULL),
+          new AITarget(this::inventoryNeedsDump, INVENTORY_FULL).recheckEvery(CHECK_INTERVAL).wakeUpOn(AITrigger.INVENTORY_CHANGED),
           /*
            * Reset to idle if no specific tool is needed.
            */
@@ -186,11 +194,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
                 worker.getCitizenData(),
                 TypeToken.of(Tool.class)
               ).isEmpty();
-          }, IDLE),
+          }, IDLE).recheckEvery(CHECK_INTERVAL).wakeUpOn(AITrigger.REQUEST_STATE_CHANGED),
           /*
            * Called when the citizen saturation falls too low.
            */
-          new AITarget(this::shouldGetFood, this::searchForFood)
+          new AITarget(this::shouldGetFood, this::searchForFood).recheckEvery(CHECK_INTERVAL)
         );
     }
 
@@ -498,12 +506,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
                 }
 
                 //Takes one Stack from the hut if existent
-                if (InventoryUtils.getItemCountInProvider(getOwnBuilding(), deliveredItemStack::isItemEqualIgnoreDurability) >= deliveredItemStack.getCount() &&
-                      InventoryUtils.transferXOfFirstSlotInProviderWithIntoNextFreeSlotInItemHandler(
-                        getOwnBuilding(),
-                        deliveredItemStack::isItemEqualIgnoreDurability,
-                        deliveredItemStack.getCount(),
-                        new InvWrapper(worker.getInventoryCitizen())))
+                if (takeAmountFromHut(deliveredItemStack))
                 {
 
                     return NEEDS_ITEM;
@@ -549,34 +552,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     public boolean isInHut(@Nullable final Predicate<ItemStack> is)
     {
-        @Nullable final AbstractBuildingWorker building = getOwnBuilding();
-
-        boolean hasItem;
-        if (building != null)
-        {
-            hasItem = isInTileEntity(building.getTileEntity(), is);
-
-            if (hasItem)
-            {
-                return true;
-            }
-
-            for (final BlockPos pos : building.getAdditionalCountainers())
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest)
-                {
-                    hasItem = isInTileEntity((TileEntityChest) entity, is);
-
-                    if (hasItem)
-                    {
-                        return true;
-                    }
-                }
-            }
-        }
-
-        return false;
+        return is != null && takeFromHut(null, is);
     }
 
     /**
@@ -586,34 +562,79 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      * @return true if a stack of that type was found
      */
     public boolean isInHut(@Nullable final ItemStack is)
+    {
+        return is != null && takeFromHut(is.getItem(), stack -> !ItemStackUtils.isEmpty(stack) && is.isItemEqualIgnoreDurability(stack));
+    }
+
+    /**
+     * Take the first stack matching a predicate from the container of the hut the item index of the building finds it in.
+     *
+     * @param item      the item of the stack if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return true if a stack was taken.
+     */
+    private boolean takeFromHut(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
     {
         @Nullable final AbstractBuildingWorker building = getOwnBuilding();
+        if (building == null)
+        {
+            return false;
+        }
 
-        boolean hasItem;
-        if (building != null)
+        final BlockPos pos = building.getItemIndex().getPositionOfContainerWithItemStack(item, predicate);
+        if (pos == null)
         {
-            hasItem = isInTileEntity(building.getTileEntity(), is);
+            return false;
+        }
 
-            if (hasItem)
-            {
-                return true;
-            }
+        final TileEntity entity = world.getTileEntity(pos);
+        final boolean taken = entity != null && InventoryFunctions.matchFirstInProviderWithAction(entity, predicate, this::takeItemStackFromProvider);
+
+        //Taken from or out of date, either way read the container again on the next lookup.
+        ContainerItemIndex.onContainerChanged(world, pos);
+        return taken;
+    }
 
-            for (final BlockPos pos : building.getAdditionalCountainers())
+    /**
+     * Take the amount of a stack from the containers of the hut the item index of the building finds it in.
+     *
+     * @param stack the stack, compared ignoring durability.
+     * @return true if the whole amount was taken.
+     */
+    private boolean takeAmountFromHut(@NotNull final ItemStack stack)
+    {
+        @Nullable final AbstractBuildingWorker building = getOwnBuilding();
+        if (building == null)
+        {
+            return false;
+        }
+
+        final ContainerItemIndex index = building.getItemIndex();
+        if (index.getItemCount(stack.getItem(), stack::isItemEqualIgnoreDurability) < stack.getCount())
+        {
+            return false;
+        }
+
+        final Set<BlockPos> positions = index.getPositionsOfContainersWithItemStack(stack.getItem(), stack::isItemEqualIgnoreDurability);
+        int amount = stack.getCount();
+        for (final BlockPos pos : positions)
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            //Taken from or out of date, either way read the container again on the next lookup.
+            ContainerItemIndex.onContainerChanged(world, pos);
+            if (entity != null)
             {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest)
+                amount = InventoryUtils.transferXOfFirstSlotInProviderWithIntoNextFreeSlotInItemHandlerWithResult(
+                  entity,
+                  stack::isItemEqualIgnoreDurability,
+                  amount,
+                  new InvWrapper(worker.getInventoryCitizen()));
+                if (amount <= 0)
                 {
-                    hasItem = isInTileEntity(entity, is);
-
-                    if (hasItem)
-                    {
-                        return true;
-                    }
+                    return true;
                 }
             }
         }
-
         return false;
     }
 
@@ -804,7 +825,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     {
         final int maxToolLevel = worker.getWorkBuilding().getMaxToolLevel();
         final InventoryCitizen inventory = worker.getInventoryCitizen();
-        if (InventoryUtils.isToolInItemHandler(new InvWrapper(inventory), toolType, minimalLevel, maxToolLevel))
+        if (inventory.hasTool(toolType, minimalLevel, maxToolLevel))
         {
             return false;
         }
@@ -824,24 +845,13 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     {
         @Nullable final AbstractBuildingWorker building = getOwnBuilding();
 
-        if (building != null)
+        if (building == null || ToolType.NONE.equals(toolType))
         {
-            if (retrieveToolInTileEntity(building.getTileEntity(), toolType, minimalLevel, getOwnBuilding().getMaxToolLevel()))
-            {
-                return true;
-            }
-
-            for (final BlockPos pos : building.getAdditionalCountainers())
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest && retrieveToolInTileEntity((TileEntityChest) entity, toolType, minimalLevel, getOwnBuilding().getMaxToolLevel()))
-                {
-                    return true;
-                }
-            }
+            return false;
         }
 
-        return false;
+        final ItemStack tool = building.getItemIndex().getBestTool(toolType, minimalLevel, building.getMaxToolLevel());
+        return !ItemStackUtils.isEmpty(tool) && takeFromHut(tool.getItem(), stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(tool, stack));
     }
 
     /**
@@ -998,24 +1008,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     {
         final IToolType toolType = WorkerUtil.getBestToolForBlock(target);
         final int required = WorkerUtil.getCorrectHavestLevelForBlock(target);
-        int bestSlot = -1;
-        int bestLevel = Integer.MAX_VALUE;
-        @NotNull final InventoryCitizen inventory = worker.getInventoryCitizen();
-        final int maxToolLevel = worker.getWorkBuilding().getMaxToolLevel();
-
-        for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots(); i++)
-        {
-            final ItemStack item = inventory.getStackInSlot(i);
-            final int level = ItemStackUtils.getMiningLevel(item, toolType);
-            if (level >= required && level < bestLevel
-                  && (toolType == ToolType.NONE || ItemStackUtils.verifyToolLevel(item, level, required, maxToolLevel)))
-            {
-                bestSlot = i;
-                bestLevel = level;
-            }
-        }
-
-        return bestSlot;
+        return worker.getInventoryCitizen().getMostEfficientToolSlot(toolType, required, worker.getWorkBuilding().getMaxToolLevel());
     }
 
     /**
@@ -1201,12 +1194,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
             return true;
         }
 
-        if (InventoryUtils.getItemCountInProvider(getOwnBuilding(), stack::isItemEqualIgnoreDurability) >= stack.getCount() &&
-              InventoryUtils.transferXOfFirstSlotInProviderWithIntoNextFreeSlotInItemHandler(
-                getOwnBuilding(),
-                stack::isItemEqualIgnoreDurability,
-                stack.getCount(),
-                new InvWrapper(worker.getInventoryCitizen())))
+        if (takeAmountFromHut(stack))
         {
             return true;
         }
@@ -139,10 +139,10 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return RETRIEVING_END_PRODUCT_FROM_FURNACE;
         }
 
-        final int amountOfSmeltableInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), this::isSmeltable);
+        final int amountOfSmeltableInBuilding = getOwnBuilding().getItemIndex().getItemCount(null, this::isSmeltable);
         final int amountOfSmeltableInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isSmeltable);
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), TileEntityFurnace::isItemFuel);
+        final int amountOfFuelInBuilding = getOwnBuilding().getItemIndex().getItemCount(null, TileEntityFurnace::isItemFuel);
         final int amountOfFuelInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel);
 
         if (amountOfSmeltableInBuilding + amountOfSmeltableInInv <= 0
@@ -248,7 +248,7 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return getState();
         }
 
-        if (needsCurrently == null || !InventoryUtils.hasItemInProvider(getOwnBuilding(), needsCurrently))
+        if (needsCurrently == null || !getOwnBuilding().getItemIndex().hasItem(null, needsCurrently))
         {
             setDelay(STANDARD_DELAY);
             return START_WORKING;
@@ -13,6 +13,7 @@ import com.minecolonies.blockout.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.*;
 import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import com.minecolonies.coremod.colony.managers.PickUpWeights;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
@@ -328,34 +329,26 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
     private BlockPos getWeightedRandom()
     {
-        double completeWeight = 0.0;
-        for (final AbstractBuilding building : worker.getColony().getBuildingManager().getBuildings().values())
+        final PickUpWeights weights = worker.getColony().getBuildingManager().getPickUpWeights();
+        final int index = weights.select(Math.random());
+        final AbstractBuilding building = weights.getBuilding(index);
+        if (building == null)
         {
-            if (!building.isBeingGathered())
-            {
-                completeWeight += building.getPickUpPriority();
-            }
+            return null;
         }
-        final double r = Math.random() * completeWeight;
-        double countWeight = 0.0;
-        for (final AbstractBuilding building : worker.getColony().getBuildingManager().getBuildings().values())
+
+        //The buildings passed over get more likely to be picked next time.
+        for (int i = 0; i < index; i++)
         {
-            if (!building.isBeingGathered())
+            if (weights.getWeight(i) > 0)
             {
-                countWeight += building.getPickUpPriority();
-                if (countWeight >= r)
-                {
-                    //Don't let any other dman pick up for now.
-                    building.setBeingGathered(true);
-                    return building.getID();
-                }
-                else
-                {
-                    building.alterPickUpPriority(1);
-                }
+                weights.getBuilding(i).alterPickUpPriority(1);
             }
         }
-        return null;
+
+        //Don't let any other dman pick up for now.
+        building.setBeingGathered(true);
+        return building.getID();
     }
 
     /**
@@ -408,20 +401,19 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     public BuildingWareHouse getWareHouse()
     {
-        final Map<BlockPos, AbstractBuilding> buildings = job.getColony().getBuildingManager().getBuildings();
-        for (final AbstractBuilding building : buildings.values())
+        final Colony ownColony = worker.getColony();
+        if (ownColony == null)
         {
-            if (building == null)
-            {
-                continue;
-            }
+            return null;
+        }
 
+        for (final BuildingWareHouse building : job.getColony().getBuildingManager().getBuildings(BuildingWareHouse.class))
+        {
             final Colony buildingColony = building.getColony();
-            final Colony ownColony = worker.getColony();
-            if (building instanceof BuildingWareHouse && ownColony != null && buildingColony != null && buildingColony.getID() == ownColony.getID()
-                  && ((BuildingWareHouse) building).registerWithWareHouse((BuildingDeliveryman) this.getOwnBuilding()))
+            if (buildingColony != null && buildingColony.getID() == ownColony.getID()
+                  && building.registerWithWareHouse((BuildingDeliveryman) this.getOwnBuilding()))
             {
-                return (BuildingWareHouse) building;
+                return building;
             }
         }
         return null;
@@ -651,28 +643,12 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
     {
         worker.setAIMoveSpeed((float) (BASE_MOVEMENT_SPEED + BASE_MOVEMENT_SPEED * worker.getLevel() / WALKING_SPEED_MULTIPLIER));
 
-        if (getWareHouse() != null && getWareHouse().getTileEntity() != null)
+        final BuildingWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
         {
             return false;
         }
 
-        final Map<BlockPos, AbstractBuilding> buildings = job.getColony().getBuildingManager().getBuildings();
-        for (final AbstractBuilding building : buildings.values())
-        {
-            if (building == null)
-            {
-                continue;
-            }
-
-            final Colony buildingColony = building.getColony();
-            final Colony ownColony = worker.getColony();
-            if (building instanceof BuildingWareHouse && ownColony != null && buildingColony != null && buildingColony.getID() == ownColony.getID()
-                  && ((BuildingWareHouse) building).registerWithWareHouse((BuildingDeliveryman) this.getOwnBuilding()))
-            {
-                return false;
-            }
-        }
-
         chatSpamFilter.talkWithoutSpam(COM_MINECOLONIES_COREMOD_JOB_DELIVERYMAN_NOWAREHOUSE);
         return true;
     }
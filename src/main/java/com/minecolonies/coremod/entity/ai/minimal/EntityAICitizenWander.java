@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.ai.minimal;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.PathPriority;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.entity.ai.RandomPositionGenerator;
 import net.minecraft.util.math.BlockPos;
@@ -108,6 +109,6 @@ public class EntityAICitizenWander extends EntityAIBase
     @Override
     public void startExecuting()
     {
-        citizen.getNavigator().tryMoveToXYZ(this.xPosition, this.yPosition, this.zPosition, this.speed);
+        citizen.getNavigator().moveToXYZ(this.xPosition, this.yPosition, this.zPosition, this.speed, PathPriority.WANDER);
     }
 }
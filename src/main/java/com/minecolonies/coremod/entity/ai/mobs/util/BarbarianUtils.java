@@ -1,8 +1,10 @@
 package com.minecolonies.coremod.entity.ai.mobs.util;
 
 import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
 import net.minecraft.entity.Entity;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,24 @@ public final class BarbarianUtils
         return barbarian.orElse(null);
     }
 
+    /**
+     * Returns the closest barbarian to an entity of a colony, from the threat tracker of the colony.
+     *
+     * @param colony             the colony of the entity, null to query the world.
+     * @param entity             The entity to test against
+     * @param distanceFromEntity The distance to check for
+     * @return the barbarian (if any) that is nearest
+     */
+    @Nullable
+    public static AbstractEntityBarbarian getClosestBarbarianToEntity(@Nullable final Colony colony, final Entity entity, final double distanceFromEntity)
+    {
+        if (colony == null)
+        {
+            return getClosestBarbarianToEntity(entity, distanceFromEntity);
+        }
+        return colony.getThreatTracker().getClosestThreat(entity, distanceFromEntity, Y_DISTANCE_TO_CHECK_WITHIN, AbstractEntityBarbarian.class);
+    }
+
     /**
      * Returns the barbarians close to an entity.
      *
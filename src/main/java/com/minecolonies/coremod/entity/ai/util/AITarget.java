@@ -3,6 +3,8 @@ package com.minecolonies.coremod.entity.ai.util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
@@ -13,6 +15,8 @@ import java.util.function.Supplier;
  * It has a tester function to make more checks
  * to tell if execution is wanted.
  * And it can change state.
+ * Targets with a costly tester can be checked only every few ticks,
+ * and be woken up earlier by the triggers they depend on.
  */
 public class AITarget
 {
@@ -24,6 +28,24 @@ public class AITarget
     @NotNull
     private final Supplier<AIState> action;
 
+    /**
+     * Ticks between two checks of the tester, 1 to check it every tick.
+     */
+    private int recheckInterval = 1;
+
+    /**
+     * Triggers which make the tester be checked again before its interval passed.
+     */
+    @NotNull
+    private final Set<AITrigger> wakeupTriggers = EnumSet.noneOf(AITrigger.class);
+
+    /**
+     * Amount of tester checks, actions and the time spent in both.
+     */
+    private long evaluations    = 0;
+    private long executions     = 0;
+    private long evaluationNanos = 0;
+
     /**
      * Construct a target.
      *
@@ -92,6 +114,100 @@ public class AITarget
         this(state, () -> true, action);
     }
 
+    /**
+     * Only check the tester every few ticks.
+     *
+     * @param ticks the ticks between two checks.
+     * @return this target.
+     */
+    public AITarget recheckEvery(final int ticks)
+    {
+        this.recheckInterval = Math.max(1, ticks);
+        return this;
+    }
+
+    /**
+     * Check the tester right away, without waiting for the interval, when one of the triggers happens.
+     *
+     * @param triggers the triggers.
+     * @return this target.
+     */
+    public AITarget wakeUpOn(@NotNull final AITrigger... triggers)
+    {
+        for (final AITrigger trigger : triggers)
+        {
+            wakeupTriggers.add(trigger);
+        }
+        return this;
+    }
+
+    /**
+     * Ticks between two checks of the tester.
+     *
+     * @return the interval, 1 if checked every tick.
+     */
+    public int getRecheckInterval()
+    {
+        return recheckInterval;
+    }
+
+    /**
+     * Triggers which wake this target up.
+     *
+     * @return the triggers.
+     */
+    @NotNull
+    public Set<AITrigger> getWakeupTriggers()
+    {
+        return wakeupTriggers;
+    }
+
+    /**
+     * Record one check of the target.
+     *
+     * @param nanos    the time it took, tester and action.
+     * @param executed whether the action was applied.
+     */
+    public void recordEvaluation(final long nanos, final boolean executed)
+    {
+        evaluations++;
+        evaluationNanos += nanos;
+        if (executed)
+        {
+            executions++;
+        }
+    }
+
+    /**
+     * Amount of times the tester was checked.
+     *
+     * @return the amount.
+     */
+    public long getEvaluations()
+    {
+        return evaluations;
+    }
+
+    /**
+     * Amount of times the action was applied.
+     *
+     * @return the amount.
+     */
+    public long getExecutions()
+    {
+        return executions;
+    }
+
+    /**
+     * Total time spent checking and applying the target.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getEvaluationNanos()
+    {
+        return evaluationNanos;
+    }
+
     /**
      * The state this target matches on.
      * Use null to match on all states.
@@ -0,0 +1,20 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+/**
+ * Events which wake up targets waiting for their re-check interval.
+ */
+public enum AITrigger
+{
+    /**
+     * The inventory of the worker changed.
+     */
+    INVENTORY_CHANGED,
+    /**
+     * A request of the worker was completed or cancelled.
+     */
+    REQUEST_STATE_CHANGED,
+    /**
+     * A path of the worker was calculated or walked to its end.
+     */
+    PATH_FINISHED
+}
@@ -7,10 +7,12 @@ import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.ModBlocks;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.util.StructureWrapper;
+import com.minecolonies.structures.helpers.StructureProxy;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.BlockStairs;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -24,8 +26,10 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
+import java.util.*;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -105,9 +109,15 @@ public class Structure
         public final Template.EntityInfo entity;
 
         /**
-         * The entityInfo block.
+         * Checks if there is an entity at the position in the world, only evaluated when needed.
+         */
+        private final BooleanSupplier worldEntityCheck;
+
+        /**
+         * The result of the world entity check, null until evaluated.
          */
-        public final boolean hasWorldEntity;
+        @Nullable
+        private Boolean hasWorldEntity;
 
         /**
          * Create one immutable Block containing all information needed.
@@ -124,6 +134,25 @@ public class Structure
         public StructureBlock(
                                final Block block, final BlockPos blockPosition, final IBlockState metadata, final Template.EntityInfo entity,
                                final Item item, final Block worldBlock, final IBlockState worldMetadata, final boolean hasWorldEntity)
+        {
+            this(block, blockPosition, metadata, entity, item, worldBlock, worldMetadata, () -> hasWorldEntity);
+        }
+
+        /**
+         * Create one immutable Block containing all information needed, checking for world entities only when needed.
+         *
+         * @param block            the minecraft block this block has.
+         * @param blockPosition    the BlockPos this block has.
+         * @param metadata         the metadata this block has.
+         * @param entity           the entity in the structure.
+         * @param item             the item needed to place this block
+         * @param worldBlock       the block to be replaced with the structure block
+         * @param worldMetadata    the metadata of the world block
+         * @param worldEntityCheck checks if there is an entity at the position in the world.
+         */
+        public StructureBlock(
+                               final Block block, final BlockPos blockPosition, final IBlockState metadata, final Template.EntityInfo entity,
+                               final Item item, final Block worldBlock, final IBlockState worldMetadata, @NotNull final BooleanSupplier worldEntityCheck)
         {
             this.block = block;
             this.blockPosition = blockPosition;
@@ -132,7 +161,21 @@ public class Structure
             this.item = item;
             this.worldBlock = worldBlock;
             this.worldMetadata = worldMetadata;
-            this.hasWorldEntity = hasWorldEntity;
+            this.worldEntityCheck = worldEntityCheck;
+        }
+
+        /**
+         * Check if there is an entity at the position in the world.
+         *
+         * @return true if so.
+         */
+        public boolean hasWorldEntity()
+        {
+            if (hasWorldEntity == null)
+            {
+                hasWorldEntity = worldEntityCheck.getAsBoolean();
+            }
+            return hasWorldEntity;
         }
 
         /**
@@ -152,7 +195,7 @@ public class Structure
                 return true;
             }
 
-            if (entity == null && hasWorldEntity)
+            if (entity == null && hasWorldEntity())
             {
                 return false;
             }
@@ -197,6 +240,38 @@ public class Structure
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * The local positions which hold a non solid block in the structure, the only ones to decorate. Null until needed.
+     */
+    @Nullable
+    private int[] decoratePositions;
+
+    /**
+     * The local positions which hold an entity in the structure, the only ones to spawn. Null until needed.
+     */
+    @Nullable
+    private int[] spawnPositions;
+
+    /**
+     * The local positions where the world block may still have to be cleared. Null until needed,
+     * then kept current through {@link #onBlockChange(World, BlockPos)}.
+     */
+    @Nullable
+    private BitSet clearPositions;
+
+    /**
+     * The local positions where the structure block may still have to be placed. Null until needed,
+     * then kept current through {@link #onBlockChange(World, BlockPos)}.
+     */
+    @Nullable
+    private BitSet buildPositions;
+
+    /**
+     * The structures with clear or build positions to keep current, only used on the server thread.
+     * Weak, so structures dropped by their builder don't have to unregister.
+     */
+    private static final Set<Structure> watchedStructures = Collections.newSetFromMap(new WeakHashMap<>());
+
     /**
      * Create a new building task.
      *
@@ -327,6 +402,58 @@ public class Structure
     public void setStage(final Stage stage)
     {
         this.stage = stage;
+        this.clearPositions = null;
+        this.buildPositions = null;
+        watchedStructures.remove(this);
+    }
+
+    /**
+     * Mark a changed block as to be checked again by the structures being cleared or built around it.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChange(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote || watchedStructures.isEmpty())
+        {
+            return;
+        }
+
+        for (final Structure structure : watchedStructures)
+        {
+            if (structure.targetWorld == world)
+            {
+                structure.markChanged(pos);
+            }
+        }
+    }
+
+    /**
+     * Mark a changed block as to be checked again if it is part of this structure.
+     *
+     * @param pos the changed world position.
+     */
+    private void markChanged(@NotNull final BlockPos pos)
+    {
+        final BlockPos local = pos.subtract(this.theStructure.getOffsetPosition());
+        final int width = this.theStructure.getWidth();
+        final int length = this.theStructure.getLength();
+        if (local.getX() < 0 || local.getX() >= width || local.getZ() < 0 || local.getZ() >= length
+              || local.getY() < 0 || local.getY() >= this.theStructure.getHeight())
+        {
+            return;
+        }
+
+        final int index = (local.getY() * length + local.getZ()) * width + local.getX();
+        if (clearPositions != null)
+        {
+            clearPositions.set(index);
+        }
+        if (buildPositions != null)
+        {
+            buildPositions.set(index);
+        }
     }
 
     /**
@@ -352,18 +479,32 @@ public class Structure
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                      || structureBlock.worldBlock == Blocks.AIR);
+                if (clearPositions == null)
+                {
+                    clearPositions = collectWorkPositions(Structure::isCleared);
+                }
+                return advanceBlocks(() -> jumpToPosition(clearPositions, false), structureBlock ->
+                                                                       skipPosition(clearPositions, isCleared(structureBlock)));
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         && structureBlock.block == Blocks.AIR
-                                                                                         && !structureBlock.metadata.getMaterial().isSolid());
+                if (buildPositions == null)
+                {
+                    buildPositions = collectWorkPositions(Structure::isBuilt);
+                }
+                return advanceBlocks(() -> jumpToPosition(buildPositions, true), structureBlock ->
+                                                                       skipPosition(buildPositions, isBuilt(structureBlock)));
             case SPAWN:
-                return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
+                if (spawnPositions == null)
+                {
+                    spawnPositions = collectPositions(info -> info.entity != null);
+                }
+                return advanceBlocks(() -> jumpToPosition(spawnPositions, false), structureBlock ->
                                                                        structureBlock.entity == null);
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
+                if (decoratePositions == null)
+                {
+                    decoratePositions = collectPositions(info -> !info.state.getMaterial().isSolid());
+                }
+                return advanceBlocks(() -> jumpToPosition(decoratePositions, true), structureBlock ->
                                                                        structureBlock.doesStructureBlockEqualWorldBlock()
                                                                          || structureBlock.metadata.getMaterial().isSolid());
             default:
@@ -388,7 +529,7 @@ public class Structure
             {
                 return Result.AT_END;
             }
-            if (!checkIfApplies.apply(getCurrentBlock()))
+            if (!checkIfApplies.apply(getCurrentBlock(false)))
             {
                 return Result.NEW_BLOCK;
             }
@@ -396,6 +537,239 @@ public class Structure
         return Result.CONFIG_LIMIT;
     }
 
+    /**
+     * Check if a block doesn't have to be cleared.
+     *
+     * @param structureBlock the block.
+     * @return true if the world block is air or already the structure block.
+     */
+    private static boolean isCleared(@NotNull final StructureBlock structureBlock)
+    {
+        return structureBlock.worldBlock == Blocks.AIR || structureBlock.doesStructureBlockEqualWorldBlock();
+    }
+
+    /**
+     * Check if a block doesn't have to be placed.
+     *
+     * @param structureBlock the block.
+     * @return true if the structure block is non solid air which is already in the world.
+     */
+    private static boolean isBuilt(@NotNull final StructureBlock structureBlock)
+    {
+        return structureBlock.block == Blocks.AIR
+                 && !structureBlock.metadata.getMaterial().isSolid()
+                 && structureBlock.doesStructureBlockEqualWorldBlock();
+    }
+
+    /**
+     * Drop the current position from a set of positions to work on if it needs no work.
+     *
+     * @param positions the positions.
+     * @param skip      true if the current position needs no work.
+     * @return skip.
+     */
+    private boolean skipPosition(@NotNull final BitSet positions, final boolean skip)
+    {
+        if (skip)
+        {
+            positions.clear(getCurrentIndex(true));
+        }
+        return skip;
+    }
+
+    /**
+     * Collect the local positions of the structure where the world doesn't match yet, in a single pass over the world.
+     * The structure is watched for block changes from then on, which mark positions to be checked again.
+     *
+     * @param isDone checks if a block needs no work.
+     * @return the positions needing work, by index in increment order.
+     */
+    @NotNull
+    private BitSet collectWorkPositions(@NotNull final Predicate<StructureBlock> isDone)
+    {
+        final StructureProxy structure = this.theStructure.getStructure();
+        final int width = structure.getWidth();
+        final int length = structure.getLength();
+        final int height = structure.getHeight();
+        final BlockPos offset = this.theStructure.getOffsetPosition();
+        final Set<BlockPos> entityPositions = getWorldEntityPositions(offset, width, height, length);
+        final BlockPos.MutableBlockPos local = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos worldPos = new BlockPos.MutableBlockPos();
+
+        final BitSet positions = new BitSet(width * length * height);
+        for (int y = 0; y < height; y++)
+        {
+            for (int z = 0; z < length; z++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    local.setPos(x, y, z);
+                    worldPos.setPos(offset.getX() + x, offset.getY() + y, offset.getZ() + z);
+                    final IBlockState state = structure.getBlockState(local);
+                    final IBlockState worldState = BlockPosUtil.getBlockState(targetWorld, worldPos);
+                    if (state == null || !isDone.test(new StructureBlock(state.getBlock(), worldPos, state, structure.getEntityinfo(local), null,
+                      worldState.getBlock(), worldState, entityPositions.contains(worldPos))))
+                    {
+                        positions.set((y * length + z) * width + x);
+                    }
+                }
+            }
+        }
+
+        watchedStructures.add(this);
+        return positions;
+    }
+
+    /**
+     * Get the positions in a box which intersect an entity that keeps the world block from matching, with one query for the whole box.
+     *
+     * @param min    the min corner of the box.
+     * @param width  the width of the box.
+     * @param height the height of the box.
+     * @param length the length of the box.
+     * @return the positions.
+     */
+    @NotNull
+    private Set<BlockPos> getWorldEntityPositions(@NotNull final BlockPos min, final int width, final int height, final int length)
+    {
+        final Set<BlockPos> positions = new HashSet<>();
+        for (final Entity entity : targetWorld.getEntitiesWithinAABB(Entity.class,
+          new AxisAlignedBB(min, min.add(width, height, length)),
+          entity -> !(entity instanceof EntityLiving || entity instanceof EntityPlayer || entity instanceof EntityItem)))
+        {
+            final AxisAlignedBB box = entity.getEntityBoundingBox();
+            for (int x = (int) Math.floor(box.minX); x < Math.ceil(box.maxX); x++)
+            {
+                for (int y = (int) Math.floor(box.minY); y < Math.ceil(box.maxY); y++)
+                {
+                    for (int z = (int) Math.floor(box.minZ); z < Math.ceil(box.maxZ); z++)
+                    {
+                        positions.add(new BlockPos(x, y, z));
+                    }
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Collect the local positions of the structure matching a predicate on the structure content.
+     *
+     * @param predicate the predicate on the block state and entity of a position.
+     * @return the indices of the positions in increment order.
+     */
+    @NotNull
+    private int[] collectPositions(@NotNull final Predicate<PositionInfo> predicate)
+    {
+        final StructureProxy structure = this.theStructure.getStructure();
+        final int width = structure.getWidth();
+        final int length = structure.getLength();
+        final int height = structure.getHeight();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final PositionInfo info = new PositionInfo();
+
+        final int[] positions = new int[width * length * height];
+        int count = 0;
+        for (int y = 0; y < height; y++)
+        {
+            for (int z = 0; z < length; z++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    pos.setPos(x, y, z);
+                    info.state = structure.getBlockState(pos);
+                    info.entity = structure.getEntityinfo(pos);
+                    if (info.state != null && predicate.test(info))
+                    {
+                        positions[count++] = (y * length + z) * width + x;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Move the structure to the next of a set of positions, skipping all others.
+     *
+     * @param positions the indices of the positions in increment order.
+     * @param forward   true to move in increment order, false in decrement order.
+     * @return false if there is no position left, the structure is reset then.
+     */
+    private boolean jumpToPosition(@NotNull final int[] positions, final boolean forward)
+    {
+        final int insertion = Arrays.binarySearch(positions, getCurrentIndex(forward));
+        final int next;
+        if (insertion >= 0)
+        {
+            next = forward ? insertion + 1 : insertion - 1;
+        }
+        else
+        {
+            next = forward ? -insertion - 1 : -insertion - 2;
+        }
+
+        if (next < 0 || next >= positions.length)
+        {
+            this.theStructure.reset();
+            return false;
+        }
+
+        setCurrentIndex(positions[next]);
+        return true;
+    }
+
+    /**
+     * Move the structure to the next of a set of positions, skipping all others.
+     *
+     * @param positions the positions, by index.
+     * @param forward   true to move in increment order, false in decrement order.
+     * @return false if there is no position left, the structure is reset then.
+     */
+    private boolean jumpToPosition(@NotNull final BitSet positions, final boolean forward)
+    {
+        final int current = getCurrentIndex(forward);
+        final int next = forward ? positions.nextSetBit(current + 1) : positions.previousSetBit(current - 1);
+        if (next < 0)
+        {
+            this.theStructure.reset();
+            return false;
+        }
+
+        setCurrentIndex(next);
+        return true;
+    }
+
+    /**
+     * Get the index of the current local position, in increment order.
+     *
+     * @param forward true if moving in increment order, false in decrement order.
+     * @return the index, or the index before the first one to visit if the structure was reset.
+     */
+    private int getCurrentIndex(final boolean forward)
+    {
+        final int width = this.theStructure.getWidth();
+        final int length = this.theStructure.getLength();
+        final BlockPos local = this.theStructure.getLocalPosition();
+        if (local.getY() < 0)
+        {
+            return forward ? -1 : width * length * this.theStructure.getHeight();
+        }
+        return (local.getY() * length + local.getZ()) * width + local.getX();
+    }
+
+    /**
+     * Move the structure to the local position of an index.
+     *
+     * @param index the index, in increment order.
+     */
+    private void setCurrentIndex(final int index)
+    {
+        final int width = this.theStructure.getWidth();
+        final int length = this.theStructure.getLength();
+        this.theStructure.setLocalPosition(new BlockPos(index % width, index / (width * length), (index / width) % length));
+    }
+
     /**
      * Gather all information needed to evaluate one block.
      *
@@ -404,19 +778,45 @@ public class Structure
     @NotNull
     public StructureBlock getCurrentBlock()
     {
+        return getCurrentBlock(true);
+    }
+
+    /**
+     * Gather the information needed to evaluate one block.
+     * The world entities are only looked up when a check needs them.
+     *
+     * @param withItem false to skip calculating the item, when only checking if the block needs work.
+     * @return a StructureBlock for the current block.
+     */
+    @NotNull
+    private StructureBlock getCurrentBlock(final boolean withItem)
+    {
+        final BlockPos worldPos = this.theStructure.getBlockPosition();
+        final IBlockState worldState = BlockPosUtil.getBlockState(targetWorld, worldPos);
         return new StructureBlock(
                                    this.theStructure.getBlock(),
-                                   this.theStructure.getBlockPosition(),
+                                   worldPos,
                                    this.theStructure.getBlockState(),
                                    this.theStructure.getEntityinfo(),
-                                   this.theStructure.getItem(),
-                                   BlockPosUtil.getBlock(targetWorld, this.theStructure.getBlockPosition()),
-                                   BlockPosUtil.getBlockState(targetWorld, this.theStructure.getBlockPosition()),
-                                   !targetWorld.getEntitiesWithinAABB(net.minecraft.entity.Entity.class,
-                                     new AxisAlignedBB(this.theStructure.getBlockPosition()),
+                                   withItem ? this.theStructure.getItem() : null,
+                                   worldState.getBlock(),
+                                   worldState,
+                                   () -> !targetWorld.getEntitiesWithinAABB(net.minecraft.entity.Entity.class,
+                                     new AxisAlignedBB(worldPos),
                                      entity -> !(entity instanceof EntityLiving || entity instanceof EntityPlayer || entity instanceof EntityItem)).isEmpty());
     }
 
+    /**
+     * The content of one position of the structure, reused while collecting positions.
+     */
+    private static final class PositionInfo
+    {
+        @Nullable
+        private IBlockState         state;
+        @Nullable
+        private Template.EntityInfo entity;
+    }
+
     /**
      * Calculates the width of this structure.
      *
@@ -2,13 +2,10 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.blocks.BlockConstructionTape;
 import com.minecolonies.coremod.blocks.BlockHutField;
 import net.minecraft.block.*;
-import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.Path;
@@ -16,38 +13,28 @@ import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.ChunkCache;
-import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.Callable;
 
 /**
  * Abstract class for Jobs that run in the multithreaded path finder.
  */
-public abstract class AbstractPathJob implements Callable<Path>
+public abstract class AbstractPathJob extends AbstractScheduledJob<Path>
 {
     //  Debug Output
     protected static final int      DEBUG_VERBOSITY_NONE  = 0;
     protected static final int      DEBUG_VERBOSITY_BASIC = 1;
     protected static final int      DEBUG_VERBOSITY_FULL  = 2;
     protected static final Object   debugNodeMonitor      = new Object();
-    private static final   int      SHIFT_SOUTH           = 1;
-    private static final   int      SHIFT_WEST            = 2;
-    private static final   int      SHIFT_NORTH           = 3;
-    private static final   int      SHIFT_EAST            = 4;
-    private static final   BlockPos BLOCKPOS_IDENTITY     = new BlockPos(0, 0, 0);
     private static final   BlockPos BLOCKPOS_UP           = new BlockPos(0, 1, 0);
     private static final   BlockPos BLOCKPOS_DOWN         = new BlockPos(0, -1, 0);
     private static final   BlockPos BLOCKPOS_NORTH        = new BlockPos(0, 0, -1);
     private static final   BlockPos BLOCKPOS_SOUTH        = new BlockPos(0, 0, 1);
     private static final   BlockPos BLOCKPOS_EAST         = new BlockPos(1, 0, 0);
     private static final   BlockPos BLOCKPOS_WEST         = new BlockPos(-1, 0, 0);
-    private static final   int      MAX_Y                 = 256;
-    private static final   int      MIN_Y                 = 0;
 
     /**
      * Additional cost of jumping and dropping - base 1.
@@ -92,12 +79,21 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected static Set<Node>    lastDebugNodesPath;
     @NotNull
     protected final  BlockPos     start;
+    /**
+     * The classified blocks the job may path through, taken on the server thread, the job must not read the world itself.
+     */
     @NotNull
-    protected final  IBlockAccess world;
+    protected final  PassabilitySnapshot snapshot;
     protected final  PathResult   result;
     private final    int          maxRange;
-    private final Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    /**
+     * Scratch position of the walk step, to not allocate a BlockPos per expansion.
+     */
+    private final BlockPos.MutableBlockPos walkPos                = new BlockPos.MutableBlockPos();
+    //  Search state, taken from the arena of the pathfinding thread when the search starts
+    private       NodeArena          arena;
+    private       NodeHeap           nodesOpen;
+    private       NodeMap            nodesVisited;
     //  Debug Rendering
     protected     boolean            debugDrawEnabled             = false;
     @Nullable
@@ -143,7 +139,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.snapshot = PassabilitySnapshot.create(world, minX - range, minZ - range, maxX + range, maxZ + range);
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -161,9 +157,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
     }
 
-    private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
+    private static boolean onLadderGoingUp(@NotNull final Node currentNode, final int dx, final int dy, final int dz)
     {
-        return currentNode.isLadder() && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
+        return currentNode.isLadder() && (dy >= 0 || dx != 0 || dz != 0);
     }
 
     /**
@@ -219,42 +215,6 @@ public abstract class AbstractPathJob implements Callable<Path>
         return pos.toImmutable();
     }
 
-    /**
-     * Sets the direction where the ladder is facing.
-     *
-     * @param world the world in.
-     * @param pos   the position.
-     * @param p     the path.
-     */
-    private static void setLadderFacing(@NotNull final IBlockAccess world, final BlockPos pos, @NotNull final PathPointExtended p)
-    {
-        if (world.getBlockState(pos).getBlock() instanceof BlockVine)
-        {
-            final int meta = world.getBlockState(pos).getBlock().getMetaFromState(world.getBlockState(pos));
-
-            if (((meta >>> SHIFT_SOUTH) & 1) != 0)
-            {
-                p.setLadderFacing(EnumFacing.SOUTH);
-            }
-            else if (((meta >>> SHIFT_WEST) & 1) != 0)
-            {
-                p.setLadderFacing(EnumFacing.WEST);
-            }
-            else if (((meta >>> SHIFT_NORTH) & 1) != 0)
-            {
-                p.setLadderFacing(EnumFacing.NORTH);
-            }
-            else if (((meta >>> SHIFT_EAST) & 1) != 0)
-            {
-                p.setLadderFacing(EnumFacing.EAST);
-            }
-        }
-        else
-        {
-            p.setLadderFacing(world.getBlockState(pos).getValue(BlockLadder.FACING));
-        }
-    }
-
     /**
      * Checks if entity is on a ladder.
      *
@@ -282,9 +242,23 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private static int computeNodeKey(@NotNull final BlockPos pos)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return computeNodeKey(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Generate a pseudo-unique key for identifying a given node by it's coordinates.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return key for node in map
+     * @see #computeNodeKey(BlockPos)
+     */
+    private static int computeNodeKey(final int x, final int y, final int z)
+    {
+        return ((x & 0xFFF) << SHIFT_X_BY)
+                 | ((y & 0xFF) << SHIFT_Y_BY)
+                 | (z & 0xFFF);
     }
 
     /**
@@ -296,10 +270,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dx         the x delta from the parent to the new space.
+     * @param dy         the y delta from the parent to the new space.
+     * @param dz         the z delta from the parent to the new space.
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    private static double computeCost(final int dx, final int dy, final int dz, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dy != 0 && (dx != 0 || dz != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -334,9 +323,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
+    private boolean calculateSwimming(@NotNull final BlockPos pos, @Nullable final Node node)
     {
-        return (node == null) ? world.getBlockState(pos.down()).getMaterial().isLiquid() : node.isSwimming();
+        return (node == null) ? (snapshot.getFlags(pos.getX(), pos.getY() - 1, pos.getZ()) & PassabilitySnapshot.LIQUID) != 0 : node.isSwimming();
     }
 
     public PathResult getResult()
@@ -372,6 +361,11 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Nullable
     protected Path search()
     {
+        arena = NodeArena.get();
+        arena.reset(!debugDrawEnabled);
+        nodesOpen = arena.getOpen();
+        nodesVisited = arena.getVisited();
+
         Node bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = getNodeResultScore(bestNode);
@@ -448,52 +442,56 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private void walkCurrentNode(@NotNull final Node currentNode)
     {
-        BlockPos dPos = BLOCKPOS_IDENTITY;
+        int dx = 0;
+        int dy = 0;
+        int dz = 0;
         if (currentNode.parent != null)
         {
-            dPos = currentNode.pos.subtract(currentNode.parent.pos);
+            dx = currentNode.pos.getX() - currentNode.parent.pos.getX();
+            dy = currentNode.pos.getY() - currentNode.parent.pos.getY();
+            dz = currentNode.pos.getZ() - currentNode.parent.pos.getZ();
         }
 
         //  On a ladder, we can go 1 straight-up
-        if (onLadderGoingUp(currentNode, dPos))
+        if (onLadderGoingUp(currentNode, dx, dy, dz))
         {
             walk(currentNode, BLOCKPOS_UP);
         }
 
         //  We can also go down 1, if the lower block is a ladder
-        if (onLadderGoingDown(currentNode, dPos))
+        if (onLadderGoingDown(currentNode, dx, dy, dz))
         {
             walk(currentNode, BLOCKPOS_DOWN);
         }
 
         // N
-        if (dPos.getZ() <= 0)
+        if (dz <= 0)
         {
             walk(currentNode, BLOCKPOS_NORTH);
         }
 
         // E
-        if (dPos.getX() >= 0)
+        if (dx >= 0)
         {
             walk(currentNode, BLOCKPOS_EAST);
         }
 
         // S
-        if (dPos.getZ() >= 0)
+        if (dz >= 0)
         {
             walk(currentNode, BLOCKPOS_SOUTH);
         }
 
         // W
-        if (dPos.getX() <= 0)
+        if (dx <= 0)
         {
             walk(currentNode, BLOCKPOS_WEST);
         }
     }
 
-    private boolean onLadderGoingDown(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
+    private boolean onLadderGoingDown(@NotNull final Node currentNode, final int dx, final int dy, final int dz)
     {
-        return (dPos.getY() <= 0 || dPos.getX() != 0 || dPos.getZ() != 0) && isLadder(currentNode.pos.down());
+        return (dy <= 0 || dx != 0 || dz != 0) && isLadder(currentNode.pos.down());
     }
 
     private void handleDebugDraw()
@@ -512,14 +510,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = arena.obtain(null, start, 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
             startNode.setLadder();
         }
-        else if (world.getBlockState(start).getMaterial().isLiquid())
+        else if ((snapshot.getFlags(start) & PassabilitySnapshot.LIQUID) != 0)
         {
             startNode.setSwimming();
         }
@@ -582,8 +580,11 @@ public abstract class AbstractPathJob implements Callable<Path>
                 if (nextInPath.pos.getY() > pos.getY())
                 {
                     //  We only care about facing if going up
-                    //In the case of BlockVines (Which does not have EnumFacing) we have to check the metadata of the vines... bitwise...
-                    setLadderFacing(world, pos, p);
+                    final EnumFacing facing = PassabilitySnapshot.getLadderFacing(snapshot.getFlags(pos));
+                    if (facing != null)
+                    {
+                        p.setLadderFacing(facing);
+                    }
                 }
             }
             else if (onALadder(node.parent, node.parent, pos))
@@ -665,7 +666,8 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final BlockPos.MutableBlockPos pos = walkPos;
+        pos.setPos(parent.pos.getX() + dPos.getX(), parent.pos.getY() + dPos.getY(), parent.pos.getZ() + dPos.getZ());
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
@@ -680,14 +682,19 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
+        //  Delta used for the step cost, the y fix is applied on top of the walk delta
+        int costDx = dPos.getX();
+        int costDy = dPos.getY();
+        int costDz = dPos.getZ();
 
         if (pos.getY() != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
+            costDx += dPos.getX();
+            costDy += dPos.getY() + newY - pos.getY();
+            costDz += dPos.getZ();
 
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
+            pos.setPos(pos.getX(), newY, pos.getZ());
             nodeKey = computeNodeKey(pos);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
@@ -698,10 +705,10 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
 
-        final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean isSwimming = calculateSwimming(pos, node);
+        final boolean onRoad = (snapshot.getFlags(pos.getX(), pos.getY() - 1, pos.getZ()) & PassabilitySnapshot.PATH) != 0;
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(costDx, costDy, costDz, isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
@@ -709,6 +716,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         if (node == null)
         {
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
@@ -716,8 +724,6 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -740,7 +746,7 @@ public abstract class AbstractPathJob implements Callable<Path>
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        node = arena.obtain(parent, pos, cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -769,7 +775,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -779,6 +785,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        nodesOpen.decreaseKey(node);
         return false;
     }
 
@@ -799,14 +806,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Now check the block we want to move to
-        final IBlockState target = world.getBlockState(pos);
+        final int target = snapshot.getFlags(pos);
         if (!isPassable(target))
         {
             return handleTargeNotPassable(parent, pos, target);
         }
 
         //  Do we have something to stand on in the target space?
-        final IBlockState below = world.getBlockState(pos.down());
+        final int below = snapshot.getFlags(pos.getX(), pos.getY() - 1, pos.getZ());
         final SurfaceType walkability = isWalkableSurface(below);
         if (walkability == SurfaceType.WALKABLE)
         {
@@ -821,16 +828,16 @@ public abstract class AbstractPathJob implements Callable<Path>
         return handleNotStanding(parent, pos, below);
     }
 
-    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState below)
+    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, final int below)
     {
         final boolean isSwimming = parent != null && parent.isSwimming();
 
-        if (below.getMaterial().isLiquid())
+        if ((below & PassabilitySnapshot.LIQUID) != 0)
         {
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if ((below & PassabilitySnapshot.LADDER) != 0)
         {
             return pos.getY();
         }
@@ -847,8 +854,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return -1;
         }
 
-        final BlockPos down = pos.down(2);
-        final IBlockState below = world.getBlockState(down);
+        final int below = snapshot.getFlags(pos.getX(), pos.getY() - 2, pos.getZ());
         if (isWalkableSurface(below) == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -858,7 +864,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final IBlockState below, final boolean isSwimming)
+    private int handleInLiquid(@NotNull final BlockPos pos, final int below, final boolean isSwimming)
     {
         if (isSwimming)
         {
@@ -866,7 +872,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return pos.getY();
         }
 
-        if (allowSwimming && below.getMaterial() == Material.WATER)
+        if (allowSwimming && (below & PassabilitySnapshot.WATER) != 0)
         {
             //  This is water, and we are allowed to swim
             return pos.getY();
@@ -876,7 +882,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState target)
+    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos, final int target)
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
@@ -886,13 +892,13 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Check for headroom in the target space
-        if (!isPassable(pos.up(2)))
+        if (!isPassable(snapshot.getFlags(pos.getX(), pos.getY() + 2, pos.getZ())))
         {
             return -1;
         }
 
         //  Check for jump room from the origin space
-        if (!isPassable(parent.pos.up(2)))
+        if (!isPassable(snapshot.getFlags(parent.pos.getX(), parent.pos.getY() + 2, parent.pos.getZ())))
         {
             return -1;
         }
@@ -903,15 +909,15 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private boolean checkHeadBlock(@Nullable final Node parent, @NotNull final BlockPos pos)
     {
-        if (!isPassable(pos.up()))
+        if (!isPassable(snapshot.getFlags(pos.getX(), pos.getY() + 1, pos.getZ())))
         {
             return true;
         }
 
         if (parent != null)
         {
-            final IBlockState hereState = world.getBlockState(parent.pos.down());
-            if (hereState.getMaterial().isLiquid() && !isPassable(pos))
+            final int hereFlags = snapshot.getFlags(parent.pos.getX(), parent.pos.getY() - 1, parent.pos.getZ());
+            if ((hereFlags & PassabilitySnapshot.LIQUID) != 0 && !isPassable(pos))
             {
                 return true;
             }
@@ -922,57 +928,34 @@ public abstract class AbstractPathJob implements Callable<Path>
     /**
      * Is the space passable.
      *
-     * @param block the block we are checking.
+     * @param flags the snapshot flags of the block we are checking.
      * @return true if the block does not block movement.
      */
-    protected boolean isPassable(@NotNull final IBlockState block)
+    protected boolean isPassable(final int flags)
     {
-        if (block.getMaterial() != Material.AIR)
-        {
-            if (block.getMaterial().blocksMovement())
-            {
-                return block.getBlock() instanceof BlockDoor
-                         || block.getBlock() instanceof BlockFenceGate
-                         || block.getBlock() instanceof BlockConstructionTape;
-            }
-            else if (block.getMaterial().isLiquid())
-            {
-                return false;
-            }
-        }
-
-        return true;
+        return (flags & PassabilitySnapshot.PASSABLE) != 0;
     }
 
     protected boolean isPassable(final BlockPos pos)
     {
-        return isPassable(world.getBlockState(pos));
+        return isPassable(snapshot.getFlags(pos));
     }
 
     /**
      * Is the block solid and can be stood upon.
      *
-     * @param blockState Block to check.
+     * @param flags the snapshot flags of the block to check.
      * @return true if the block at that location can be walked on.
      */
     @NotNull
-    protected SurfaceType isWalkableSurface(@NotNull final IBlockState blockState)
+    protected SurfaceType isWalkableSurface(final int flags)
     {
-        final Block block = blockState.getBlock();
-        if (block instanceof BlockFence
-              || block instanceof BlockFenceGate
-              || block instanceof BlockWall
-              || block instanceof BlockHutField)
+        if ((flags & PassabilitySnapshot.BLOCKED_SURFACE) != 0)
         {
             return SurfaceType.NOT_PASSABLE;
         }
 
-        if (block instanceof BlockConstructionTape)
-        {
-            return SurfaceType.DROPABLE;
-        }
-
-        if (blockState.getMaterial().isSolid())
+        if ((flags & PassabilitySnapshot.SOLID_SURFACE) != 0)
         {
             return SurfaceType.WALKABLE;
         }
@@ -980,21 +963,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return SurfaceType.DROPABLE;
     }
 
-    /**
-     * Is the block a ladder.
-     *
-     * @param block block to check.
-     * @param pos   location of the block.
-     * @return true if the block is a ladder.
-     */
-    protected boolean isLadder(@NotNull final Block block, final BlockPos pos)
-    {
-        return block.isLadder(this.world.getBlockState(pos), world, pos, null);
-    }
-
     protected boolean isLadder(final BlockPos pos)
     {
-        return isLadder(world.getBlockState(pos).getBlock(), pos);
+        return (snapshot.getFlags(pos) & PassabilitySnapshot.LADDER) != 0;
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A job run on the pathfinding threads by the {@link PathJobScheduler}.
+ *
+ * @param <T> the result of the job.
+ */
+public abstract class AbstractScheduledJob<T> implements Callable<T>
+{
+    @Nullable
+    private Entity       owner    = null;
+    private int          colonyId = 0;
+    @NotNull
+    private PathPriority priority = PathPriority.NORMAL;
+
+    /**
+     * Set who the job is computed for, used to schedule the job fairly.
+     *
+     * @param owner    the entity which will use the result, a newer job of it supersedes this one.
+     * @param colonyId the colony of the entity, 0 for none.
+     * @param priority the scheduling priority.
+     */
+    public void setScheduling(@Nullable final Entity owner, final int colonyId, @NotNull final PathPriority priority)
+    {
+        this.owner = owner;
+        this.colonyId = colonyId;
+        this.priority = priority;
+    }
+
+    /**
+     * Get the entity the job is computed for.
+     *
+     * @return the entity or null.
+     */
+    @Nullable
+    public Entity getOwner()
+    {
+        return owner;
+    }
+
+    /**
+     * Get the colony of the entity the job is computed for.
+     *
+     * @return the colony id, 0 for none.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * Get the scheduling priority of the job.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathPriority getPriority()
+    {
+        return priority;
+    }
+}
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.entity.ai.pathfinding.AbstractWalkToProxy;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Vec2i;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.BuildingMiner;
@@ -13,6 +14,7 @@ import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -28,6 +30,11 @@ public class EntityCitizenWalkToProxy extends AbstractWalkToProxy
      */
     private final EntityCitizen citizen;
 
+    /**
+     * The coarse route searched in the background.
+     */
+    private final PendingRoute pendingRoute = new PendingRoute();
+
     /**
      * Creates a walkToProxy for a certain worker.
      *
@@ -39,6 +46,24 @@ public class EntityCitizenWalkToProxy extends AbstractWalkToProxy
         this.citizen = entity;
     }
 
+    @Override
+    public boolean walkToBlock(@NotNull final BlockPos target, final int range, final boolean onMove)
+    {
+        final List<BlockPos> route = pendingRoute.poll(target);
+        if (route != null)
+        {
+            replaceProxyList(route, target);
+        }
+        return super.walkToBlock(target, range, onMove);
+    }
+
+    @Override
+    public void reset()
+    {
+        pendingRoute.cancel();
+        super.reset();
+    }
+
     @Override
     public Set<BlockPos> getWayPoints()
     {
@@ -64,6 +89,19 @@ public class EntityCitizenWalkToProxy extends AbstractWalkToProxy
         {
             return getMinerProxy(target, distanceToPath, (BuildingMiner) building);
         }
+        return getRouteProxy(target);
+    }
+
+    /**
+     * Request the coarse route to the target, the proxies are replaced by it once it was found.
+     *
+     * @param target the target.
+     * @return null, the waypoints are used until the route was found.
+     */
+    @Nullable
+    private BlockPos getRouteProxy(@NotNull final BlockPos target)
+    {
+        pendingRoute.request(CompatibilityUtils.getWorld(citizen), citizen.getPosition(), target, citizen.getColony() == null ? 0 : citizen.getColony().getID());
         return null;
     }
 
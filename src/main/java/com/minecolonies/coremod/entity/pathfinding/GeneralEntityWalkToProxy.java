@@ -5,9 +5,11 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -15,6 +17,10 @@ import java.util.Set;
  */
 public class GeneralEntityWalkToProxy extends AbstractWalkToProxy
 {
+    /**
+     * The coarse route searched in the background.
+     */
+    private final PendingRoute pendingRoute = new PendingRoute();
 
     /**
      * Creates a walkToProxy for a certain worker.
@@ -26,6 +32,24 @@ public class GeneralEntityWalkToProxy extends AbstractWalkToProxy
         super(entity);
     }
 
+    @Override
+    public boolean walkToBlock(@NotNull final BlockPos target, final int range, final boolean onMove)
+    {
+        final List<BlockPos> route = pendingRoute.poll(target);
+        if (route != null)
+        {
+            replaceProxyList(route, target);
+        }
+        return super.walkToBlock(target, range, onMove);
+    }
+
+    @Override
+    public void reset()
+    {
+        pendingRoute.cancel();
+        super.reset();
+    }
+
     @Override
     public Set<BlockPos> getWayPoints()
     {
@@ -51,6 +75,9 @@ public class GeneralEntityWalkToProxy extends AbstractWalkToProxy
     @Override
     public BlockPos getSpecializedProxy(final BlockPos target, final double distanceToPath)
     {
+        //  The waypoints are used until the coarse route was found
+        final EntityLiving living = getEntity();
+        pendingRoute.request(living.getEntityWorld(), living.getPosition(), target, 0);
         return null;
     }
 }
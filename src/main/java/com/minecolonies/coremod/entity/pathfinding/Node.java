@@ -16,16 +16,22 @@ public class Node implements Comparable<Node>
     private static final int HASH_B = 20;
     private static final int HASH_C = 24;
 
+    /**
+     * Index of the node in the open heap, or -1 if it is not queued.
+     */
+    int heapIndex = -1;
+
     /**
      * The position of the node.
+     * Mutable because nodes are recycled between searches, never keep a reference to it.
      */
     @NotNull
-    public final BlockPos pos;
+    public final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -102,14 +108,45 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        init(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * Create an empty Node, to be set up with {@link #init(Node, BlockPos, double, double, double)}.
+     */
+    Node()
+    {
+        //Used by the node arena.
+    }
+
+    /**
+     * (Re-)initialize the Node, resetting all search state.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node, copied.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return this node.
+     */
+    @NotNull
+    Node init(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
-        this.pos = pos;
+        this.pos.setPos(pos);
         this.steps = parent == null ? 0 : (parent.steps + 1);
         this.cost = cost;
         this.heuristic = heuristic;
         this.score = score;
         this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.heapIndex = -1;
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        return this;
     }
 
     @Override
@@ -0,0 +1,132 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per pathfinding thread storage for a search: recycles the nodes, the visited map and the open heap between jobs,
+ * so a search does not allocate once the thread warmed up.
+ */
+public class NodeArena
+{
+    /**
+     * Max amount of nodes kept for reuse after a search.
+     */
+    private static final int MAX_POOLED_NODES = 1 << 15;
+
+    /**
+     * The arena of the current thread.
+     */
+    private static final ThreadLocal<NodeArena> ARENA = ThreadLocal.withInitial(NodeArena::new);
+
+    /**
+     * All nodes handed out so far, recycled in order.
+     */
+    private final List<Node> pool = new ArrayList<>();
+
+    /**
+     * The visited nodes of the current search.
+     */
+    private final NodeMap visited = new NodeMap();
+
+    /**
+     * The open nodes of the current search.
+     */
+    private final NodeHeap open = new NodeHeap();
+
+    /**
+     * Index of the next node to hand out.
+     */
+    private int next;
+
+    /**
+     * Whether nodes are recycled, false while something else (debug draw) keeps references to them.
+     */
+    private boolean recycle = true;
+
+    /**
+     * Get the arena of the calling thread.
+     *
+     * @return the arena.
+     */
+    @NotNull
+    public static NodeArena get()
+    {
+        return ARENA.get();
+    }
+
+    /**
+     * Prepare the arena for a new search, invalidating all nodes of the previous one.
+     *
+     * @param recycleNodes false if the nodes of this search must stay valid after it, e.g. for debug draw.
+     */
+    public void reset(final boolean recycleNodes)
+    {
+        open.clear();
+        visited.clear();
+        next = 0;
+        recycle = recycleNodes;
+        if (pool.size() > MAX_POOLED_NODES)
+        {
+            pool.subList(MAX_POOLED_NODES, pool.size()).clear();
+        }
+    }
+
+    /**
+     * Obtain an initialized node.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node, copied.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    public Node obtain(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        if (!recycle)
+        {
+            return new Node(parent, pos, cost, heuristic, score);
+        }
+
+        final Node node;
+        if (next < pool.size())
+        {
+            node = pool.get(next);
+        }
+        else
+        {
+            node = new Node();
+            pool.add(node);
+        }
+        next++;
+        return node.init(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * Get the visited map of the current search.
+     *
+     * @return the map.
+     */
+    @NotNull
+    public NodeMap getVisited()
+    {
+        return visited;
+    }
+
+    /**
+     * Get the open heap of the current search.
+     *
+     * @return the heap.
+     */
+    @NotNull
+    public NodeHeap getOpen()
+    {
+        return open;
+    }
+}
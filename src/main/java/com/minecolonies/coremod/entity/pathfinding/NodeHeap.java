@@ -0,0 +1,185 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of nodes, ordered by {@link Node#compareTo(Node)}.
+ * Every node knows its own index, which makes contains and decrease-key O(1) and O(log n)
+ * instead of the linear scan of {@link java.util.PriorityQueue#remove(Object)}.
+ */
+public class NodeHeap
+{
+    /**
+     * Initial capacity of the heap.
+     */
+    private static final int INITIAL_CAPACITY = 500;
+
+    /**
+     * Capacity above which the array is dropped again on a clear.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 15;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap = new Node[INITIAL_CAPACITY];
+
+    /**
+     * Amount of queued nodes.
+     */
+    private int size;
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node, must not be queued already.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        node.heapIndex = size;
+        heap[size] = node;
+        size++;
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Remove and return the smallest node.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node first = heap[0];
+        size--;
+        final Node last = heap[size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.heapIndex = 0;
+            siftDown(0);
+        }
+        first.heapIndex = -1;
+        return first;
+    }
+
+    /**
+     * Check if a node is queued in this heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        return node.heapIndex >= 0 && node.heapIndex < size && heap[node.heapIndex] == node;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node decreased.
+     *
+     * @param node the node.
+     */
+    public void decreaseKey(@NotNull final Node node)
+    {
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].heapIndex = -1;
+        }
+
+        if (heap.length > MAX_RETAINED_CAPACITY)
+        {
+            heap = new Node[INITIAL_CAPACITY];
+        }
+        else
+        {
+            Arrays.fill(heap, 0, size, null);
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int index)
+    {
+        final Node node = heap[index];
+        int i = index;
+        while (i > 0)
+        {
+            final int parentIndex = (i - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[i] = parent;
+            parent.heapIndex = i;
+            i = parentIndex;
+        }
+        heap[i] = node;
+        node.heapIndex = i;
+    }
+
+    private void siftDown(final int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        int i = index;
+        while (i < half)
+        {
+            int child = (i << 1) + 1;
+            final int right = child + 1;
+            if (right < size && heap[right].compareTo(heap[child]) < 0)
+            {
+                child = right;
+            }
+            if (node.compareTo(heap[child]) <= 0)
+            {
+                break;
+            }
+            heap[i] = heap[child];
+            heap[i].heapIndex = i;
+            i = child;
+        }
+        heap[i] = node;
+        node.heapIndex = i;
+    }
+}
@@ -0,0 +1,173 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from primitive node keys to nodes, avoids boxing the keys of the visited nodes.
+ * Uses linear probing, a null value marks a free slot.
+ */
+public class NodeMap
+{
+    /**
+     * Initial capacity, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /**
+     * Capacity above which the table is dropped again on a clear, to not keep huge tables around forever.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * Max fill ratio before the table grows.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Multiplier spreading the bits of the key (golden ratio).
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * The keys.
+     */
+    private int[] keys;
+
+    /**
+     * The values, null for empty slots.
+     */
+    private Node[] values;
+
+    /**
+     * Amount of stored nodes.
+     */
+    private int size;
+
+    /**
+     * Amount of nodes which can be stored before growing.
+     */
+    private int threshold;
+
+    /**
+     * Create an empty map.
+     */
+    public NodeMap()
+    {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Get the node stored at a key.
+     *
+     * @param key the node key.
+     * @return the node or null.
+     */
+    @Nullable
+    public Node get(final int key)
+    {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        Node value;
+        while ((value = values[slot]) != null)
+        {
+            if (keys[slot] == key)
+            {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node at a key, replacing the previous one.
+     *
+     * @param key  the node key.
+     * @param node the node.
+     */
+    public void put(final int key, @NotNull final Node node)
+    {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = node;
+        if (++size > threshold)
+        {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Amount of nodes in the map.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes.
+     */
+    public void clear()
+    {
+        if (keys.length > MAX_RETAINED_CAPACITY)
+        {
+            allocate(INITIAL_CAPACITY);
+        }
+        else if (size > 0)
+        {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    private void rehash(final int newCapacity)
+    {
+        final int[] oldKeys = keys;
+        final Node[] oldValues = values;
+        allocate(newCapacity);
+
+        final int mask = newCapacity - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int slot = hash(oldKeys[i]) & mask;
+                while (values[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity)
+    {
+        keys = new int[capacity];
+        values = new Node[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(final int key)
+    {
+        final int h = key * HASH_MULTIPLIER;
+        return h ^ (h >>> 16);
+    }
+}
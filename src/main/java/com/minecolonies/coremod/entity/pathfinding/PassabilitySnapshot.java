@@ -0,0 +1,548 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.BlockConstructionTape;
+import com.minecolonies.coremod.blocks.BlockHutField;
+import net.minecraft.block.*;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pathing relevant properties of the blocks in an area.
+ * Created on the server thread, which takes the classified sections of the area from the cache of the world
+ * and only classifies the ones which aren't cached, so the pathfinding threads never read the world.
+ * Every block is packed into a char of flags, per chunk section.
+ * Sections are immutable and shared by all snapshots holding them, the cache drops a section when a block inside it changes.
+ */
+public final class PassabilitySnapshot
+{
+    /**
+     * The block does not block movement.
+     */
+    public static final int PASSABLE        = 1;
+    /**
+     * The block is a liquid.
+     */
+    public static final int LIQUID          = 1 << 1;
+    /**
+     * The block is water.
+     */
+    public static final int WATER           = 1 << 2;
+    /**
+     * The block can be climbed.
+     */
+    public static final int LADDER          = 1 << 3;
+    /**
+     * The block is a path block, cheaper to walk on.
+     */
+    public static final int PATH            = 1 << 4;
+    /**
+     * The block is leaves.
+     */
+    public static final int LEAVES          = 1 << 5;
+    /**
+     * The block can be stood upon.
+     */
+    public static final int SOLID_SURFACE   = 1 << 6;
+    /**
+     * The block can neither be stood upon nor dropped through, fences, walls and alike.
+     */
+    public static final int BLOCKED_SURFACE = 1 << 7;
+
+    /**
+     * Shift of the ladder facing, stored as horizontal index + 1, 0 for none.
+     */
+    private static final int FACING_SHIFT = 8;
+    private static final int FACING_MASK  = 0b111;
+
+    /**
+     * Vine metadata bits of the side the vine is attached to.
+     */
+    private static final int SHIFT_SOUTH = 1;
+    private static final int SHIFT_WEST  = 2;
+    private static final int SHIFT_NORTH = 3;
+    private static final int SHIFT_EAST  = 4;
+
+    /**
+     * Sections per chunk column and blocks per section.
+     */
+    private static final int SECTIONS_PER_CHUNK = 16;
+    private static final int SECTION_VOLUME     = 16 * 16 * 16;
+    private static final int MAX_Y              = 256;
+
+    /**
+     * Max amount of cached sections per world, several times the sections one snapshot holds,
+     * so repeated jobs around a colony keep hitting the cache.
+     */
+    private static final int MAX_CACHED_SECTIONS = 8192;
+
+    /**
+     * The flags of every block state seen so far, block states are singletons.
+     */
+    private static final Map<IBlockState, Character> flagsByState = new ConcurrentHashMap<>();
+
+    /**
+     * Shared sections which have the same flags for every block.
+     */
+    private static final Map<Character, Section> uniformSections = new ConcurrentHashMap<>();
+
+    /**
+     * Flags of air, used outside of the snapshot.
+     */
+    private static final char AIR = classify(Blocks.AIR.getDefaultState(), null, BlockPos.ORIGIN);
+
+    /**
+     * The cached sections of the worlds which report their block changes, by dimension.
+     */
+    private static final Map<Integer, SectionCache> caches = new ConcurrentHashMap<>();
+
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int sizeX;
+    private final int sizeZ;
+
+    /**
+     * Whether each chunk of the area was loaded.
+     */
+    private final boolean[] loaded;
+
+    /**
+     * The sections of the area, null for the ones of chunks which weren't loaded.
+     */
+    private final Section[] sections;
+
+    private PassabilitySnapshot(final int minChunkX, final int minChunkZ, final int sizeX, final int sizeZ)
+    {
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.loaded = new boolean[sizeX * sizeZ];
+        this.sections = new Section[sizeX * sizeZ * SECTIONS_PER_CHUNK];
+    }
+
+    /**
+     * Create the snapshot of an area, must be called from the server thread.
+     * Cached sections are shared, only sections without a cached copy are classified.
+     *
+     * @param world the world.
+     * @param minX  the min x coordinate.
+     * @param minZ  the min z coordinate.
+     * @param maxX  the max x coordinate.
+     * @param maxZ  the max z coordinate.
+     * @return the snapshot over the full height of the chunks in the area.
+     */
+    @NotNull
+    public static PassabilitySnapshot create(@NotNull final World world, final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        return create(world, minX, minZ, maxX, maxZ, false);
+    }
+
+    /**
+     * Create the snapshot of the loaded chunks in an area, must be called from the server thread.
+     * Unlike {@link #create(World, int, int, int, int)} no chunks are loaded, the ones which aren't read as air.
+     *
+     * @param world the world.
+     * @param minX  the min x coordinate.
+     * @param minZ  the min z coordinate.
+     * @param maxX  the max x coordinate.
+     * @param maxZ  the max z coordinate.
+     * @return the snapshot over the full height of the chunks in the area.
+     */
+    @NotNull
+    public static PassabilitySnapshot createLoaded(@NotNull final World world, final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        return create(world, minX, minZ, maxX, maxZ, true);
+    }
+
+    @NotNull
+    private static PassabilitySnapshot create(
+                                               @NotNull final World world,
+                                               final int minX,
+                                               final int minZ,
+                                               final int maxX,
+                                               final int maxZ,
+                                               final boolean loadedOnly)
+    {
+        final int minChunkX = minX >> 4;
+        final int minChunkZ = minZ >> 4;
+        final PassabilitySnapshot snapshot = new PassabilitySnapshot(minChunkX, minChunkZ, (maxX >> 4) - minChunkX + 1, (maxZ >> 4) - minChunkZ + 1);
+        final SectionCache cache = world.isRemote ? null : caches.get(world.provider.getDimension());
+
+        for (int cx = 0; cx < snapshot.sizeX; cx++)
+        {
+            for (int cz = 0; cz < snapshot.sizeZ; cz++)
+            {
+                final Chunk chunk = loadedOnly
+                                      ? world.getChunkProvider().getLoadedChunk(minChunkX + cx, minChunkZ + cz)
+                                      : world.getChunkFromChunkCoords(minChunkX + cx, minChunkZ + cz);
+                if (chunk == null)
+                {
+                    continue;
+                }
+
+                final int column = cx * snapshot.sizeZ + cz;
+                snapshot.loaded[column] = true;
+                for (int sy = 0; sy < SECTIONS_PER_CHUNK; sy++)
+                {
+                    snapshot.sections[column * SECTIONS_PER_CHUNK + sy] = getSection(world, cache, chunk, sy);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get a section from the cache, or classify it.
+     *
+     * @param world the world.
+     * @param cache the cache of the world, null if it has none.
+     * @param chunk the chunk of the section.
+     * @param sy    the section y.
+     * @return the section.
+     */
+    @NotNull
+    private static Section getSection(@NotNull final World world, @Nullable final SectionCache cache, @NotNull final Chunk chunk, final int sy)
+    {
+        final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sy];
+        if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty())
+        {
+            return uniform(AIR);
+        }
+
+        if (cache == null)
+        {
+            return buildSection(world, storage, chunk.x << 4, sy << 4, chunk.z << 4);
+        }
+
+        final long key = sectionKey(chunk.x, sy, chunk.z);
+        Section section = cache.get(key);
+        if (section == null)
+        {
+            section = buildSection(world, storage, chunk.x << 4, sy << 4, chunk.z << 4);
+            cache.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * Start caching the sections of a world, must only be called for worlds which report block changes
+     * to {@link #onBlockChange(World, BlockPos)}.
+     *
+     * @param world the world.
+     */
+    public static void register(@NotNull final World world)
+    {
+        caches.computeIfAbsent(world.provider.getDimension(), dim -> new SectionCache());
+    }
+
+    /**
+     * Drop the cached sections of a world.
+     *
+     * @param world the world.
+     */
+    public static void unregister(@NotNull final World world)
+    {
+        caches.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Drop the cached section containing a changed block, snapshots already holding it keep their copy.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChange(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote || pos.getY() < 0 || pos.getY() >= MAX_Y)
+        {
+            return;
+        }
+
+        final SectionCache cache = caches.get(world.provider.getDimension());
+        if (cache != null)
+        {
+            cache.invalidate(sectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    /**
+     * Check if a chunk is in the snapshot and was loaded when it was created.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return true if so.
+     */
+    public boolean isLoaded(final int chunkX, final int chunkZ)
+    {
+        final int cx = chunkX - minChunkX;
+        final int cz = chunkZ - minChunkZ;
+        return cx >= 0 && cx < sizeX && cz >= 0 && cz < sizeZ && loaded[cx * sizeZ + cz];
+    }
+
+    /**
+     * Get the flags of a block.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the flags, the ones of air outside of the snapshot.
+     */
+    public int getFlags(final int x, final int y, final int z)
+    {
+        if (y < 0 || y >= MAX_Y)
+        {
+            return AIR;
+        }
+
+        final int cx = (x >> 4) - minChunkX;
+        final int cz = (z >> 4) - minChunkZ;
+        if (cx < 0 || cx >= sizeX || cz < 0 || cz >= sizeZ)
+        {
+            return AIR;
+        }
+
+        final Section section = sections[(cx * sizeZ + cz) * SECTIONS_PER_CHUNK + (y >> 4)];
+        return section == null ? AIR : section.get(((y & 15) << 8) | ((z & 15) << 4) | (x & 15));
+    }
+
+    /**
+     * Get the flags of a block.
+     *
+     * @param pos the position.
+     * @return the flags, the ones of air outside of the snapshot.
+     */
+    public int getFlags(@NotNull final BlockPos pos)
+    {
+        return getFlags(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Get the facing of a ladder.
+     *
+     * @param flags the flags of the block.
+     * @return the facing, or null if it isn't a ladder with a facing.
+     */
+    @Nullable
+    public static EnumFacing getLadderFacing(final int flags)
+    {
+        final int facing = (flags >> FACING_SHIFT) & FACING_MASK;
+        return facing == 0 ? null : EnumFacing.getHorizontal(facing - 1);
+    }
+
+    private static long sectionKey(final int chunkX, final int sectionY, final int chunkZ)
+    {
+        return ((long) chunkX & 0x3FFFFFFL) << 38 | ((long) chunkZ & 0x3FFFFFFL) << 12 | (sectionY & 0xFFF);
+    }
+
+    @NotNull
+    private static Section buildSection(
+                                         @NotNull final IBlockAccess world,
+                                         @NotNull final ExtendedBlockStorage storage,
+                                         final int originX,
+                                         final int originY,
+                                         final int originZ)
+    {
+        final char[] flags = new char[SECTION_VOLUME];
+        boolean isUniform = true;
+        int index = 0;
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++, index++)
+                {
+                    final IBlockState state = storage.get(x, y, z);
+                    Character value = flagsByState.get(state);
+                    if (value == null)
+                    {
+                        value = classify(state, world, new BlockPos(originX + x, originY + y, originZ + z));
+                        flagsByState.putIfAbsent(state, value);
+                    }
+                    flags[index] = value;
+                    isUniform &= flags[index] == flags[0];
+                }
+            }
+        }
+
+        return isUniform ? uniform(flags[0]) : new Section(flags[0], flags);
+    }
+
+    @NotNull
+    private static Section uniform(final char flags)
+    {
+        return uniformSections.computeIfAbsent(flags, value -> new Section(value, null));
+    }
+
+    /**
+     * Compute the flags of a block state.
+     * Ladders are assumed to be one regardless of their position, the position of the first occurrence is used.
+     *
+     * @param state the state.
+     * @param world the world the state was found in.
+     * @param pos   the position the state was found at.
+     * @return the flags.
+     */
+    private static char classify(@NotNull final IBlockState state, @Nullable final IBlockAccess world, @NotNull final BlockPos pos)
+    {
+        final Block block = state.getBlock();
+        final Material material = state.getMaterial();
+        int flags = 0;
+
+        if (material == Material.AIR
+              || (material.blocksMovement() && (block instanceof BlockDoor || block instanceof BlockFenceGate || block instanceof BlockConstructionTape))
+              || (!material.blocksMovement() && !material.isLiquid()))
+        {
+            flags |= PASSABLE;
+        }
+
+        if (material.isLiquid())
+        {
+            flags |= LIQUID;
+        }
+
+        if (material == Material.WATER)
+        {
+            flags |= WATER;
+        }
+
+        if (material == Material.LEAVES)
+        {
+            flags |= LEAVES;
+        }
+
+        if (BlockUtils.isPathBlock(block))
+        {
+            flags |= PATH;
+        }
+
+        if (block instanceof BlockFence || block instanceof BlockFenceGate || block instanceof BlockWall || block instanceof BlockHutField)
+        {
+            flags |= BLOCKED_SURFACE;
+        }
+        else if (!(block instanceof BlockConstructionTape) && material.isSolid())
+        {
+            flags |= SOLID_SURFACE;
+        }
+
+        if (block.isLadder(state, world, pos, null))
+        {
+            flags |= LADDER;
+            final EnumFacing facing = getLadderFacing(state);
+            if (facing != null)
+            {
+                flags |= (facing.getHorizontalIndex() + 1) << FACING_SHIFT;
+            }
+        }
+
+        return (char) flags;
+    }
+
+    /**
+     * Get the direction a ladder is facing.
+     * In the case of BlockVines (Which does not have EnumFacing) we have to check the metadata of the vines... bitwise...
+     *
+     * @param state the state of the ladder.
+     * @return the facing or null if unknown.
+     */
+    @Nullable
+    private static EnumFacing getLadderFacing(@NotNull final IBlockState state)
+    {
+        if (state.getBlock() instanceof BlockVine)
+        {
+            final int meta = state.getBlock().getMetaFromState(state);
+
+            if (((meta >>> SHIFT_SOUTH) & 1) != 0)
+            {
+                return EnumFacing.SOUTH;
+            }
+            else if (((meta >>> SHIFT_WEST) & 1) != 0)
+            {
+                return EnumFacing.WEST;
+            }
+            else if (((meta >>> SHIFT_NORTH) & 1) != 0)
+            {
+                return EnumFacing.NORTH;
+            }
+            else if (((meta >>> SHIFT_EAST) & 1) != 0)
+            {
+                return EnumFacing.EAST;
+            }
+            return null;
+        }
+
+        if (state.getPropertyKeys().contains(BlockLadder.FACING))
+        {
+            return state.getValue(BlockLadder.FACING);
+        }
+        return null;
+    }
+
+    /**
+     * The cached sections of one world, only accessed by the server thread.
+     */
+    private static final class SectionCache
+    {
+        /**
+         * The sections in LRU order.
+         */
+        private final LinkedHashMap<Long, Section> sections = new LinkedHashMap<Long, Section>(MAX_CACHED_SECTIONS, 0.75F, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Section> eldest)
+            {
+                return size() > MAX_CACHED_SECTIONS;
+            }
+        };
+
+        @Nullable
+        private Section get(final long key)
+        {
+            return sections.get(key);
+        }
+
+        private void put(final long key, @NotNull final Section section)
+        {
+            sections.put(key, section);
+        }
+
+        private void invalidate(final long key)
+        {
+            sections.remove(key);
+        }
+    }
+
+    /**
+     * The flags of one chunk section, immutable.
+     */
+    private static final class Section
+    {
+        private final char   uniform;
+        @Nullable
+        private final char[] flags;
+
+        private Section(final char uniform, @Nullable final char[] flags)
+        {
+            this.uniform = uniform;
+            this.flags = flags;
+        }
+
+        private int get(final int index)
+        {
+            return flags == null ? uniform : flags[index];
+        }
+    }
+}
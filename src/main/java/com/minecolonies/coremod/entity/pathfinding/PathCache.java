@@ -0,0 +1,442 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Per world cache of computed paths, shared by all entities.
+ * Entries are keyed by the job type, the start position quantized to a small cell and the exact destination,
+ * and are dropped as soon as a block inside their bounding box changes.
+ * Only accessed from the server thread.
+ */
+public final class PathCache
+{
+    /**
+     * Bits the start position is shifted by, 2x2x2 block cells.
+     */
+    private static final int START_QUANTIZATION_SHIFT = 1;
+
+    /**
+     * Max amount of cached paths per world.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Max age of an entry in ticks, entities and doors are not covered by the block invalidation.
+     */
+    private static final long MAX_AGE_TICKS = 20L * 60 * 5;
+
+    /**
+     * Margin around the path points covered by the invalidation box (floor and head room).
+     */
+    private static final int BOX_MARGIN = 2;
+
+    /**
+     * The caches of the worlds which report their block changes, by dimension.
+     */
+    private static final Map<Integer, PathCache> caches = new HashMap<>();
+
+    /**
+     * The entries in LRU order.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest)
+        {
+            if (size() > MAX_ENTRIES)
+            {
+                unindex(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The entries by the chunks their bounding box touches.
+     */
+    private final Map<Long, List<Entry>> entriesByChunk = new HashMap<>();
+
+    /**
+     * Amount of lookups which found a path.
+     */
+    private long hits = 0;
+
+    /**
+     * Amount of lookups which found nothing.
+     */
+    private long misses = 0;
+
+    /**
+     * Amount of entries dropped by block changes.
+     */
+    private long invalidations = 0;
+
+    /**
+     * Private constructor, use {@link #register(World)}.
+     */
+    private PathCache()
+    {
+        //Use register.
+    }
+
+    /**
+     * Create the cache of a world, must only be called for worlds which report block changes
+     * to {@link #onBlockChange(World, BlockPos)}.
+     *
+     * @param world the world.
+     */
+    public static void register(@NotNull final World world)
+    {
+        caches.computeIfAbsent(world.provider.getDimension(), dim -> new PathCache());
+    }
+
+    /**
+     * Drop the cache of a world.
+     *
+     * @param world the world.
+     */
+    public static void unregister(@NotNull final World world)
+    {
+        caches.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Get the cache of a world.
+     *
+     * @param world the world.
+     * @return the cache or null if paths in this world can't be cached.
+     */
+    @Nullable
+    public static PathCache forWorld(@NotNull final World world)
+    {
+        if (world.isRemote)
+        {
+            return null;
+        }
+        return caches.get(world.provider.getDimension());
+    }
+
+    /**
+     * Drop all paths of a world which pass close to a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChange(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final PathCache cache = forWorld(world);
+        if (cache != null)
+        {
+            cache.invalidate(pos);
+        }
+    }
+
+    /**
+     * Find a cached path.
+     *
+     * @param jobType the type of the path job.
+     * @param start   the start position.
+     * @param end     the destination.
+     * @param now     the current world time.
+     * @return a fresh copy of the path, or null.
+     */
+    @Nullable
+    public Path get(@NotNull final Class<? extends AbstractPathJob> jobType, @NotNull final BlockPos start, @NotNull final BlockPos end, final long now)
+    {
+        final Key key = new Key(jobType, start, end);
+        final Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            misses++;
+            return null;
+        }
+
+        if (now - entry.created > MAX_AGE_TICKS)
+        {
+            entries.remove(key);
+            unindex(entry);
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return new Path(copy(entry.points));
+    }
+
+    /**
+     * Store a path which reaches its destination.
+     *
+     * @param jobType the type of the path job.
+     * @param start   the start position.
+     * @param end     the destination.
+     * @param path    the computed path.
+     * @param now     the current world time.
+     */
+    public void put(
+                     @NotNull final Class<? extends AbstractPathJob> jobType,
+                     @NotNull final BlockPos start,
+                     @NotNull final BlockPos end,
+                     @NotNull final Path path,
+                     final long now)
+    {
+        final int length = path.getCurrentPathLength();
+        if (length == 0)
+        {
+            return;
+        }
+
+        final PathPoint[] points = new PathPoint[length];
+        for (int i = 0; i < length; i++)
+        {
+            points[i] = path.getPathPointFromIndex(i);
+        }
+
+        final Key key = new Key(jobType, start, end);
+        final Entry entry = new Entry(key, copy(points), now);
+        final Entry old = entries.put(key, entry);
+        if (old != null)
+        {
+            unindex(old);
+        }
+        index(entry);
+    }
+
+    /**
+     * Drop all paths whose bounding box contains a position.
+     *
+     * @param pos the position.
+     */
+    private void invalidate(@NotNull final BlockPos pos)
+    {
+        final List<Entry> bucket = entriesByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (bucket == null)
+        {
+            return;
+        }
+
+        for (final Entry entry : new ArrayList<>(bucket))
+        {
+            if (entry.contains(pos))
+            {
+                entries.remove(entry.key);
+                unindex(entry);
+                invalidations++;
+            }
+        }
+    }
+
+    private void index(@NotNull final Entry entry)
+    {
+        for (int cx = entry.minX >> 4; cx <= entry.maxX >> 4; cx++)
+        {
+            for (int cz = entry.minZ >> 4; cz <= entry.maxZ >> 4; cz++)
+            {
+                entriesByChunk.computeIfAbsent(ChunkPos.asLong(cx, cz), chunk -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    private void unindex(@NotNull final Entry entry)
+    {
+        for (int cx = entry.minX >> 4; cx <= entry.maxX >> 4; cx++)
+        {
+            for (int cz = entry.minZ >> 4; cz <= entry.maxZ >> 4; cz++)
+            {
+                final long chunk = ChunkPos.asLong(cx, cz);
+                final List<Entry> bucket = entriesByChunk.get(chunk);
+                if (bucket != null)
+                {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty())
+                    {
+                        entriesByChunk.remove(chunk);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy path points, the points of a path must not be shared between two entities.
+     *
+     * @param points the points to copy.
+     * @return the copied points.
+     */
+    @NotNull
+    private static PathPoint[] copy(@NotNull final PathPoint[] points)
+    {
+        final PathPoint[] copy = new PathPoint[points.length];
+        for (int i = 0; i < points.length; i++)
+        {
+            final PathPointExtended point = new PathPointExtended(new BlockPos(points[i].x, points[i].y, points[i].z));
+            if (points[i] instanceof PathPointExtended)
+            {
+                point.setOnLadder(((PathPointExtended) points[i]).isOnLadder());
+                point.setLadderFacing(((PathPointExtended) points[i]).getLadderFacing());
+            }
+            copy[i] = point;
+        }
+        return copy;
+    }
+
+    /**
+     * Amount of lookups which found a cached path.
+     *
+     * @return the hits.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Amount of lookups which found nothing.
+     *
+     * @return the misses.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Amount of entries dropped because a block in their area changed.
+     *
+     * @return the invalidations.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Share of the lookups which found a cached path.
+     *
+     * @return the hit rate between 0 and 1.
+     */
+    public double getHitRate()
+    {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Amount of cached paths.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Cache key: job type, quantized start and exact destination.
+     * The destination is not quantized since the AI relies on arriving at the exact block.
+     */
+    private static final class Key
+    {
+        private final Class<? extends AbstractPathJob> jobType;
+        private final int                              startX;
+        private final int                              startY;
+        private final int                              startZ;
+        private final long                             end;
+
+        private Key(@NotNull final Class<? extends AbstractPathJob> jobType, @NotNull final BlockPos start, @NotNull final BlockPos end)
+        {
+            this.jobType = jobType;
+            this.startX = start.getX() >> START_QUANTIZATION_SHIFT;
+            this.startY = start.getY() >> START_QUANTIZATION_SHIFT;
+            this.startZ = start.getZ() >> START_QUANTIZATION_SHIFT;
+            this.end = end.toLong();
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return startX == key.startX && startY == key.startY && startZ == key.startZ && end == key.end && jobType == key.jobType;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = jobType.hashCode();
+            result = 31 * result + startX;
+            result = 31 * result + startY;
+            result = 31 * result + startZ;
+            result = 31 * result + Long.hashCode(end);
+            return result;
+        }
+    }
+
+    /**
+     * A cached path with its invalidation box.
+     */
+    private static final class Entry
+    {
+        private final Key         key;
+        private final PathPoint[] points;
+        private final long        created;
+        private final int         minX;
+        private final int         minY;
+        private final int         minZ;
+        private final int         maxX;
+        private final int         maxY;
+        private final int         maxZ;
+
+        private Entry(@NotNull final Key key, @NotNull final PathPoint[] points, final long created)
+        {
+            this.key = key;
+            this.points = points;
+            this.created = created;
+
+            int lowX = Integer.MAX_VALUE;
+            int lowY = Integer.MAX_VALUE;
+            int lowZ = Integer.MAX_VALUE;
+            int highX = Integer.MIN_VALUE;
+            int highY = Integer.MIN_VALUE;
+            int highZ = Integer.MIN_VALUE;
+            for (final PathPoint point : points)
+            {
+                lowX = Math.min(lowX, point.x);
+                lowY = Math.min(lowY, point.y);
+                lowZ = Math.min(lowZ, point.z);
+                highX = Math.max(highX, point.x);
+                highY = Math.max(highY, point.y);
+                highZ = Math.max(highZ, point.z);
+            }
+            this.minX = lowX - BOX_MARGIN;
+            this.minY = lowY - BOX_MARGIN;
+            this.minZ = lowZ - BOX_MARGIN;
+            this.maxX = highX + BOX_MARGIN;
+            this.maxY = highY + BOX_MARGIN;
+            this.maxZ = highZ + BOX_MARGIN;
+        }
+
+        private boolean contains(@NotNull final BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX
+                     && pos.getY() >= minY && pos.getY() <= maxY
+                     && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+    }
+}
@@ -3,9 +3,9 @@ package com.minecolonies.coremod.entity.pathfinding;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
-import net.minecraft.block.material.Material;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ChunkCache;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
@@ -22,6 +22,11 @@ public class PathJobFindTree extends AbstractPathJob
      */
     private static final double TIE_BREAKER = 0.951D;
 
+    /**
+     * Height of the world.
+     */
+    private static final int MAX_Y = 256;
+
     /**
      * The location of the hut of the lumberjack.
      */
@@ -37,6 +42,11 @@ public class PathJobFindTree extends AbstractPathJob
      */
     private final Colony colony;
 
+    /**
+     * Block access for the tree checks, which need more than the passability snapshot.
+     */
+    private final IBlockAccess blockAccess;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -55,6 +65,7 @@ public class PathJobFindTree extends AbstractPathJob
                             final Colony colony)
     {
         super(world, start, start, range, new TreePathResult());
+        this.blockAccess = new ChunkCache(world, start.add(-range / 2, -start.getY(), -range / 2), new BlockPos(start.getX() + range / 2, MAX_Y, start.getZ() + range / 2), range);
         this.treesToCut = treesToCut;
         this.hutLocation = home;
         this.colony = colony;
@@ -111,7 +122,7 @@ public class PathJobFindTree extends AbstractPathJob
 
     private boolean isTree(final BlockPos pos)
     {
-        if (Tree.checkTree(world, pos, treesToCut) && Tree.checkIfInColonyAndNotInBuilding(pos, colony))
+        if (Tree.checkTree(blockAccess, pos, treesToCut) && Tree.checkIfInColonyAndNotInBuilding(pos, colony))
         {
             getResult().treeLocation = pos;
             return true;
@@ -127,8 +138,8 @@ public class PathJobFindTree extends AbstractPathJob
     }
 
     @Override
-    protected boolean isPassable(@NotNull final IBlockState block)
+    protected boolean isPassable(final int flags)
     {
-        return super.isPassable(block) || block.getMaterial() == Material.LEAVES;
+        return super.isPassable(flags) || (flags & PassabilitySnapshot.LEAVES) != 0;
     }
 }
@@ -2,6 +2,8 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ChunkCache;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -18,10 +20,16 @@ public class PathJobFindWater extends AbstractPathJob
 {
     private static final int MIN_DISTANCE = 40;
     private static final int MAX_RANGE    = 250;
+    private static final int MAX_Y        = 256;
     private final BlockPos            hutLocation;
     @NotNull
     private final ArrayList<BlockPos> ponds;
 
+    /**
+     * Block access for the pond checks, which need more than the passability snapshot.
+     */
+    private final IBlockAccess blockAccess;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -34,6 +42,7 @@ public class PathJobFindWater extends AbstractPathJob
     PathJobFindWater(final World world, @NotNull final BlockPos start, final BlockPos home, final int range, @NotNull final List<BlockPos> ponds)
     {
         super(world, start, start, range, new WaterPathResult());
+        this.blockAccess = new ChunkCache(world, start.add(-range / 2, -start.getY(), -range / 2), new BlockPos(start.getX() + range / 2, MAX_Y, start.getZ() + range / 2), range);
         this.ponds = new ArrayList<>(ponds);
         hutLocation = home;
     }
@@ -111,12 +120,12 @@ public class PathJobFindWater extends AbstractPathJob
      */
     private boolean isWater(@NotNull final BlockPos newPond)
     {
-        if (ponds.contains(newPond) || pondsAreNear(ponds, newPond))
+        if ((snapshot.getFlags(newPond) & PassabilitySnapshot.WATER) == 0 || ponds.contains(newPond) || pondsAreNear(ponds, newPond))
         {
             return false;
         }
 
-        @Nullable final Pond pond = Pond.createWater(world, newPond);
+        @Nullable final Pond pond = Pond.createWater(blockAccess, newPond);
 
         if (pond != null)
         {
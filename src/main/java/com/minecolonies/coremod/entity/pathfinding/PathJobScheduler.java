@@ -0,0 +1,484 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the path jobs, and the other pathfinding jobs, on a fixed set of worker threads.
+ * Jobs are taken by priority first, and round-robin between the colonies within one priority, so one big colony
+ * can't starve the others. A new job of an entity cancels its previous one, and jobs of dead entities are dropped.
+ */
+public final class PathJobScheduler
+{
+    /**
+     * Name prefix of the worker threads.
+     */
+    private static final String THREAD_NAME = "Minecolonies Pathfinding Worker #";
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Guards all queue state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a job is queued.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * The queued jobs per priority.
+     */
+    private final EnumMap<PathPriority, Lane> lanes = new EnumMap<>(PathPriority.class);
+
+    /**
+     * The latest queued or running task per owning entity.
+     */
+    private final Map<Entity, Task<?>> tasksByOwner = new HashMap<>();
+
+    /**
+     * Statistics per job type.
+     */
+    private final Map<Class<?>, JobStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Amount of queued tasks.
+     */
+    private int queued = 0;
+
+    /**
+     * Whether the worker threads should stop, guarded by the lock.
+     */
+    private boolean shutdown = false;
+
+    /**
+     * Create the scheduler and start its worker threads.
+     *
+     * @param threads the amount of worker threads.
+     */
+    public PathJobScheduler(final int threads)
+    {
+        for (final PathPriority priority : PathPriority.values())
+        {
+            lanes.put(priority, new Lane());
+        }
+
+        for (int i = 0; i < Math.max(1, threads); i++)
+        {
+            final Thread worker = new Thread(this::work, THREAD_NAME + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queue a job.
+     *
+     * @param job the job.
+     * @param <T> the result of the job.
+     * @return a Future containing the result.
+     */
+    @NotNull
+    public <T> Future<T> enqueue(@NotNull final AbstractScheduledJob<T> job)
+    {
+        final Task<T> task = new Task<>(job);
+        lock.lock();
+        try
+        {
+            final Entity owner = job.getOwner();
+            if (owner != null)
+            {
+                final Task<?> superseded = tasksByOwner.put(owner, task);
+                if (superseded != null)
+                {
+                    superseded.cancel(true);
+                }
+            }
+
+            lanes.get(job.getPriority()).add(task);
+            queued++;
+            notEmpty.signal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        return task;
+    }
+
+    /**
+     * Stop the worker threads once they finished their current job.
+     * Queued jobs are not run anymore.
+     */
+    public void shutdown()
+    {
+        lock.lock();
+        try
+        {
+            shutdown = true;
+            notEmpty.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Worker thread loop, only left on shutdown.
+     */
+    private void work()
+    {
+        while (true)
+        {
+            final Task<?> task;
+            try
+            {
+                task = take();
+            }
+            catch (final InterruptedException e)
+            {
+                //  Interrupts are only used to cancel jobs, so this is left over from a cancelled job.
+                continue;
+            }
+
+            if (task == null)
+            {
+                return;
+            }
+
+            //  Clear interrupts of cancelled previous jobs
+            Thread.interrupted();
+            task.run();
+            //  The task may have been cancelled while running, which leaves the interrupt set
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Wait for and dequeue the next job to run.
+     *
+     * @return the task or null if the scheduler shut down.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Nullable
+    private Task<?> take() throws InterruptedException
+    {
+        lock.lock();
+        try
+        {
+            while (true)
+            {
+                while (queued == 0 && !shutdown)
+                {
+                    notEmpty.await();
+                }
+
+                if (shutdown)
+                {
+                    return null;
+                }
+
+                for (final Lane lane : lanes.values())
+                {
+                    final Task<?> task = lane.poll();
+                    if (task != null)
+                    {
+                        queued--;
+                        task.queued = false;
+                        final Entity owner = task.job.getOwner();
+                        if (owner != null && owner.isDead)
+                        {
+                            tasksByOwner.remove(owner, task);
+                            task.cancel(false);
+                            break;
+                        }
+                        return task;
+                    }
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a cancelled task from the queue.
+     *
+     * @param task the task.
+     */
+    private void onCancelled(@NotNull final Task<?> task)
+    {
+        lock.lock();
+        try
+        {
+            if (task.queued && lanes.get(task.job.getPriority()).remove(task))
+            {
+                task.queued = false;
+                queued--;
+            }
+            final Entity owner = task.job.getOwner();
+            if (owner != null)
+            {
+                tasksByOwner.remove(owner, task);
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        getStats(task.job.getClass()).cancelled.incrementAndGet();
+    }
+
+    /**
+     * Forget the owner of a finished task.
+     *
+     * @param task the task.
+     */
+    private void onFinished(@NotNull final Task<?> task)
+    {
+        final Entity owner = task.job.getOwner();
+        if (owner == null)
+        {
+            return;
+        }
+
+        lock.lock();
+        try
+        {
+            tasksByOwner.remove(owner, task);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the amount of queued jobs.
+     *
+     * @return the queue depth.
+     */
+    public int getQueueDepth()
+    {
+        lock.lock();
+        try
+        {
+            return queued;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the statistics of a job type.
+     *
+     * @param type the job class.
+     * @return the statistics.
+     */
+    @NotNull
+    public JobStats getStats(@NotNull final Class<?> type)
+    {
+        return stats.computeIfAbsent(type, t -> new JobStats());
+    }
+
+    /**
+     * Get the statistics of all job types which ran so far.
+     *
+     * @return an unmodifiable view of the statistics by job class.
+     */
+    @NotNull
+    public Map<Class<?>, JobStats> getStats()
+    {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * The queue of one priority: a FIFO per colony, and the colonies with queued jobs in round-robin order.
+     */
+    private static final class Lane
+    {
+        private final Map<Integer, ArrayDeque<Task<?>>> tasksByColony = new HashMap<>();
+        private final ArrayDeque<Integer>               rotation      = new ArrayDeque<>();
+
+        private void add(@NotNull final Task<?> task)
+        {
+            final int colony = task.job.getColonyId();
+            ArrayDeque<Task<?>> tasks = tasksByColony.get(colony);
+            if (tasks == null)
+            {
+                tasks = new ArrayDeque<>();
+                tasksByColony.put(colony, tasks);
+                rotation.addLast(colony);
+            }
+            tasks.addLast(task);
+            task.queued = true;
+        }
+
+        @Nullable
+        private Task<?> poll()
+        {
+            final Integer colony = rotation.pollFirst();
+            if (colony == null)
+            {
+                return null;
+            }
+
+            final ArrayDeque<Task<?>> tasks = tasksByColony.get(colony);
+            final Task<?> task = tasks.pollFirst();
+            if (tasks.isEmpty())
+            {
+                tasksByColony.remove(colony);
+            }
+            else
+            {
+                rotation.addLast(colony);
+            }
+            return task;
+        }
+
+        private boolean remove(@NotNull final Task<?> task)
+        {
+            final int colony = task.job.getColonyId();
+            final ArrayDeque<Task<?>> tasks = tasksByColony.get(colony);
+            if (tasks == null || !tasks.remove(task))
+            {
+                return false;
+            }
+
+            if (tasks.isEmpty())
+            {
+                tasksByColony.remove(colony);
+                rotation.remove(colony);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A queued job.
+     *
+     * @param <T> the result of the job.
+     */
+    private final class Task<T> extends FutureTask<T>
+    {
+        private final AbstractScheduledJob<T> job;
+        private final long            enqueued = System.nanoTime();
+
+        /**
+         * Whether the task is in a lane, guarded by the lock.
+         */
+        private boolean queued = false;
+
+        private Task(@NotNull final AbstractScheduledJob<T> job)
+        {
+            super(job);
+            this.job = job;
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            final long start = System.nanoTime();
+            super.run();
+            if (isCancelled())
+            {
+                //  Counted as cancelled by done()
+                return;
+            }
+
+            final JobStats jobStats = getStats(job.getClass());
+            jobStats.waitNanos.addAndGet(start - enqueued);
+            jobStats.computeNanos.addAndGet(System.nanoTime() - start);
+            jobStats.completed.incrementAndGet();
+        }
+
+        @Override
+        protected void done()
+        {
+            if (isCancelled())
+            {
+                onCancelled(this);
+            }
+            else
+            {
+                onFinished(this);
+            }
+        }
+    }
+
+    /**
+     * Statistics of one job type.
+     */
+    public static final class JobStats
+    {
+        private final AtomicLong completed    = new AtomicLong();
+        private final AtomicLong cancelled    = new AtomicLong();
+        private final AtomicLong waitNanos    = new AtomicLong();
+        private final AtomicLong computeNanos = new AtomicLong();
+
+        /**
+         * Amount of jobs which ran to the end without being cancelled.
+         *
+         * @return the amount.
+         */
+        public long getCompleted()
+        {
+            return completed.get();
+        }
+
+        /**
+         * Amount of jobs which were cancelled or superseded.
+         *
+         * @return the amount.
+         */
+        public long getCancelled()
+        {
+            return cancelled.get();
+        }
+
+        /**
+         * Average time a job waited in the queue.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageWaitMillis()
+        {
+            final long count = completed.get();
+            return count == 0 ? 0 : waitNanos.get() / NANOS_PER_MILLI / count;
+        }
+
+        /**
+         * Average time a job took to compute.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageComputeMillis()
+        {
+            final long count = completed.get();
+            return count == 0 ? 0 : computeNanos.get() / NANOS_PER_MILLI / count;
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.*;
@@ -44,6 +46,14 @@ public class PathNavigate extends PathNavigateGround
     @Nullable
     private PathResult   pathResult;
 
+    /**
+     * Start and destination of the running job, if its path goes into the path cache.
+     */
+    @Nullable
+    private BlockPos     cacheStart;
+    @Nullable
+    private BlockPos     cacheDestination;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -138,6 +148,22 @@ public class PathNavigate extends PathNavigateGround
      */
     @Nullable
     public PathResult moveToXYZ(final double x, final double y, final double z, final double speed)
+    {
+        return moveToXYZ(x, y, z, speed, getDefaultPriority());
+    }
+
+    /**
+     * Try to move to a certain position.
+     *
+     * @param x        the x target.
+     * @param y        the y target.
+     * @param z        the z target.
+     * @param speed    the speed to walk.
+     * @param priority the priority of the path job.
+     * @return the PathResult.
+     */
+    @Nullable
+    public PathResult moveToXYZ(final double x, final double y, final double z, final double speed, @NotNull final PathPriority priority)
     {
         final int newX = MathHelper.floor(x);
         final int newY = (int) y;
@@ -157,9 +183,68 @@ public class PathNavigate extends PathNavigateGround
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
+        final PathCache cache = PathCache.forWorld(world);
+        if (cache != null)
+        {
+            final Path cachedPath = cache.get(PathJobMoveToLocation.class, start, dest, world.getTotalWorldTime());
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+        }
+
+        final PathResult result = setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorld(ourEntity), start, dest, (int) getPathSearchRange()),
-          dest, speed);
+          dest, speed, priority);
+
+        if (cache != null)
+        {
+            cacheStart = start;
+            cacheDestination = dest;
+        }
+        return result;
+    }
+
+    /**
+     * Follow a path taken from the path cache, without running a path job.
+     *
+     * @param path  the cached path.
+     * @param dest  the destination.
+     * @param speed the speed to walk.
+     * @return the PathResult.
+     */
+    @NotNull
+    private PathResult setCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+
+        @NotNull final PathResult result = new PathResult();
+        pathResult = result;
+        setPath(path, walkSpeed);
+
+        result.setPathReachesDestination(true);
+        result.setPathLength(path.getCurrentPathLength());
+        result.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
+        return result;
+    }
+
+    /**
+     * Get the priority of the path jobs of our entity: guards and hostile mobs fight, everyone else works.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    private PathPriority getDefaultPriority()
+    {
+        if (ourEntity instanceof EntityCitizen)
+        {
+            return ((EntityCitizen) ourEntity).getColonyJob() instanceof JobGuard ? PathPriority.COMBAT : PathPriority.NORMAL;
+        }
+        return PathPriority.COMBAT;
     }
 
     @Nullable
@@ -167,6 +252,16 @@ public class PathNavigate extends PathNavigateGround
                                    @NotNull final AbstractPathJob job,
                                    final BlockPos dest,
                                    final double speed)
+    {
+        return setPathJob(job, dest, speed, getDefaultPriority());
+    }
+
+    @Nullable
+    private PathResult setPathJob(
+                                   @NotNull final AbstractPathJob job,
+                                   final BlockPos dest,
+                                   final double speed,
+                                   @NotNull final PathPriority priority)
     {
         clearPath();
 
@@ -174,6 +269,13 @@ public class PathNavigate extends PathNavigateGround
         this.originalDestination = dest;
         this.walkSpeed = speed;
 
+        int colonyId = 0;
+        if (ourEntity instanceof EntityCitizen && ((EntityCitizen) ourEntity).getColony() != null)
+        {
+            colonyId = ((EntityCitizen) ourEntity).getColony().getID();
+        }
+        job.setScheduling(ourEntity, colonyId, priority);
+
         future = Pathfinding.enqueue(job);
         pathResult = job.getResult();
         return pathResult;
@@ -210,6 +312,17 @@ public class PathNavigate extends PathNavigateGround
         return super.setPath(tempPath == null ? path : tempPath, speed);
     }
 
+    /**
+     * Wake up the worker ai waiting for its path, when a path was computed or ended.
+     */
+    private void wakeUpWorkerAI()
+    {
+        if (ourEntity instanceof EntityCitizen && ((EntityCitizen) ourEntity).getColonyJob() != null)
+        {
+            ((EntityCitizen) ourEntity).getColonyJob().wakeUpAI(AITrigger.PATH_FINISHED);
+        }
+    }
+
     @Override
     public void onUpdateNavigation()
     {
@@ -225,11 +338,18 @@ public class PathNavigate extends PathNavigateGround
                 if (future.get() == null)
                 {
                     future = null;
+                    wakeUpWorkerAI();
                     return;
                 }
 
                 setPath(future.get(), walkSpeed);
 
+                final PathCache cache = PathCache.forWorld(world);
+                if (cache != null && cacheStart != null && cacheDestination != null && pathResult.isPathReachingDestination())
+                {
+                    cache.put(PathJobMoveToLocation.class, cacheStart, cacheDestination, future.get(), world.getTotalWorldTime());
+                }
+
                 pathResult.setPathLength(getPath().getCurrentPathLength());
                 pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
 
@@ -248,10 +368,18 @@ public class PathNavigate extends PathNavigateGround
             }
 
             future = null;
+            cacheStart = null;
+            cacheDestination = null;
+            wakeUpWorkerAI();
         }
 
+        final boolean hadPath = !this.noPath();
         int oldIndex = this.noPath() ? 0 : this.getPath().getCurrentPathIndex();
         super.onUpdateNavigation();
+        if (hadPath && this.noPath())
+        {
+            wakeUpWorkerAI();
+        }
 
         //  Ladder Workaround
         if (!this.noPath())
@@ -394,6 +522,8 @@ public class PathNavigate extends PathNavigateGround
         }
 
         destination = null;
+        cacheStart = null;
+        cacheDestination = null;
         super.clearPath();
     }
 
@@ -470,6 +600,6 @@ public class PathNavigate extends PathNavigateGround
 
         return setPathJob(
           new PathJobMoveAwayFromLocation(CompatibilityUtils.getWorld(ourEntity), start, avoid, (int) range, (int) getPathSearchRange()),
-          null, speed);
+          null, speed, PathPriority.COMBAT);
     }
 }
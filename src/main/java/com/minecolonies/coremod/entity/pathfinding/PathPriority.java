@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Scheduling priority of a path job, lower ordinals are computed first.
+ */
+public enum PathPriority
+{
+    /**
+     * Guards, fighting and fleeing entities.
+     */
+    COMBAT,
+
+    /**
+     * Regular work paths.
+     */
+    NORMAL,
+
+    /**
+     * Idle wandering, computed when nothing else waits.
+     */
+    WANDER
+}
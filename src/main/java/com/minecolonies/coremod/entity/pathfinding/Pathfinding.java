@@ -10,7 +10,6 @@ import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
-import net.minecraft.pathfinding.Path;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
@@ -18,19 +17,15 @@ import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.Future;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static final ThreadPoolExecutor executor;
-    static
-    {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
-    }
+    private static final PathJobScheduler scheduler = new PathJobScheduler(Configurations.pathfinding.pathfindingMaxThreadCount);
+
     private Pathfinding()
     {
         //Hides default constructor.
@@ -39,12 +34,24 @@ public final class Pathfinding
     /**
      * Add a job to the queue for processing.
      *
-     * @param job PathJob
-     * @return a Future containing the Path
+     * @param job PathJob or other pathfinding job
+     * @param <T> the result of the job.
+     * @return a Future containing the result
+     */
+    public static <T> Future<T> enqueue(@NotNull final AbstractScheduledJob<T> job)
+    {
+        return scheduler.enqueue(job);
+    }
+
+    /**
+     * Get the scheduler running the path jobs, for its queue depth and timings.
+     *
+     * @return the scheduler.
      */
-    public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
+    @NotNull
+    public static PathJobScheduler getScheduler()
     {
-        return executor.submit(job);
+        return scheduler;
     }
 
     /**
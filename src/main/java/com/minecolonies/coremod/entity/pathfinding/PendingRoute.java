@@ -0,0 +1,156 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * The coarse route a walk-to-proxy waits for, searched on the pathfinding threads.
+ * A target no route was found to is not searched again until its backoff passed, doubling with every failure.
+ */
+final class PendingRoute
+{
+    /**
+     * Ticks before a target is searched again after the first failed search.
+     */
+    private static final int BASE_BACKOFF_TICKS = 100;
+
+    /**
+     * Max doublings of the backoff.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 4;
+
+    /**
+     * The target of the requested route.
+     */
+    @Nullable
+    private BlockPos target;
+
+    /**
+     * The route search, null if none is running.
+     */
+    @Nullable
+    private Future<List<BlockPos>> future;
+
+    /**
+     * World time the running search was requested at.
+     */
+    private long requestTime;
+
+    /**
+     * The target the last search found no route to, null if it found one.
+     */
+    @Nullable
+    private BlockPos failedTarget;
+
+    /**
+     * Amount of consecutive failed searches to the failed target.
+     */
+    private int failures;
+
+    /**
+     * World time the failed target may be searched again at.
+     */
+    private long retryTime;
+
+    /**
+     * Request the route to a target, if it wasn't requested already.
+     *
+     * @param world    the world.
+     * @param start    the start position.
+     * @param target   the target position.
+     * @param colonyId the colony of the entity, 0 for none.
+     */
+    void request(@NotNull final World world, @NotNull final BlockPos start, @NotNull final BlockPos target, final int colonyId)
+    {
+        if (future != null && target.equals(this.target))
+        {
+            return;
+        }
+
+        if (target.equals(failedTarget) && world.getTotalWorldTime() < retryTime)
+        {
+            return;
+        }
+
+        cancel();
+        this.target = target;
+        this.requestTime = world.getTotalWorldTime();
+        this.future = SectionGraph.requestRoute(world, start, target, colonyId);
+    }
+
+    /**
+     * Take the route to a target once it was found.
+     * A running search for another target is cancelled.
+     *
+     * @param target the current target.
+     * @return the route, or null if it isn't found yet or there is none.
+     */
+    @Nullable
+    List<BlockPos> poll(@NotNull final BlockPos target)
+    {
+        if (future == null)
+        {
+            return null;
+        }
+
+        if (!target.equals(this.target))
+        {
+            cancel();
+            return null;
+        }
+
+        if (!future.isDone())
+        {
+            return null;
+        }
+
+        final Future<List<BlockPos>> done = future;
+        future = null;
+        List<BlockPos> route;
+        try
+        {
+            route = done.get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (final ExecutionException | CancellationException e)
+        {
+            route = null;
+        }
+
+        if (route == null)
+        {
+            failures = target.equals(failedTarget) ? failures + 1 : 1;
+            failedTarget = target;
+            retryTime = requestTime + ((long) BASE_BACKOFF_TICKS << Math.min(failures - 1, MAX_BACKOFF_SHIFT));
+        }
+        else
+        {
+            failedTarget = null;
+            failures = 0;
+        }
+        return route;
+    }
+
+    /**
+     * Cancel the running search, failed targets keep their backoff.
+     */
+    void cancel()
+    {
+        if (future != null)
+        {
+            future.cancel(true);
+            future = null;
+        }
+    }
+}
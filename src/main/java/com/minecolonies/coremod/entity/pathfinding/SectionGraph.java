@@ -0,0 +1,782 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coarse graph for long distance paths.
+ * The standable blocks of every chunk section are split into connected regions, a region is a node of the graph and
+ * is linked to the regions of the neighbouring sections its blocks can step into. A route over the regions is then
+ * refined by the regular path jobs between the region centers, which keeps every refined search local.
+ * Sections are built lazily from the passability snapshots and dropped when a block in or next to them changes.
+ * Routes are searched on the pathfinding threads, from a snapshot of the loaded chunks between start and target.
+ */
+public final class SectionGraph
+{
+    /**
+     * Max amount of regions expanded by one route search.
+     */
+    private static final int MAX_EXPANDED_REGIONS = 1024;
+
+    /**
+     * Max amount of built sections kept per world.
+     */
+    private static final int MAX_SECTIONS = 4096;
+
+    /**
+     * Distance around start and target searched for a standable block.
+     */
+    private static final int STANDABLE_SEARCH_RADIUS = 2;
+
+    /**
+     * Blocks around start and target covered by the snapshot of a route search, routes may detour that far.
+     */
+    private static final int ROUTE_MARGIN = 64;
+
+    private static final int SECTION_SIZE   = 16;
+    private static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+    private static final int MAX_SECTION_Y  = 15;
+
+    /**
+     * Horizontal step directions.
+     */
+    private static final int[] STEP_X = {0, 1, 0, -1};
+    private static final int[] STEP_Z = {-1, 0, 1, 0};
+
+    /**
+     * The graphs of the worlds which report their block changes, by dimension.
+     */
+    private static final Map<Integer, SectionGraph> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * Section without any standable block.
+     */
+    private static final Section EMPTY = new Section(null, Collections.emptyList());
+
+    /**
+     * The built sections in LRU order, guarded by the graph.
+     */
+    private final LinkedHashMap<Long, Section> sections = new LinkedHashMap<Long, Section>(MAX_SECTIONS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Section> eldest)
+        {
+            return size() > MAX_SECTIONS;
+        }
+    };
+
+    /**
+     * Amount of block changes so far, guarded by the graph.
+     */
+    private long changes = 0;
+
+    /**
+     * The change count at the last invalidation of recently invalidated sections, guarded by the graph.
+     * A section built from a snapshot taken before its last invalidation is not cached, it may have missed the change.
+     */
+    private final LinkedHashMap<Long, Long> invalidations = new LinkedHashMap<Long, Long>(MAX_SECTIONS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Long> eldest)
+        {
+            if (size() > MAX_SECTIONS)
+            {
+                invalidationFloor = Math.max(invalidationFloor, eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The latest change count of the invalidations which were evicted, assumed for all sections not tracked anymore.
+     */
+    private long invalidationFloor = 0;
+
+    private final AtomicLong routes          = new AtomicLong();
+    private final AtomicLong failedRoutes    = new AtomicLong();
+    private final AtomicLong expandedRegions = new AtomicLong();
+    private final AtomicLong builtSections   = new AtomicLong();
+
+    private SectionGraph()
+    {
+        //Use register.
+    }
+
+    /**
+     * Create the graph of a world, must only be called for worlds which report block changes
+     * to {@link #onBlockChange(World, BlockPos)}.
+     *
+     * @param world the world.
+     */
+    public static void register(@NotNull final World world)
+    {
+        graphs.computeIfAbsent(world.provider.getDimension(), dim -> new SectionGraph());
+    }
+
+    /**
+     * Drop the graph of a world.
+     *
+     * @param world the world.
+     */
+    public static void unregister(@NotNull final World world)
+    {
+        graphs.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Get the graph of a world.
+     *
+     * @param world the world.
+     * @return the graph or null if the world has none.
+     */
+    @Nullable
+    public static SectionGraph forWorld(@NotNull final World world)
+    {
+        if (world.isRemote)
+        {
+            return null;
+        }
+        return graphs.get(world.provider.getDimension());
+    }
+
+    /**
+     * Drop the sections whose regions may depend on a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChange(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final SectionGraph graph = forWorld(world);
+        if (graph != null)
+        {
+            graph.invalidate(pos);
+        }
+    }
+
+    /**
+     * Queue the search of a coarse route between two positions in a world, must be called from the server thread.
+     *
+     * @param world    the world.
+     * @param start    the start position.
+     * @param target   the target position.
+     * @param colonyId the colony of the entity walking the route, 0 for none.
+     * @return the future centers of the regions to pass, null if no route was found,
+     * or null if the world has no graph.
+     */
+    @Nullable
+    public static Future<List<BlockPos>> requestRoute(@NotNull final World world, @NotNull final BlockPos start, @NotNull final BlockPos target, final int colonyId)
+    {
+        final SectionGraph graph = forWorld(world);
+        if (graph == null)
+        {
+            return null;
+        }
+
+        final PassabilitySnapshot snapshot = PassabilitySnapshot.createLoaded(world,
+          Math.min(start.getX(), target.getX()) - ROUTE_MARGIN,
+          Math.min(start.getZ(), target.getZ()) - ROUTE_MARGIN,
+          Math.max(start.getX(), target.getX()) + ROUTE_MARGIN,
+          Math.max(start.getZ(), target.getZ()) + ROUTE_MARGIN);
+        final RouteJob job = new RouteJob(graph, snapshot, graph.getChanges(), start, target);
+        job.setScheduling(null, colonyId, PathPriority.NORMAL);
+        return Pathfinding.enqueue(job);
+    }
+
+    /**
+     * Get the amount of block changes so far, the stamp of a snapshot taken now.
+     *
+     * @return the amount.
+     */
+    private synchronized long getChanges()
+    {
+        return changes;
+    }
+
+    /**
+     * Drop the sections whose regions may depend on a changed block.
+     *
+     * @param pos the changed position.
+     */
+    private synchronized void invalidate(@NotNull final BlockPos pos)
+    {
+        changes++;
+
+        //  A block is the floor, the feet or the head of a standable block, and neighbouring sections link to it.
+        for (int dx = -1; dx <= 1; dx++)
+        {
+            for (int dy = -1; dy <= 1; dy++)
+            {
+                for (int dz = -1; dz <= 1; dz++)
+                {
+                    final int sectionY = (pos.getY() + dy) >> 4;
+                    if (sectionY >= 0 && sectionY <= MAX_SECTION_Y)
+                    {
+                        final long key = sectionKey((pos.getX() + dx) >> 4, sectionY, (pos.getZ() + dz) >> 4);
+                        sections.remove(key);
+                        invalidations.put(key, changes);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find a coarse route between two positions, runs on a pathfinding thread.
+     *
+     * @param snapshot the snapshot of the area to search in.
+     * @param stamp    the change count when the snapshot was taken.
+     * @param start    the start position.
+     * @param target   the target position.
+     * @return the centers of the regions to pass, excluding the ones of start and target,
+     * or null if no route was found within the search limits.
+     */
+    @Nullable
+    private List<BlockPos> findRoute(@NotNull final PassabilitySnapshot snapshot, final long stamp, @NotNull final BlockPos start, @NotNull final BlockPos target)
+    {
+        routes.incrementAndGet();
+        final Region startRegion = findStandableRegion(snapshot, stamp, start);
+        final Region targetRegion = findStandableRegion(snapshot, stamp, target);
+        if (startRegion == null || targetRegion == null)
+        {
+            failedRoutes.incrementAndGet();
+            return null;
+        }
+
+        final Map<Region, Double> costs = new HashMap<>();
+        final Map<Region, Region> parents = new HashMap<>();
+        final Set<Region> closed = new HashSet<>();
+        final PriorityQueue<Step> open = new PriorityQueue<>();
+
+        costs.put(startRegion, 0D);
+        open.add(new Step(startRegion, 0D, distance(startRegion.center, target)));
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < MAX_EXPANDED_REGIONS)
+        {
+            final Step step = open.poll();
+            if (!closed.add(step.region))
+            {
+                continue;
+            }
+
+            if (step.region == targetRegion)
+            {
+                expandedRegions.addAndGet(expanded);
+                return buildRoute(parents, startRegion, targetRegion);
+            }
+            expanded++;
+
+            for (final long exit : step.region.exits)
+            {
+                final Region next = getRegion(snapshot, stamp, BlockPos.fromLong(exit));
+                if (next == null || closed.contains(next))
+                {
+                    continue;
+                }
+
+                final double cost = step.cost + distance(step.region.center, next.center);
+                final Double known = costs.get(next);
+                if (known == null || cost < known)
+                {
+                    costs.put(next, cost);
+                    parents.put(next, step.region);
+                    open.add(new Step(next, cost, cost + distance(next.center, target)));
+                }
+            }
+        }
+
+        expandedRegions.addAndGet(expanded);
+        failedRoutes.incrementAndGet();
+        return null;
+    }
+
+    @NotNull
+    private static List<BlockPos> buildRoute(@NotNull final Map<Region, Region> parents, @NotNull final Region startRegion, @NotNull final Region targetRegion)
+    {
+        final List<BlockPos> route = new ArrayList<>();
+        Region region = parents.get(targetRegion);
+        while (region != null && region != startRegion)
+        {
+            route.add(region.center);
+            region = parents.get(region);
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    private static double distance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        return Math.sqrt(from.distanceSq(to));
+    }
+
+    /**
+     * Find the region of a position, or of the closest standable block around it.
+     *
+     * @param snapshot the snapshot of the area.
+     * @param stamp    the change count when the snapshot was taken.
+     * @param pos      the position.
+     * @return the region or null.
+     */
+    @Nullable
+    private Region findStandableRegion(@NotNull final PassabilitySnapshot snapshot, final long stamp, @NotNull final BlockPos pos)
+    {
+        final Region region = getRegion(snapshot, stamp, pos);
+        if (region != null)
+        {
+            return region;
+        }
+
+        for (int radius = 1; radius <= STANDABLE_SEARCH_RADIUS; radius++)
+        {
+            for (int dy = -radius; dy <= radius; dy++)
+            {
+                for (int dx = -radius; dx <= radius; dx++)
+                {
+                    for (int dz = -radius; dz <= radius; dz++)
+                    {
+                        final Region around = getRegion(snapshot, stamp, pos.add(dx, dy, dz));
+                        if (around != null)
+                        {
+                            return around;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the region of a standable position, building its section if needed.
+     *
+     * @param snapshot the snapshot of the area.
+     * @param stamp    the change count when the snapshot was taken.
+     * @param pos      the position.
+     * @return the region or null if the position isn't standable or not loaded.
+     */
+    @Nullable
+    private Region getRegion(@NotNull final PassabilitySnapshot snapshot, final long stamp, @NotNull final BlockPos pos)
+    {
+        if (pos.getY() < 0 || (pos.getY() >> 4) > MAX_SECTION_Y)
+        {
+            return null;
+        }
+
+        final Section section = getSection(snapshot, stamp, pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        if (section == null || section.regionOf == null)
+        {
+            return null;
+        }
+
+        final int index = cellIndex(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+        final int region = section.regionOf[index];
+        return region < 0 ? null : section.regions.get(region);
+    }
+
+    @Nullable
+    private Section getSection(@NotNull final PassabilitySnapshot snapshot, final long stamp, final int chunkX, final int sectionY, final int chunkZ)
+    {
+        final long key = sectionKey(chunkX, sectionY, chunkZ);
+        synchronized (this)
+        {
+            final Section cached = sections.get(key);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        //  The section and the blocks around it have to be loaded
+        for (int dx = -1; dx <= 1; dx++)
+        {
+            for (int dz = -1; dz <= 1; dz++)
+            {
+                if (!snapshot.isLoaded(chunkX + dx, chunkZ + dz))
+                {
+                    return null;
+                }
+            }
+        }
+
+        final Section section = buildSection(snapshot, chunkX << 4, sectionY << 4, chunkZ << 4);
+        builtSections.incrementAndGet();
+        synchronized (this)
+        {
+            final Long invalidated = invalidations.get(key);
+            if ((invalidated == null ? invalidationFloor : invalidated) <= stamp)
+            {
+                sections.put(key, section);
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Split the standable blocks of a section into connected regions.
+     *
+     * @param snapshot snapshot covering the section and the blocks around it.
+     * @param originX  min x of the section.
+     * @param originY  min y of the section.
+     * @param originZ  min z of the section.
+     * @return the section.
+     */
+    @NotNull
+    private static Section buildSection(@NotNull final PassabilitySnapshot snapshot, final int originX, final int originY, final int originZ)
+    {
+        final short[] regionOf = new short[SECTION_VOLUME];
+        boolean anyStandable = false;
+        for (int index = 0; index < SECTION_VOLUME; index++)
+        {
+            final boolean standable = isStandable(snapshot, originX + cellX(index), originY + cellY(index), originZ + cellZ(index));
+            regionOf[index] = (short) (standable ? -1 : -2);
+            anyStandable |= standable;
+        }
+
+        if (!anyStandable)
+        {
+            return EMPTY;
+        }
+
+        final List<Region> regions = new ArrayList<>();
+        final int[] queue = new int[SECTION_VOLUME];
+        for (int seed = 0; seed < SECTION_VOLUME; seed++)
+        {
+            if (regionOf[seed] != -1)
+            {
+                continue;
+            }
+
+            final short id = (short) regions.size();
+            final Set<Long> exits = new HashSet<>();
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = seed;
+            regionOf[seed] = id;
+            long sumX = 0;
+            long sumY = 0;
+            long sumZ = 0;
+
+            while (head < tail)
+            {
+                final int cell = queue[head++];
+                final int x = originX + cellX(cell);
+                final int y = originY + cellY(cell);
+                final int z = originZ + cellZ(cell);
+                sumX += x;
+                sumY += y;
+                sumZ += z;
+
+                for (int dir = 0; dir < STEP_X.length; dir++)
+                {
+                    for (int dy = -1; dy <= 1; dy++)
+                    {
+                        final int nx = x + STEP_X[dir];
+                        final int ny = y + dy;
+                        final int nz = z + STEP_Z[dir];
+                        if (canStep(snapshot, x, y, z, nx, ny, nz))
+                        {
+                            tail = visit(regionOf, queue, tail, exits, id, originX, originY, originZ, nx, ny, nz);
+                        }
+                    }
+                }
+
+                //  Ladders connect vertically
+                final boolean onLadder = (snapshot.getFlags(x, y, z) & PassabilitySnapshot.LADDER) != 0;
+                if ((onLadder || (snapshot.getFlags(x, y - 1, z) & PassabilitySnapshot.LADDER) != 0) && isStandable(snapshot, x, y - 1, z))
+                {
+                    tail = visit(regionOf, queue, tail, exits, id, originX, originY, originZ, x, y - 1, z);
+                }
+                if (onLadder && isStandable(snapshot, x, y + 1, z))
+                {
+                    tail = visit(regionOf, queue, tail, exits, id, originX, originY, originZ, x, y + 1, z);
+                }
+            }
+
+            final BlockPos centroid = new BlockPos((int) (sumX / tail), (int) (sumY / tail), (int) (sumZ / tail));
+            regions.add(new Region(findCenter(queue, tail, centroid, originX, originY, originZ), exits));
+        }
+
+        return new Section(regionOf, regions);
+    }
+
+    /**
+     * Add a standable neighbour to the region, or record it as exit if it's outside of the section.
+     *
+     * @return the new queue tail.
+     */
+    private static int visit(
+                              @NotNull final short[] regionOf,
+                              @NotNull final int[] queue,
+                              final int tail,
+                              @NotNull final Set<Long> exits,
+                              final short id,
+                              final int originX,
+                              final int originY,
+                              final int originZ,
+                              final int x,
+                              final int y,
+                              final int z)
+    {
+        final int lx = x - originX;
+        final int ly = y - originY;
+        final int lz = z - originZ;
+        if (lx < 0 || lx >= SECTION_SIZE || ly < 0 || ly >= SECTION_SIZE || lz < 0 || lz >= SECTION_SIZE)
+        {
+            exits.add(new BlockPos(x, y, z).toLong());
+            return tail;
+        }
+
+        final int index = cellIndex(lx, ly, lz);
+        if (regionOf[index] != -1)
+        {
+            return tail;
+        }
+        regionOf[index] = id;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    /**
+     * Pick the block of the region closest to its centroid, regions aren't convex.
+     */
+    @NotNull
+    private static BlockPos findCenter(@NotNull final int[] cells, final int count, @NotNull final BlockPos centroid, final int originX, final int originY, final int originZ)
+    {
+        BlockPos best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < count; i++)
+        {
+            final BlockPos pos = new BlockPos(originX + cellX(cells[i]), originY + cellY(cells[i]), originZ + cellZ(cells[i]));
+            final double distance = pos.distanceSq(centroid);
+            if (distance < bestDistance)
+            {
+                best = pos;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Check if an entity can stand in a block: feet and head free, and a floor, a ladder or water to swim on.
+     */
+    private static boolean isStandable(@NotNull final PassabilitySnapshot snapshot, final int x, final int y, final int z)
+    {
+        final int feet = snapshot.getFlags(x, y, z);
+        if ((feet & PassabilitySnapshot.PASSABLE) == 0 || (snapshot.getFlags(x, y + 1, z) & PassabilitySnapshot.PASSABLE) == 0)
+        {
+            return false;
+        }
+
+        final int below = snapshot.getFlags(x, y - 1, z);
+        return (below & (PassabilitySnapshot.SOLID_SURFACE | PassabilitySnapshot.LADDER | PassabilitySnapshot.WATER)) != 0
+                 || (feet & PassabilitySnapshot.LADDER) != 0;
+    }
+
+    /**
+     * Check a horizontal step, jumping up or dropping down at most one block like the path jobs.
+     */
+    private static boolean canStep(
+                                    @NotNull final PassabilitySnapshot snapshot,
+                                    final int x,
+                                    final int y,
+                                    final int z,
+                                    final int nx,
+                                    final int ny,
+                                    final int nz)
+    {
+        if (!isStandable(snapshot, nx, ny, nz))
+        {
+            return false;
+        }
+
+        if (ny > y)
+        {
+            //  Jump room above the origin
+            return (snapshot.getFlags(x, y + 2, z) & PassabilitySnapshot.PASSABLE) != 0;
+        }
+        if (ny < y)
+        {
+            //  Room to step over the edge
+            return (snapshot.getFlags(nx, y + 1, nz) & PassabilitySnapshot.PASSABLE) != 0;
+        }
+        return true;
+    }
+
+    private static int cellIndex(final int x, final int y, final int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    private static int cellX(final int index)
+    {
+        return index & 15;
+    }
+
+    private static int cellY(final int index)
+    {
+        return index >> 8;
+    }
+
+    private static int cellZ(final int index)
+    {
+        return (index >> 4) & 15;
+    }
+
+    private static long sectionKey(final int chunkX, final int sectionY, final int chunkZ)
+    {
+        return ((long) chunkX & 0x3FFFFFFL) << 38 | ((long) chunkZ & 0x3FFFFFFL) << 12 | (sectionY & 0xFFF);
+    }
+
+    /**
+     * Amount of route searches.
+     *
+     * @return the amount.
+     */
+    public long getRoutes()
+    {
+        return routes.get();
+    }
+
+    /**
+     * Amount of route searches which found no route.
+     *
+     * @return the amount.
+     */
+    public long getFailedRoutes()
+    {
+        return failedRoutes.get();
+    }
+
+    /**
+     * Average amount of regions expanded per route search.
+     *
+     * @return the average.
+     */
+    public double getAverageExpandedRegions()
+    {
+        final long count = routes.get();
+        return count == 0 ? 0 : (double) expandedRegions.get() / count;
+    }
+
+    /**
+     * Amount of sections built so far, including rebuilds after block changes.
+     *
+     * @return the amount.
+     */
+    public long getBuiltSections()
+    {
+        return builtSections.get();
+    }
+
+    /**
+     * The regions of one chunk section.
+     */
+    private static final class Section
+    {
+        /**
+         * Region index per block, negative if the block isn't standable. Null if no block is.
+         */
+        @Nullable
+        private final short[]      regionOf;
+        private final List<Region> regions;
+
+        private Section(@Nullable final short[] regionOf, @NotNull final List<Region> regions)
+        {
+            this.regionOf = regionOf;
+            this.regions = regions;
+        }
+    }
+
+    /**
+     * A connected set of standable blocks inside a section.
+     */
+    private static final class Region
+    {
+        /**
+         * Standable block of the region closest to its centroid.
+         */
+        private final BlockPos center;
+
+        /**
+         * Standable blocks outside of the section the region can step into, as packed positions.
+         */
+        private final long[] exits;
+
+        private Region(@NotNull final BlockPos center, @NotNull final Set<Long> exits)
+        {
+            this.center = center;
+            this.exits = new long[exits.size()];
+            int i = 0;
+            for (final long exit : exits)
+            {
+                this.exits[i++] = exit;
+            }
+        }
+    }
+
+    /**
+     * Route search run on the pathfinding threads.
+     */
+    private static final class RouteJob extends AbstractScheduledJob<List<BlockPos>>
+    {
+        private final SectionGraph        graph;
+        private final PassabilitySnapshot snapshot;
+        private final long                stamp;
+        private final BlockPos            start;
+        private final BlockPos            target;
+
+        private RouteJob(
+                          @NotNull final SectionGraph graph,
+                          @NotNull final PassabilitySnapshot snapshot,
+                          final long stamp,
+                          @NotNull final BlockPos start,
+                          @NotNull final BlockPos target)
+        {
+            this.graph = graph;
+            this.snapshot = snapshot;
+            this.stamp = stamp;
+            this.start = start;
+            this.target = target;
+        }
+
+        @Nullable
+        @Override
+        public List<BlockPos> call()
+        {
+            return graph.findRoute(snapshot, stamp, start, target);
+        }
+    }
+
+    /**
+     * Open entry of the route search.
+     */
+    private static final class Step implements Comparable<Step>
+    {
+        private final Region region;
+        private final double cost;
+        private final double score;
+
+        private Step(@NotNull final Region region, final double cost, final double score)
+        {
+            this.region = region;
+            this.cost = cost;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(@NotNull final Step other)
+        {
+            return Double.compare(score, other.score);
+        }
+    }
+}
@@ -15,7 +15,9 @@ import com.minecolonies.coremod.blocks.BlockHutWareHouse;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.managers.ThreatTracker;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ContainerItemIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSilverfish;
 import net.minecraft.client.Minecraft;
@@ -34,6 +36,7 @@ import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
@@ -160,7 +163,7 @@ public class EventHandler
             //Remove old subscribers from colony.
             for(final int colonyId: oldCloseColonies.getAllCloseColonies())
             {
-                if(!newCloseColonies.getAllCloseColonies().contains(colonyId))
+                if(!newCloseColonies.isCloseColony(colonyId))
                 {
                     final Colony colony = ColonyManager.getColony(colonyId);
                     if(colony != null)
@@ -500,6 +503,36 @@ public class EventHandler
         }
     }*/
 
+    /**
+     * Called when an entity joins the world.
+     * Threats are added to the trackers of the colonies right away, instead of at the next scan.
+     *
+     * @param event {@link EntityJoinWorldEvent}
+     */
+    @SubscribeEvent
+    public void onThreatJoinWorld(@NotNull final EntityJoinWorldEvent event)
+    {
+        if (!event.getWorld().isRemote && ThreatTracker.isThreat(event.getEntity()))
+        {
+            for (final Colony colony : ColonyManager.getColonies(event.getWorld()))
+            {
+                colony.getThreatTracker().onEntityJoin(event.getEntity());
+            }
+        }
+    }
+
+    /**
+     * Called when a player closes a container.
+     * Plain chests don't report their changes, so the item indexes read the ones the player could have used again.
+     *
+     * @param event {@link PlayerContainerEvent.Close}
+     */
+    @SubscribeEvent
+    public void onContainerClosed(@NotNull final PlayerContainerEvent.Close event)
+    {
+        ContainerItemIndex.onContainerClosed(event.getEntityPlayer());
+    }
+
     /**
      * Gets called when world loads.
      * Calls {@link ColonyManager#onWorldLoad(World)}
@@ -2,7 +2,10 @@ package com.minecolonies.coremod.inventory;
 
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.entity.ai.util.AITrigger;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.CrashReportCategory;
@@ -72,6 +75,10 @@ public class InventoryCitizen implements IInventory
      * The citizen which owns the inventory.
      */
     private CitizenData citizen;
+    /**
+     * Index of the tools in the main inventory.
+     */
+    private final InventoryToolIndex toolIndex = new InventoryToolIndex(this);
 
     /**
      * Creates the inventory of the citizen.
@@ -189,7 +196,24 @@ public class InventoryCitizen implements IInventory
     public int getSizeInventory()
     {
         return this.mainInventory.size();
-    }    /**
+    }
+
+    /**
+     * Returns the number of slots in the inventory including armor and off-hand.
+     *
+     * @return the size of all inventories.
+     */
+    public int getTotalSizeInventory()
+    {
+        int size = 0;
+        for (final NonNullList<ItemStack> inventory : this.allInventories)
+        {
+            size += inventory.size();
+        }
+        return size;
+    }
+
+    /**
      * Get the name of this object. For citizens this returns their name.
      *
      * @return the name of the inventory.
@@ -293,6 +317,7 @@ public class InventoryCitizen implements IInventory
             tempIndex -= nonnulllist.size();
         }
 
+        toolIndex.markSlotDirty(index);
         return list != null && !ItemStackUtils.isEmpty(list.get(tempIndex)) ? ItemStackHelper.getAndSplit(list, tempIndex, count) : ItemStackUtils.EMPTY;
     }
 
@@ -318,6 +343,7 @@ public class InventoryCitizen implements IInventory
             tempIndex -= nonnulllist1.size();
         }
 
+        toolIndex.markSlotDirty(index);
         if (nonnulllist != null && !ItemStackUtils.isEmpty(nonnulllist.get(tempIndex)))
         {
             final ItemStack itemstack = nonnulllist.get(tempIndex);
@@ -355,6 +381,7 @@ public class InventoryCitizen implements IInventory
         if (nonnulllist != null)
         {
             nonnulllist.set(tempIndex, stack);
+            toolIndex.markSlotDirty(index);
         }
     }
 
@@ -377,9 +404,14 @@ public class InventoryCitizen implements IInventory
     public void markDirty()
     {
         this.inventoryChanged = true;
+        toolIndex.markAllDirty();
         if (this.citizen != null)
         {
             this.citizen.markDirty();
+            if (this.citizen.getJob() != null)
+            {
+                this.citizen.getJob().wakeUpAI(AITrigger.INVENTORY_CHANGED);
+            }
         }
     }
 
@@ -499,6 +531,7 @@ public class InventoryCitizen implements IInventory
         {
             list.clear();
         }
+        toolIndex.markAllDirty();
     }
 
     /**
@@ -515,6 +548,7 @@ public class InventoryCitizen implements IInventory
         }
         else
         {
+            toolIndex.markAllDirty();
             try
             {
                 if (itemStackIn.isItemDamaged())
@@ -693,12 +727,83 @@ public class InventoryCitizen implements IInventory
                 if (nonnulllist.get(i) == stack)
                 {
                     nonnulllist.set(i, ItemStackUtils.EMPTY);
+                    toolIndex.markAllDirty();
                     break;
                 }
             }
         }
     }
 
+    /**
+     * Get the slot of the tool with the lowest level which can mine a block, to keep better tools for harder blocks.
+     *
+     * @param toolType      the tool type the block needs.
+     * @param requiredLevel the harvest level of the block.
+     * @param maximumLevel  the maximum level of tools the worker may use.
+     * @return the slot or -1 if there is no fitting tool.
+     */
+    public int getMostEfficientToolSlot(@NotNull final IToolType toolType, final int requiredLevel, final int maximumLevel)
+    {
+        if (InventoryToolIndex.isIndexed(toolType) && toolType.hasVariableMaterials() && requiredLevel >= 0)
+        {
+            return toolIndex.getMostEfficientToolSlot(toolType, requiredLevel, maximumLevel);
+        }
+
+        //Types without materials rate any item and other types aren't indexed, scan the slots for those.
+        int bestSlot = NO_SLOT;
+        int bestLevel = Integer.MAX_VALUE;
+        for (int i = 0; i < getSizeInventory(); i++)
+        {
+            final ItemStack item = getStackInSlot(i);
+            final int level = ItemStackUtils.getMiningLevel(item, toolType);
+            if (level >= requiredLevel && level < bestLevel
+                  && (toolType == ToolType.NONE || ItemStackUtils.verifyToolLevel(item, level, requiredLevel, maximumLevel)))
+            {
+                bestSlot = i;
+                bestLevel = level;
+            }
+        }
+        return bestSlot;
+    }
+
+    /**
+     * Get the first slot holding a tool of a type in a level range.
+     *
+     * @param toolType     the tool type.
+     * @param minimalLevel the minimal level.
+     * @param maximumLevel the maximum level.
+     * @return the slot or -1 if there is no such tool.
+     */
+    public int getFirstToolSlot(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        if (InventoryToolIndex.isIndexed(toolType))
+        {
+            return toolIndex.getFirstToolSlot(toolType, minimalLevel, maximumLevel);
+        }
+
+        for (int i = 0; i < getSizeInventory(); i++)
+        {
+            if (ItemStackUtils.hasToolLevel(getStackInSlot(i), toolType, minimalLevel, maximumLevel))
+            {
+                return i;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Check if the inventory holds a tool of a type in a level range.
+     *
+     * @param toolType     the tool type.
+     * @param minimalLevel the minimal level.
+     * @param maximumLevel the maximum level.
+     * @return true if there is such a tool.
+     */
+    public boolean hasTool(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        return getFirstToolSlot(toolType, minimalLevel, maximumLevel) != NO_SLOT;
+    }
+
     /**
      * Get the strength against a block.
      *
@@ -772,6 +877,7 @@ public class InventoryCitizen implements IInventory
         this.mainInventory.clear();
         this.armorInventory.clear();
         this.offHandInventory.clear();
+        toolIndex.markAllDirty();
 
         for (int i = 0; i < nbtTagListIn.tagCount(); ++i)
         {
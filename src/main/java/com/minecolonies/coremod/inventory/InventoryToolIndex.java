@@ -0,0 +1,310 @@
+package com.minecolonies.coremod.inventory;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the tools in the main slots of a citizen inventory, by tool type, sorted by mining level and slot.
+ * <p>
+ * Changed slots are marked by the inventory and indexed again on the next query. Changes the inventory can't
+ * attribute to a slot mark the whole inventory, then only the slots holding another stack than before are indexed again.
+ * Queries check the current stack of the slots they return, so stacks used up in place are never returned.
+ * </p>
+ */
+final class InventoryToolIndex
+{
+    /**
+     * Returned if no slot matches.
+     */
+    private static final int NO_SLOT = -1;
+
+    /**
+     * The tool types kept in the index.
+     */
+    private static final ToolType[] INDEXED_TYPES = Arrays.stream(ToolType.values()).filter(type -> type != ToolType.NONE).toArray(ToolType[]::new);
+
+    /**
+     * The inventory of the index.
+     */
+    private final InventoryCitizen inventory;
+
+    /**
+     * The tools by type, sorted by mining level and slot.
+     */
+    private final Map<IToolType, TreeSet<Entry>> entriesByType = new HashMap<>();
+
+    /**
+     * The stack each slot held when it was indexed.
+     */
+    private ItemStack[] indexedStacks = new ItemStack[0];
+
+    /**
+     * The entries of each slot.
+     */
+    private List<List<Entry>> slotEntries = new ArrayList<>();
+
+    /**
+     * The slots which changed since the last query.
+     */
+    private final BitSet dirtySlots = new BitSet();
+
+    /**
+     * Whether any slot may have changed since the last query.
+     */
+    private boolean checkAllSlots = true;
+
+    /**
+     * Create the index of an inventory.
+     *
+     * @param inventory the inventory.
+     */
+    InventoryToolIndex(@NotNull final InventoryCitizen inventory)
+    {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Check if the index handles a tool type.
+     *
+     * @param toolType the tool type.
+     * @return true for the tool types of minecolonies, except none.
+     */
+    static boolean isIndexed(@NotNull final IToolType toolType)
+    {
+        return toolType instanceof ToolType && toolType != ToolType.NONE;
+    }
+
+    /**
+     * Mark a slot as changed.
+     *
+     * @param slot the slot.
+     */
+    void markSlotDirty(final int slot)
+    {
+        if (slot >= 0)
+        {
+            dirtySlots.set(slot);
+        }
+    }
+
+    /**
+     * Mark all slots as possibly changed.
+     */
+    void markAllDirty()
+    {
+        checkAllSlots = true;
+    }
+
+    /**
+     * Get the slot of the tool with the lowest mining level which is at least a required level.
+     * Like mining with the worst fitting tool, to keep the better tools for harder blocks.
+     *
+     * @param toolType      the tool type, has to be indexed.
+     * @param requiredLevel the required mining level.
+     * @param maximumLevel  the maximum level of tools the worker may use.
+     * @return the slot or -1 if there is no fitting tool.
+     */
+    int getMostEfficientToolSlot(@NotNull final IToolType toolType, final int requiredLevel, final int maximumLevel)
+    {
+        refresh();
+        final TreeSet<Entry> entries = entriesByType.get(toolType);
+        if (entries == null)
+        {
+            return NO_SLOT;
+        }
+
+        for (final Entry entry : entries.tailSet(new Entry(requiredLevel, Integer.MIN_VALUE)))
+        {
+            final ItemStack stack = getCurrentStack(entry);
+            if (stack != null && ItemStackUtils.verifyToolLevel(stack, entry.level, requiredLevel, maximumLevel))
+            {
+                return entry.slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Get the first slot holding a tool in a level range.
+     *
+     * @param toolType     the tool type, has to be indexed.
+     * @param minimalLevel the minimal level.
+     * @param maximumLevel the maximum level.
+     * @return the slot or -1 if there is no such tool.
+     */
+    int getFirstToolSlot(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        refresh();
+        final TreeSet<Entry> entries = entriesByType.get(toolType);
+        if (entries == null)
+        {
+            return NO_SLOT;
+        }
+
+        int firstSlot = NO_SLOT;
+        for (final Entry entry : entries)
+        {
+            if (firstSlot != NO_SLOT && entry.slot > firstSlot)
+            {
+                continue;
+            }
+
+            final ItemStack stack = getCurrentStack(entry);
+            if (stack != null && ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel))
+            {
+                firstSlot = entry.slot;
+            }
+        }
+        return firstSlot;
+    }
+
+    /**
+     * Get the stack of an entry if the slot still holds it.
+     *
+     * @param entry the entry.
+     * @return the stack or null if it was used up or replaced since it was indexed.
+     */
+    @Nullable
+    private ItemStack getCurrentStack(@NotNull final Entry entry)
+    {
+        final ItemStack stack = inventory.getStackInSlot(entry.slot);
+        if (stack != indexedStacks[entry.slot] || ItemStackUtils.isEmpty(stack))
+        {
+            dirtySlots.set(entry.slot);
+            return null;
+        }
+        return stack;
+    }
+
+    /**
+     * Index the changed slots again.
+     */
+    private void refresh()
+    {
+        final int size = inventory.getSizeInventory();
+        if (indexedStacks.length != size)
+        {
+            entriesByType.clear();
+            indexedStacks = new ItemStack[size];
+            slotEntries = new ArrayList<>(size);
+            for (int slot = 0; slot < size; slot++)
+            {
+                slotEntries.add(new ArrayList<>());
+            }
+            dirtySlots.set(0, size);
+        }
+
+        if (checkAllSlots)
+        {
+            for (int slot = 0; slot < size; slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (stack != indexedStacks[slot] || (!slotEntries.get(slot).isEmpty() && ItemStackUtils.isEmpty(stack)))
+                {
+                    dirtySlots.set(slot);
+                }
+            }
+            checkAllSlots = false;
+        }
+
+        for (int slot = dirtySlots.nextSetBit(0); slot >= 0 && slot < size; slot = dirtySlots.nextSetBit(slot + 1))
+        {
+            indexSlot(slot);
+        }
+        dirtySlots.clear();
+    }
+
+    private void indexSlot(final int slot)
+    {
+        final List<Entry> entries = slotEntries.get(slot);
+        for (final Entry entry : entries)
+        {
+            entriesByType.get(entry.toolType).remove(entry);
+        }
+        entries.clear();
+
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        indexedStacks[slot] = stack;
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        for (final ToolType toolType : INDEXED_TYPES)
+        {
+            final int level = ItemStackUtils.getMiningLevel(stack, toolType);
+            if (ItemStackUtils.isTool(stack, toolType) || (toolType.hasVariableMaterials() && level >= 0))
+            {
+                final Entry entry = new Entry(toolType, level, slot);
+                entriesByType.computeIfAbsent(toolType, type -> new TreeSet<>()).add(entry);
+                entries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * A tool in a slot, ordered by mining level and slot.
+     */
+    private static final class Entry implements Comparable<Entry>
+    {
+        @Nullable
+        private final IToolType toolType;
+        private final int       level;
+        private final int       slot;
+
+        private Entry(@NotNull final IToolType toolType, final int level, final int slot)
+        {
+            this.toolType = toolType;
+            this.level = level;
+            this.slot = slot;
+        }
+
+        /**
+         * Create an entry to search from.
+         *
+         * @param level the lowest level.
+         * @param slot  the lowest slot.
+         */
+        private Entry(final int level, final int slot)
+        {
+            this.toolType = null;
+            this.level = level;
+            this.slot = slot;
+        }
+
+        @Override
+        public int compareTo(@NotNull final Entry other)
+        {
+            final int byLevel = Integer.compare(level, other.level);
+            return byLevel == 0 ? Integer.compare(slot, other.slot) : byLevel;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Entry entry = (Entry) o;
+            return level == entry.level && slot == entry.slot;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * level + slot;
+        }
+    }
+}
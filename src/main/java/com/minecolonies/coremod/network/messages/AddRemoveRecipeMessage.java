@@ -105,7 +105,7 @@ public class AddRemoveRecipeMessage extends AbstractMessage<AddRemoveRecipeMessa
     public void fromBytes(@NotNull final ByteBuf buf)
     {
         colonyId = buf.readInt();
-        storage = StandardFactoryController.getInstance().readFromBuffer(buf);
+        StandardFactoryController.getInstance().readWithTypeDictionary(buf, data -> storage = StandardFactoryController.getInstance().readFromBuffer(data));
         remove = buf.readBoolean();
         building = BlockPosUtil.readFromByteBuf(buf);
     }
@@ -119,7 +119,7 @@ public class AddRemoveRecipeMessage extends AbstractMessage<AddRemoveRecipeMessa
     public void toBytes(@NotNull final ByteBuf buf)
     {
         buf.writeInt(colonyId);
-        StandardFactoryController.getInstance().writeToBuffer(buf, storage);
+        StandardFactoryController.getInstance().writeWithTypeDictionary(buf, data -> StandardFactoryController.getInstance().writeToBuffer(data, storage));
         buf.writeBoolean(remove);
         BlockPosUtil.writeToByteBuf(buf, building);
     }
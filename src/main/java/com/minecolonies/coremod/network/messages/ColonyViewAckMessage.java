@@ -0,0 +1,67 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Confirms to the server which version of the colony view the client has, so further updates can be sent as delta.
+ */
+public class ColonyViewAckMessage extends AbstractMessage<ColonyViewAckMessage, IMessage>
+{
+    /**
+     * Version sent when the client couldn't apply a delta and needs the full view.
+     */
+    public static final int RESYNC = -1;
+
+    private int colonyId;
+    private int version;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewAckMessage()
+    {
+        super();
+    }
+
+    /**
+     * Acknowledge a colony view version.
+     *
+     * @param colonyId the id of the colony.
+     * @param version  the received version, or {@link #RESYNC}.
+     */
+    public ColonyViewAckMessage(final int colonyId, final int version)
+    {
+        super();
+        this.colonyId = colonyId;
+        this.version = version;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        version = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(version);
+    }
+
+    @Override
+    public void messageOnServerThread(final ColonyViewAckMessage message, final EntityPlayerMP player)
+    {
+        final Colony colony = ColonyManager.getColony(message.colonyId);
+        if (colony != null)
+        {
+            colony.getPackageManager().onColonyViewAcknowledged(player, message.version);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Add or Update the CitizenDataViews of a ColonyView on the client, all changed citizens of a colony in one message.
+ */
+public class ColonyViewCitizensMessage extends AbstractMessage<ColonyViewCitizensMessage, IMessage>
+{
+    private int     colonyId;
+    private ByteBuf citizensBuffer;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewCitizensMessage()
+    {
+        super();
+    }
+
+    /**
+     * Updates {@link com.minecolonies.coremod.colony.CitizenDataView}s of the citizens.
+     *
+     * @param colonyId       id of the colony of the citizens.
+     * @param citizensBuffer the serialized citizens, see {@link ColonyView#handleColonyViewCitizensMessage(ByteBuf)},
+     *                       may be shared between the messages to several players and is not consumed.
+     */
+    public ColonyViewCitizensMessage(final int colonyId, @NotNull final ByteBuf citizensBuffer)
+    {
+        this.colonyId = colonyId;
+        this.citizensBuffer = citizensBuffer;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        this.citizensBuffer = buf.retain();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeBytes(citizensBuffer, citizensBuffer.readerIndex(), citizensBuffer.readableBytes());
+    }
+
+    @Override
+    protected void messageOnClientThread(final ColonyViewCitizensMessage message, final MessageContext ctx)
+    {
+        ColonyManager.handleColonyViewCitizensMessage(message.colonyId, message.citizensBuffer);
+    }
+}
@@ -1,11 +1,9 @@
 package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -32,15 +30,16 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
     /**
      * Add or Update a ColonyView on the client.
      *
-     * @param colony            Colony of the view to update.
+     * @param colonyId          id of the colony of the view to update.
      * @param isNewSubscription Boolean whether or not this is a new subscription.
+     * @param colonyBuffer      the serialized view, see {@link ColonyView#serializeNetworkData},
+     *                          may be shared between the messages to several players and is not consumed.
      */
-    public ColonyViewMessage(@NotNull final Colony colony, final boolean isNewSubscription)
+    public ColonyViewMessage(final int colonyId, final boolean isNewSubscription, @NotNull final ByteBuf colonyBuffer)
     {
-        this.colonyId = colony.getID();
+        this.colonyId = colonyId;
         this.isNewSubscription = isNewSubscription;
-        this.colonyBuffer = Unpooled.buffer();
-        ColonyView.serializeNetworkData(colony, colonyBuffer, isNewSubscription);
+        this.colonyBuffer = colonyBuffer;
     }
 
     @Override
@@ -57,7 +56,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
     {
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Override
@@ -65,7 +64,12 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
     {
         if(MineColonies.proxy.getWorldFromMessage(ctx) != null)
         {
-            ColonyManager.handleColonyViewMessage(message.colonyId, message.colonyBuffer, MineColonies.proxy.getWorldFromMessage(ctx), message.isNewSubscription);
+            final IMessage response =
+              ColonyManager.handleColonyViewMessage(message.colonyId, message.colonyBuffer, MineColonies.proxy.getWorldFromMessage(ctx), message.isNewSubscription);
+            if (response != null)
+            {
+                MineColonies.getNetwork().sendToServer(response);
+            }
         }
     }
 }
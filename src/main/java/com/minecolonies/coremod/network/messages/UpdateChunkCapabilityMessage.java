@@ -3,19 +3,18 @@ package com.minecolonies.coremod.network.messages;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
  * Update the ChunkCapability with a colony.
+ * The colony ids are written as var ints, they are small and few per chunk.
  */
 public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<UpdateChunkCapabilityMessage, IMessage>
 {
@@ -35,9 +34,14 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     private int z;
 
     /**
-     * The list of the close colonies.
+     * Max amount of bytes of a var int.
+     */
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    /**
+     * The ids of the close colonies.
      */
-    private List<Integer> closeColonies;
+    private int[] closeColonies;
 
     /**
      * Empty constructor used when registering the message.
@@ -58,7 +62,7 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
         this.x = x;
         this.z = z;
         this.owningColonyId = tagCapability.getOwningColony();
-        this.closeColonies = tagCapability.getAllCloseColonies();
+        this.closeColonies = tagCapability.getCloseColonyIds();
     }
 
     @Override
@@ -66,12 +70,11 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     {
         x = buf.readInt();
         z = buf.readInt();
-        owningColonyId = buf.readInt();
-        final int size = buf.readInt();
-        closeColonies = new ArrayList<>();
-        for(int i = 0; i < size; i++)
+        owningColonyId = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+        closeColonies = new int[ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES)];
+        for(int i = 0; i < closeColonies.length; i++)
         {
-            closeColonies.add(buf.readInt());
+            closeColonies[i] = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
         }
     }
 
@@ -80,11 +83,11 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     {
         buf.writeInt(x);
         buf.writeInt(z);
-        buf.writeInt(owningColonyId);
-        buf.writeInt(closeColonies.size());
+        ByteBufUtils.writeVarInt(buf, owningColonyId, MAX_VAR_INT_BYTES);
+        ByteBufUtils.writeVarInt(buf, closeColonies.length, MAX_VAR_INT_BYTES);
         for(final int id: closeColonies)
         {
-            buf.writeInt(id);
+            ByteBufUtils.writeVarInt(buf, id, MAX_VAR_INT_BYTES);
         }
     }
 
@@ -0,0 +1,343 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.ArrowLooseEvent;
+import net.minecraftforge.event.entity.player.AttackEntityEvent;
+import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
+import net.minecraftforge.event.entity.player.FillBucketEvent;
+import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single listener for all permission-check events.
+ * Resolves the colony owning the position of an event through the chunk capability once,
+ * and hands the event to the {@link ColonyPermissionEventHandler} of that colony.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * Amount of events handed to a colony.
+     */
+    private final AtomicLong handledEvents = new AtomicLong();
+
+    /**
+     * Amount of events denied by a colony.
+     */
+    private final AtomicLong deniedEvents = new AtomicLong();
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final Colony colony = getOwningColony(event.getWorld(), event.getPos());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final Colony colony = getOwningColony(event.getWorld(), event.getPos());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Removes the blocks and entities inside of any colony from the explosion,
+     * the owner of each chunk is only looked up once.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.enableColonyProtection || !Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final World eventWorld = event.getWorld();
+        final Map<Long, Boolean> chunksInColony = new HashMap<>();
+        final int affected = event.getAffectedBlocks().size() + event.getAffectedEntities().size();
+
+        // if block is in colony -> remove from list
+        event.getAffectedBlocks().removeIf(pos -> isInColony(eventWorld, pos, chunksInColony));
+        // if entity is in colony -> remove from list
+        event.getAffectedEntities().removeIf(entity -> isInColony(entity.getEntityWorld(), entity.getPosition(), chunksInColony));
+
+        if (chunksInColony.containsValue(true))
+        {
+            handledEvents.incrementAndGet();
+            if (event.getAffectedBlocks().size() + event.getAffectedEntities().size() < affected)
+            {
+                deniedEvents.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final Colony colony = getOwningColony(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        if (event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        final Colony colony = getOwningColony(event.getWorld(), event.getPos());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final Colony colony = getOwningColony(event.getEntityPlayer(), event.getWorld(), event.getPos());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final Colony colony = getOwningColony(event.getEntityPlayer(), event.getWorld(), event.getPos());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final Colony colony = getOwningColony(event.getPlayer(), event.getPlayer().getEntityWorld(), event.getPlayer().getPosition());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final Colony colony =
+          getOwningColony(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event.getEntityPlayer().getPosition());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final BlockPos targetBlockPos = event.getTarget() == null ? null : event.getTarget().getBlockPos();
+        final Colony colony = getOwningColony(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), targetBlockPos);
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final Colony colony = getOwningColony(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event.getEntity().getPosition());
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        if (event.getTarget() instanceof EntityMob)
+        {
+            return;
+        }
+
+        final Colony colony = getOwningColony(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), null);
+        if (colony != null)
+        {
+            colony.getEventHandler().on(event);
+            count(event);
+        }
+    }
+
+    /**
+     * Get the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony or null if the position is in none.
+     */
+    @Nullable
+    private static Colony getOwningColony(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        return ColonyManager.getColony(world, pos);
+    }
+
+    /**
+     * Get the colony owning the position of an action of a player.
+     * Fake players are resolved to their real player, like the permission checks do.
+     *
+     * @param playerIn the player.
+     * @param world    the world of the event.
+     * @param pos      the position of the action, or null to use the position of the player.
+     * @return the colony or null if the position is in none.
+     */
+    @Nullable
+    private static Colony getOwningColony(@NotNull final EntityPlayer playerIn, @NotNull final World world, @Nullable final BlockPos pos)
+    {
+        final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        return ColonyManager.getColony(player.getEntityWorld(), pos == null ? player.getPosition() : pos);
+    }
+
+    /**
+     * Check if a position is inside of any colony, caching the result by chunk.
+     *
+     * @param world          the world.
+     * @param pos            the position.
+     * @param chunksInColony the results by chunk of this event.
+     * @return true if so.
+     */
+    private static boolean isInColony(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final Map<Long, Boolean> chunksInColony)
+    {
+        return chunksInColony.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> getOwningColony(world, pos) != null);
+    }
+
+    /**
+     * Count an event handed to a colony, and whether it was denied.
+     *
+     * @param event the event.
+     */
+    private void count(@NotNull final Event event)
+    {
+        handledEvents.incrementAndGet();
+        if (event.getResult() == Event.Result.DENY || (event.isCancelable() && event.isCanceled()))
+        {
+            deniedEvents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the amount of events handed to a colony.
+     *
+     * @return the amount.
+     */
+    public long getHandledEvents()
+    {
+        return handledEvents.get();
+    }
+
+    /**
+     * Get the amount of events denied by a colony.
+     *
+     * @return the amount.
+     */
+    public long getDeniedEvents()
+    {
+        return deniedEvents.get();
+    }
+}
@@ -15,7 +15,6 @@ import com.minecolonies.coremod.items.ItemScanTool;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.monster.EntityMob;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
@@ -34,16 +33,13 @@ import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ExplosionEvent;
 import net.minecraftforge.fml.common.eventhandler.Event;
-import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-
 /**
  * This class handles all permission checks on events and cancels them if needed.
+ * The events are handed to it by the {@link ColonyPermissionEventDispatcher},
+ * only if they happen in the colony of this handler.
  */
 public class ColonyPermissionEventHandler
 {
@@ -68,11 +64,10 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.PlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
-        if (Configurations.gameplay.enableColonyProtection && checkBlockEventDenied(event.getWorld(), event.getPos(), event.getPlayer(), event.getPlacedBlock(), action))
+        if (Configurations.gameplay.enableColonyProtection && checkBlockEventDenied(event.getWorld(), event.getPlayer(), event.getPlacedBlock(), action))
         {
             cancelEvent(event, event.getPlayer(), colony, action, event.getPos());
         }
@@ -82,44 +77,29 @@ public class ColonyPermissionEventHandler
      * This method returns TRUE if this event should be denied.
      *
      * @param worldIn    the world to check in
-     * @param posIn      the block to check
      * @param playerIn   the player who tries
      * @param blockState the state that block is in
      * @param action     the action that was performed on the position
      * @return true if canceled
      */
     private boolean checkBlockEventDenied(
-                                           final World worldIn, final BlockPos posIn, final EntityPlayer playerIn, final IBlockState blockState,
+                                           final World worldIn, final EntityPlayer playerIn, final IBlockState blockState,
                                            final Action action)
     {
         @NotNull final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(playerIn, worldIn);
 
-        if (colony.isCoordInColony(worldIn, posIn))
+        if (!colony.getPermissions().isColonyMember(player))
         {
-            if (!colony.getPermissions().isColonyMember(player))
-            {
-                return true;
-            }
-
-            if (blockState.getBlock() instanceof AbstractBlockHut
-                  && colony.getPermissions().hasPermission(player, action))
-            {
-                return false;
-            }
-
-            if (colony.getPermissions().hasPermission(player, action))
-            {
-                return false;
-            }
-
             return true;
         }
 
-        /*
-         * - We are not inside the colony
-         * - We are in but not denied
-         */
-        return false;
+        if (blockState.getBlock() instanceof AbstractBlockHut
+              && colony.getPermissions().hasPermission(player, action))
+        {
+            return false;
+        }
+
+        return !colony.getPermissions().hasPermission(player, action);
     }
 
     /**
@@ -164,57 +144,25 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final Action action = event.getWorld().getBlockState(event.getPos()).getBlock() instanceof AbstractBlockHut ? Action.BREAK_HUTS : Action.BREAK_BLOCKS;
         if (Configurations.gameplay.enableColonyProtection
-                && checkBlockEventDenied(event.getWorld(), event.getPos(), event.getPlayer(), event.getWorld().getBlockState(event.getPos()), action))
+                && checkBlockEventDenied(event.getWorld(), event.getPlayer(), event.getWorld().getBlockState(event.getPos()), action))
         {
             cancelEvent(event, event.getPlayer(), colony, action, event.getPos());
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (!Configurations.gameplay.enableColonyProtection || !Configurations.gameplay.turnOffExplosionsInColonies)
-        {
-            return;
-        }
-
-        final World eventWorld = event.getWorld();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        final Predicate<Entity> getEntitiesInColony = entity -> colony.isCoordInColony(entity.getEntityWorld(), entity.getPosition());
-        // if block is in colony -> remove from list
-        final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                .filter(getBlocksInColony)
-                                                .collect(Collectors.toList());
-
-        // if entity is in colony -> remove from list
-        final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                .filter(getEntitiesInColony)
-                                                .collect(Collectors.toList());
-        event.getAffectedBlocks().removeAll(blocksToRemove);
-        event.getAffectedEntities().removeAll(entitiesToRemove);
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (Configurations.gameplay.enableColonyProtection
-              && Configurations.gameplay.turnOffExplosionsInColonies
-              && colony.isCoordInColony(event.getWorld(), new BlockPos(event.getExplosion().getPosition())))
+              && Configurations.gameplay.turnOffExplosionsInColonies)
         {
             cancelEvent(event, null, colony, Action.EXPLODE, new BlockPos(event.getExplosion().getPosition()));
         }
@@ -231,11 +179,9 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
-        if (colony.isCoordInColony(event.getWorld(), event.getPos())
-              && !(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
+        if (!(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
         {
             final Block block = event.getWorld().getBlockState(event.getPos()).getBlock();
             // Huts
@@ -320,7 +266,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -353,7 +298,6 @@ public class ColonyPermissionEventHandler
             positionToCheck = player.getPosition();
         }
         if (Configurations.gameplay.enableColonyProtection
-              && colony.isCoordInColony(player.getEntityWorld(), positionToCheck)
               && !colony.getPermissions().hasPermission(player, action))
         {
             cancelEvent(event, player, colony, action, positionToCheck);
@@ -372,7 +316,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -393,7 +336,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getEntityWorld(), event, event.getPlayer().getPosition()))
@@ -412,7 +354,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event, event.getEntityPlayer().getPosition());
@@ -428,7 +369,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -449,7 +389,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event, event.getEntity().getPosition());
@@ -465,7 +404,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof EntityMob)
@@ -473,10 +411,7 @@ public class ColonyPermissionEventHandler
             return;
         }
 
-        @NotNull final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
-
-        if (Configurations.gameplay.enableColonyProtection
-              && colony.isCoordInColony(player.getEntityWorld(), player.getPosition()))
+        if (Configurations.gameplay.enableColonyProtection)
         {
             final Permissions perms = colony.getPermissions();
             if (event.getTarget() instanceof EntityCitizen)
@@ -0,0 +1,642 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items stored in the hut block and the containers of a building, by item, with their counts and positions.
+ * <p>
+ * Containers are marked dirty through {@link #onContainerChanged(World, BlockPos)}, and an update only scans the dirty ones.
+ * Racks and hut blocks report every change of their content. Plain chests can't, so they are marked
+ * when a citizen takes from or puts into them, when a player closes a container next to them, and when their block changes.
+ * </p>
+ */
+public class ContainerItemIndex
+{
+    /**
+     * The maximum distance squared at which a player can use a container.
+     */
+    private static final double CONTAINER_REACH_SQ = 64.0D;
+
+    /**
+     * The indexes of the containers at each position, by dimension. Only used on the server thread.
+     * Weak, so the index of a building dropped without being destroyed doesn't linger.
+     */
+    private static final Map<Integer, Map<BlockPos, Set<ContainerItemIndex>>> indexesByDimension = new HashMap<>();
+
+    /**
+     * The positions of the containers, in the order they were added.
+     */
+    private final Set<BlockPos> positions = new LinkedHashSet<>();
+
+    /**
+     * The positions of the containers which have to be scanned on the next update.
+     */
+    private final Set<BlockPos> dirty = new LinkedHashSet<>();
+
+    /**
+     * The registry of the dimension this index is registered in, null until the first update.
+     */
+    @Nullable
+    private Map<BlockPos, Set<ContainerItemIndex>> registry;
+
+    /**
+     * The indexed containers by position.
+     */
+    private final Map<BlockPos, IndexedContainer> containers = new HashMap<>();
+
+    /**
+     * The stored item variants by item.
+     */
+    private final Map<Item, List<Entry>> entriesByItem = new HashMap<>();
+
+    /**
+     * The stored item variants which are tools, by tool type.
+     */
+    private final Map<IToolType, List<Entry>> entriesByToolType = new HashMap<>();
+
+    /**
+     * Add a container to the index, it is scanned on the next update.
+     *
+     * @param pos the position of the container.
+     */
+    public void addContainer(@NotNull final BlockPos pos)
+    {
+        if (positions.add(pos))
+        {
+            dirty.add(pos);
+            if (registry != null)
+            {
+                registry.computeIfAbsent(pos, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(this);
+            }
+        }
+    }
+
+    /**
+     * Remove a container and its content from the index.
+     *
+     * @param pos the position of the container.
+     */
+    public void removeContainer(@NotNull final BlockPos pos)
+    {
+        if (!positions.remove(pos))
+        {
+            return;
+        }
+
+        dirty.remove(pos);
+        unregister(pos);
+        final IndexedContainer indexed = containers.remove(pos);
+        if (indexed != null)
+        {
+            removeContent(pos, indexed);
+        }
+    }
+
+    /**
+     * Remove all containers from the index, when the building is destroyed.
+     */
+    public void clear()
+    {
+        for (final BlockPos pos : positions)
+        {
+            unregister(pos);
+        }
+        positions.clear();
+        dirty.clear();
+        containers.clear();
+        entriesByItem.clear();
+        entriesByToolType.clear();
+    }
+
+    private void unregister(@NotNull final BlockPos pos)
+    {
+        if (registry == null)
+        {
+            return;
+        }
+
+        final Set<ContainerItemIndex> indexes = registry.get(pos);
+        if (indexes != null)
+        {
+            indexes.remove(this);
+            if (indexes.isEmpty())
+            {
+                registry.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Mark a container as changed, so it is scanned again on the next update.
+     *
+     * @param pos the position of the container.
+     */
+    public void markDirty(@NotNull final BlockPos pos)
+    {
+        if (positions.contains(pos))
+        {
+            dirty.add(pos);
+        }
+    }
+
+    /**
+     * Mark a container as changed in all indexes containing it.
+     *
+     * @param world the world of the container.
+     * @param pos   the position of the container.
+     */
+    public static void onContainerChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        final Map<BlockPos, Set<ContainerItemIndex>> registry = indexesByDimension.get(world.provider.getDimension());
+        final Set<ContainerItemIndex> indexes = registry == null ? null : registry.get(pos);
+        if (indexes != null)
+        {
+            for (final ContainerItemIndex index : indexes)
+            {
+                index.dirty.add(pos);
+            }
+        }
+    }
+
+    /**
+     * Mark the indexed containers a player could have used as changed, after the player closed a container.
+     *
+     * @param player the player.
+     */
+    public static void onContainerClosed(@NotNull final EntityPlayer player)
+    {
+        if (player.world.isRemote)
+        {
+            return;
+        }
+
+        final Map<BlockPos, Set<ContainerItemIndex>> registry = indexesByDimension.get(player.world.provider.getDimension());
+        if (registry == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<BlockPos, Set<ContainerItemIndex>> entry : registry.entrySet())
+        {
+            final BlockPos pos = entry.getKey();
+            if (player.getDistanceSq(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D) <= CONTAINER_REACH_SQ)
+            {
+                for (final ContainerItemIndex index : entry.getValue())
+                {
+                    index.dirty.add(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the registry of a world, the indexes register again on their next update.
+     *
+     * @param world the world.
+     */
+    public static void unregister(@NotNull final World world)
+    {
+        indexesByDimension.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Bring the index up to date by scanning the dirty containers.
+     *
+     * @param world the world of the building.
+     */
+    public void update(@NotNull final World world)
+    {
+        final Map<BlockPos, Set<ContainerItemIndex>> current = indexesByDimension.computeIfAbsent(world.provider.getDimension(), dim -> new HashMap<>());
+        if (current != registry)
+        {
+            //Changes weren't reported while not registered.
+            registry = current;
+            for (final BlockPos pos : positions)
+            {
+                registry.computeIfAbsent(pos, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(this);
+            }
+            dirty.addAll(positions);
+        }
+
+        if (dirty.isEmpty())
+        {
+            return;
+        }
+
+        //Loading a chunk while scanning may report changes, they are scanned on the next update.
+        final List<BlockPos> changed = new ArrayList<>(dirty);
+        dirty.clear();
+        for (final BlockPos pos : changed)
+        {
+            final IndexedContainer indexed = containers.remove(pos);
+            if (indexed != null)
+            {
+                removeContent(pos, indexed);
+            }
+
+            final TileEntity tileEntity = world.getTileEntity(pos);
+            if (tileEntity != null)
+            {
+                final IndexedContainer scanned = scan(tileEntity);
+                containers.put(pos, scanned);
+                addContent(pos, scanned);
+            }
+        }
+    }
+
+    /**
+     * Check if an item matching a predicate is stored.
+     *
+     * @param item      the item of the stack if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return true if there is one.
+     */
+    public boolean hasItem(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        return getFirstMatchingEntry(item, predicate) != null;
+    }
+
+    /**
+     * Count the stored items matching a predicate.
+     *
+     * @param item      the item of the stacks if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return the total amount in all containers.
+     */
+    public int getItemCount(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final List<Entry> entries : getCandidates(item))
+        {
+            for (final Entry entry : entries)
+            {
+                if (predicate.test(entry.stack))
+                {
+                    for (final int[] counts : entry.slotCounts.values())
+                    {
+                        count += counts[0];
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the best stored tool of a type, the one with the highest level in the given range.
+     *
+     * @param toolType the type of the tool.
+     * @param minLevel the minimal level.
+     * @param maxLevel the maximal level.
+     * @return a copy of the tool or empty if there is none.
+     */
+    @NotNull
+    public ItemStack getBestTool(@NotNull final IToolType toolType, final int minLevel, final int maxLevel)
+    {
+        //Only the built in tool types are indexed, others check all variants.
+        final Collection<List<Entry>> candidates = toolType instanceof ToolType ? getCandidates(entriesByToolType.get(toolType)) : getCandidates(null);
+        ItemStack best = ItemStackUtils.EMPTY;
+        int bestLevel = -1;
+        for (final List<Entry> entries : candidates)
+        {
+            for (final Entry entry : entries)
+            {
+                if (!ItemStackUtils.hasToolLevel(entry.stack, toolType, minLevel, maxLevel))
+                {
+                    continue;
+                }
+
+                final int level = ItemStackUtils.getMiningLevel(entry.stack, toolType);
+                if (ItemStackUtils.isEmpty(best) || level > bestLevel)
+                {
+                    best = entry.stack;
+                    bestLevel = level;
+                }
+            }
+        }
+        return best.copy();
+    }
+
+    /**
+     * Get the first stored item matching a predicate.
+     *
+     * @param item      the item of the stack if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return a copy of a matching stack, sized like the largest stack of it in a slot, or empty.
+     */
+    @NotNull
+    public ItemStack getFirstMatchingItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final Entry entry = getFirstMatchingEntry(item, predicate);
+        if (entry == null)
+        {
+            return ItemStackUtils.EMPTY;
+        }
+
+        return entry.stack.copy();
+    }
+
+    /**
+     * Get the position of a container holding an item matching a predicate.
+     *
+     * @param item      the item of the stack if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return the position or null.
+     */
+    @Nullable
+    public BlockPos getPositionOfContainerWithItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final Entry entry = getFirstMatchingEntry(item, predicate);
+        return entry == null ? null : entry.slotCounts.keySet().iterator().next();
+    }
+
+    /**
+     * Get the positions of all containers holding an item matching a predicate.
+     *
+     * @param item      the item of the stack if known, to only check its variants, or null to check all.
+     * @param predicate the predicate.
+     * @return the positions, in the order the containers were indexed.
+     */
+    @NotNull
+    public Set<BlockPos> getPositionsOfContainersWithItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> positions = new LinkedHashSet<>();
+        for (final List<Entry> entries : getCandidates(item))
+        {
+            for (final Entry entry : entries)
+            {
+                if (predicate.test(entry.stack))
+                {
+                    positions.addAll(entry.slotCounts.keySet());
+                }
+            }
+        }
+        return positions;
+    }
+
+    @Nullable
+    private Entry getFirstMatchingEntry(@Nullable final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final List<Entry> entries : getCandidates(item))
+        {
+            for (final Entry entry : entries)
+            {
+                if (predicate.test(entry.stack))
+                {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the variants to check, grouped in lists so all variants can be checked without copying them.
+     *
+     * @param item the item of the stack if known, or null for all.
+     * @return the lists of variants.
+     */
+    @NotNull
+    private Collection<List<Entry>> getCandidates(@Nullable final Item item)
+    {
+        return item == null ? entriesByItem.values() : getCandidates(entriesByItem.get(item));
+    }
+
+    @NotNull
+    private static Collection<List<Entry>> getCandidates(@Nullable final List<Entry> entries)
+    {
+        return entries == null ? Collections.emptyList() : Collections.singletonList(entries);
+    }
+
+    private void addContent(@NotNull final BlockPos pos, @NotNull final IndexedContainer container)
+    {
+        for (final Map.Entry<ItemKey, int[]> content : container.content.entrySet())
+        {
+            final ItemKey key = content.getKey();
+            final List<Entry> entries = entriesByItem.computeIfAbsent(key.stack.getItem(), item -> new ArrayList<>());
+            Entry entry = null;
+            for (final Entry candidate : entries)
+            {
+                if (candidate.key.equals(key))
+                {
+                    entry = candidate;
+                    break;
+                }
+            }
+
+            if (entry == null)
+            {
+                entry = new Entry(key);
+                entries.add(entry);
+                for (final ToolType toolType : ToolType.values())
+                {
+                    if (toolType != ToolType.NONE && ItemStackUtils.isTool(key.stack, toolType))
+                    {
+                        entriesByToolType.computeIfAbsent(toolType, type -> new ArrayList<>()).add(entry);
+                    }
+                }
+            }
+            entry.slotCounts.put(pos, content.getValue());
+            entry.updateStack();
+        }
+    }
+
+    private void removeContent(@NotNull final BlockPos pos, @NotNull final IndexedContainer container)
+    {
+        for (final ItemKey key : container.content.keySet())
+        {
+            final List<Entry> entries = entriesByItem.get(key.stack.getItem());
+            if (entries == null)
+            {
+                continue;
+            }
+
+            final Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext())
+            {
+                final Entry entry = iterator.next();
+                if (entry.key.equals(key))
+                {
+                    entry.slotCounts.remove(pos);
+                    if (entry.slotCounts.isEmpty())
+                    {
+                        iterator.remove();
+                        removeToolEntry(entry);
+                    }
+                    else
+                    {
+                        entry.updateStack();
+                    }
+                    break;
+                }
+            }
+
+            if (entries.isEmpty())
+            {
+                entriesByItem.remove(key.stack.getItem());
+            }
+        }
+    }
+
+    private void removeToolEntry(@NotNull final Entry entry)
+    {
+        final Iterator<List<Entry>> iterator = entriesByToolType.values().iterator();
+        while (iterator.hasNext())
+        {
+            final List<Entry> entries = iterator.next();
+            entries.remove(entry);
+            if (entries.isEmpty())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Read the content of a container.
+     *
+     * @param tileEntity the container.
+     * @return the indexed content.
+     */
+    @NotNull
+    private static IndexedContainer scan(@NotNull final TileEntity tileEntity)
+    {
+        final IndexedContainer container = new IndexedContainer();
+        if (tileEntity instanceof TileEntityRack)
+        {
+            final IItemHandler inventory = ((TileEntityRack) tileEntity).getInventory();
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                container.add(inventory.getStackInSlot(slot));
+            }
+        }
+        else if (tileEntity instanceof IInventory)
+        {
+            final IInventory inventory = (IInventory) tileEntity;
+            for (int slot = 0; slot < inventory.getSizeInventory(); slot++)
+            {
+                container.add(inventory.getStackInSlot(slot));
+            }
+        }
+        return container;
+    }
+
+    /**
+     * The content of one container when it was last scanned.
+     */
+    private static final class IndexedContainer
+    {
+        private final Map<ItemKey, int[]> content = new HashMap<>();
+
+        /**
+         * Count a slot, as total and largest stack.
+         *
+         * @param stack the stack in the slot.
+         */
+        private void add(@NotNull final ItemStack stack)
+        {
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                return;
+            }
+
+            final int[] counts = content.computeIfAbsent(new ItemKey(stack), key -> new int[2]);
+            counts[0] += ItemStackUtils.getSize(stack);
+            counts[1] = Math.max(counts[1], ItemStackUtils.getSize(stack));
+        }
+    }
+
+    /**
+     * One stored item variant, with its total and largest slot count per container.
+     */
+    private static final class Entry
+    {
+        private final ItemKey              key;
+        private final Map<BlockPos, int[]> slotCounts = new LinkedHashMap<>();
+
+        /**
+         * A stack of the item, sized like the largest stack of it in a slot.
+         * Passed to the predicates, must not be modified and only handed out as copy.
+         */
+        private final ItemStack stack;
+
+        private Entry(@NotNull final ItemKey key)
+        {
+            this.key = key;
+            this.stack = key.stack.copy();
+        }
+
+        /**
+         * Size the stack like the largest stack in a slot, after the slot counts changed.
+         */
+        private void updateStack()
+        {
+            int largest = 0;
+            for (final int[] counts : slotCounts.values())
+            {
+                largest = Math.max(largest, counts[1]);
+            }
+            stack.setCount(largest);
+        }
+    }
+
+    /**
+     * Item, damage and NBT of a stack, ignoring its size.
+     */
+    private static final class ItemKey
+    {
+        private final ItemStack stack;
+
+        private ItemKey(@NotNull final ItemStack stack)
+        {
+            this.stack = stack.copy();
+            this.stack.setCount(1);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final ItemKey that = (ItemKey) o;
+            return stack.getItem() == that.stack.getItem()
+                     && stack.getItemDamage() == that.stack.getItemDamage()
+                     && Objects.equals(stack.getTagCompound(), that.stack.getTagCompound());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            final NBTTagCompound tag = stack.getTagCompound();
+            return (Item.getIdFromItem(stack.getItem()) * 31 + stack.getItemDamage()) * 31 + (tag == null ? 0 : tag.hashCode());
+        }
+    }
+}
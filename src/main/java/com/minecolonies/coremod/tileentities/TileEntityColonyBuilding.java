@@ -13,7 +13,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -148,22 +147,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
 
         if (theBuilding != null)
         {
-            if (isInTileEntity(theBuilding.getTileEntity(), itemStackSelectionPredicate))
-            {
-                return theBuilding.getLocation();
-            }
-
-            for (final BlockPos pos : theBuilding.getAdditionalCountainers())
-            {
-                final TileEntity entity = getWorld().getTileEntity(pos);
-                if ((entity instanceof TileEntityRack
-                        && ((TileEntityRack) entity).hasItemStack(itemStackSelectionPredicate))
-                        || (entity instanceof TileEntityChest
-                        && isInTileEntity((TileEntityChest) entity, itemStackSelectionPredicate)))
-                {
-                    return pos;
-                }
-            }
+            return theBuilding.getItemIndex().getPositionOfContainerWithItemStack(null, itemStackSelectionPredicate);
         }
         return null;
     }
@@ -199,6 +183,10 @@ public class TileEntityColonyBuilding extends TileEntityChest
     public void markDirty()
     {
         super.markDirty();
+        if (world != null)
+        {
+            ContainerItemIndex.onContainerChanged(world, pos);
+        }
         if (building != null)
         {
             building.markDirty();
@@ -275,6 +263,10 @@ public class TileEntityColonyBuilding extends TileEntityChest
     public void readFromNBT(final NBTTagCompound compound)
     {
         super.readFromNBT(compound);
+        if (world != null)
+        {
+            ContainerItemIndex.onContainerChanged(world, pos);
+        }
         if (compound.hasKey(TAG_COLONY))
         {
             colonyId = compound.getInteger(TAG_COLONY);
@@ -285,6 +277,17 @@ public class TileEntityColonyBuilding extends TileEntityChest
         style = compound.getString(TAG_STYLE);
     }
 
+    @NotNull
+    @Override
+    public ItemStack removeStackFromSlot(final int index)
+    {
+        if (world != null)
+        {
+            ContainerItemIndex.onContainerChanged(world, pos);
+        }
+        return super.removeStackFromSlot(index);
+    }
+
     @NotNull
     @Override
     public NBTTagCompound writeToNBT(@NotNull final NBTTagCompound compound)
@@ -212,6 +212,7 @@ public class TileEntityRack extends TileEntity
         }
 
         inventory = tempInventory;
+        markDirty();
         final IBlockState state = world.getBlockState(pos);
         world.notifyBlockUpdate(pos, state, state, 0x03);
     }
@@ -387,6 +388,16 @@ public class TileEntityRack extends TileEntity
         }
     }
 
+    @Override
+    public void markDirty()
+    {
+        super.markDirty();
+        if (world != null)
+        {
+            ContainerItemIndex.onContainerChanged(world, pos);
+        }
+    }
+
     public void softReset()
     {
         this.neighbor = BlockPos.ORIGIN;
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
@@ -12,10 +13,7 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL;
 
@@ -24,7 +22,6 @@ import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECO
  */
 public class TileEntityWareHouse extends TileEntityColonyBuilding
 {
-
     /**
      * Method used to check if this warehouse holds any of the requested itemstacks.
      *
@@ -44,18 +41,23 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
      */
     @Nullable
     public ItemStack getFirstMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        return getFirstMatchingItemStackInWarehouse(null, itemStackSelectionPredicate);
+    }
+
+    /**
+     * Method to get the first matching ItemStack in the Warehouse.
+     *
+     * @param item                        The item the stack has to be, if known, only its stacks are checked then.
+     * @param itemStackSelectionPredicate The predicate to select the ItemStack with.
+     * @return The first matching ItemStack, sized like the largest stack of it in a slot.
+     */
+    @NotNull
+    public ItemStack getFirstMatchingItemStackInWarehouse(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .map(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate))
-                     .filter(itemStacks -> !itemStacks.isEmpty())
-                     .map(itemStacks -> itemStacks.get(0))
-                     .findFirst().orElse(ItemStackUtils.EMPTY);
+            return getBuilding().getItemIndex().getFirstMatchingItemStack(item, itemStackSelectionPredicate);
         }
 
         return ItemStackUtils.EMPTY;
@@ -69,17 +71,23 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
      */
     @Nullable
     public BlockPos getPositionOfChestWithItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        return getPositionOfChestWithItemStack(null, itemStackSelectionPredicate);
+    }
+
+    /**
+     * Check for a certain item and return the position of the chest containing it.
+     *
+     * @param item                        The item the stack has to be, if known, only its stacks are checked then.
+     * @param itemStackSelectionPredicate the stack to search for.
+     * @return the position or null.
+     */
+    @Nullable
+    public BlockPos getPositionOfChestWithItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
-                     .findFirst().orElse(null);
+            return getBuilding().getItemIndex().getPositionOfContainerWithItemStack(item, itemStackSelectionPredicate);
         }
 
         return null;
@@ -107,6 +115,7 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
                 return;
             }
             InventoryUtils.transferItemStackIntoNextFreeSlotInProvider(new InvWrapper(inventoryCitizen), i, chest);
+            ContainerItemIndex.onContainerChanged(getWorld(), chest.getPos());
         }
     }
 
@@ -0,0 +1,216 @@
+package com.minecolonies.coremod.util;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Computes and applies differences between two compounds, to only send the changed parts of large compounds.
+ * Compounds are compared key by key and recursively, lists only replace the range between their common prefix and suffix.
+ * The compounds passed in are never modified, unchanged tags are shared between the base and the result.
+ */
+public final class NBTDeltaUtils
+{
+    /**
+     * Tags which were added or replaced.
+     */
+    private static final String TAG_SET      = "set";
+    /**
+     * Nested compound deltas.
+     */
+    private static final String TAG_COMPOUND = "sub";
+    /**
+     * Nested list deltas.
+     */
+    private static final String TAG_LIST     = "lst";
+    /**
+     * Removed keys.
+     */
+    private static final String TAG_REMOVED  = "rem";
+
+    /**
+     * List delta: length of the common prefix, length of the common suffix and the elements in between.
+     */
+    private static final String TAG_PREFIX = "p";
+    private static final String TAG_SUFFIX = "s";
+    private static final String TAG_MIDDLE = "m";
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private NBTDeltaUtils()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Compute the delta turning one compound into another.
+     *
+     * @param base   the compound the receiver has.
+     * @param target the compound the receiver should have.
+     * @return the delta, empty if both are equal.
+     */
+    @NotNull
+    public static NBTTagCompound diff(@NotNull final NBTTagCompound base, @NotNull final NBTTagCompound target)
+    {
+        final NBTTagCompound set = new NBTTagCompound();
+        final NBTTagCompound compounds = new NBTTagCompound();
+        final NBTTagCompound lists = new NBTTagCompound();
+        final NBTTagList removed = new NBTTagList();
+
+        for (final String key : target.getKeySet())
+        {
+            final NBTBase newTag = target.getTag(key);
+            final NBTBase oldTag = base.getTag(key);
+            if (newTag.equals(oldTag))
+            {
+                continue;
+            }
+
+            if (oldTag instanceof NBTTagCompound && newTag instanceof NBTTagCompound)
+            {
+                compounds.setTag(key, diff((NBTTagCompound) oldTag, (NBTTagCompound) newTag));
+            }
+            else if (oldTag instanceof NBTTagList && newTag instanceof NBTTagList
+                       && ((NBTTagList) oldTag).getTagType() == ((NBTTagList) newTag).getTagType())
+            {
+                lists.setTag(key, diffList((NBTTagList) oldTag, (NBTTagList) newTag));
+            }
+            else
+            {
+                set.setTag(key, newTag);
+            }
+        }
+
+        for (final String key : base.getKeySet())
+        {
+            if (!target.hasKey(key))
+            {
+                removed.appendTag(new NBTTagString(key));
+            }
+        }
+
+        final NBTTagCompound delta = new NBTTagCompound();
+        if (!set.hasNoTags())
+        {
+            delta.setTag(TAG_SET, set);
+        }
+        if (!compounds.hasNoTags())
+        {
+            delta.setTag(TAG_COMPOUND, compounds);
+        }
+        if (!lists.hasNoTags())
+        {
+            delta.setTag(TAG_LIST, lists);
+        }
+        if (!removed.hasNoTags())
+        {
+            delta.setTag(TAG_REMOVED, removed);
+        }
+        return delta;
+    }
+
+    /**
+     * Apply a delta to a compound.
+     *
+     * @param base  the compound the delta was computed against.
+     * @param delta the delta.
+     * @return a new compound equal to the target the delta was computed for.
+     */
+    @NotNull
+    public static NBTTagCompound apply(@NotNull final NBTTagCompound base, @NotNull final NBTTagCompound delta)
+    {
+        final NBTTagCompound result = new NBTTagCompound();
+        for (final String key : base.getKeySet())
+        {
+            result.setTag(key, base.getTag(key));
+        }
+
+        final NBTTagList removed = delta.getTagList(TAG_REMOVED, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < removed.tagCount(); i++)
+        {
+            result.removeTag(removed.getStringTagAt(i));
+        }
+
+        final NBTTagCompound set = delta.getCompoundTag(TAG_SET);
+        for (final String key : set.getKeySet())
+        {
+            result.setTag(key, set.getTag(key));
+        }
+
+        final NBTTagCompound compounds = delta.getCompoundTag(TAG_COMPOUND);
+        for (final String key : compounds.getKeySet())
+        {
+            result.setTag(key, apply(base.getCompoundTag(key), compounds.getCompoundTag(key)));
+        }
+
+        final NBTTagCompound lists = delta.getCompoundTag(TAG_LIST);
+        for (final String key : lists.getKeySet())
+        {
+            final NBTBase list = base.getTag(key);
+            result.setTag(key, applyList(list instanceof NBTTagList ? (NBTTagList) list : new NBTTagList(), lists.getCompoundTag(key)));
+        }
+        return result;
+    }
+
+    @NotNull
+    private static NBTTagCompound diffList(@NotNull final NBTTagList base, @NotNull final NBTTagList target)
+    {
+        final int baseCount = base.tagCount();
+        final int targetCount = target.tagCount();
+
+        int prefix = 0;
+        while (prefix < baseCount && prefix < targetCount && base.get(prefix).equals(target.get(prefix)))
+        {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < baseCount - prefix && suffix < targetCount - prefix
+                 && base.get(baseCount - 1 - suffix).equals(target.get(targetCount - 1 - suffix)))
+        {
+            suffix++;
+        }
+
+        final NBTTagList middle = new NBTTagList();
+        for (int i = prefix; i < targetCount - suffix; i++)
+        {
+            middle.appendTag(target.get(i));
+        }
+
+        final NBTTagCompound delta = new NBTTagCompound();
+        delta.setInteger(TAG_PREFIX, prefix);
+        delta.setInteger(TAG_SUFFIX, suffix);
+        delta.setTag(TAG_MIDDLE, middle);
+        return delta;
+    }
+
+    @NotNull
+    private static NBTTagList applyList(@NotNull final NBTTagList base, @NotNull final NBTTagCompound delta)
+    {
+        final int prefix = delta.getInteger(TAG_PREFIX);
+        final int suffix = delta.getInteger(TAG_SUFFIX);
+        final NBTBase middleTag = delta.getTag(TAG_MIDDLE);
+        final NBTTagList middle = middleTag instanceof NBTTagList ? (NBTTagList) middleTag : new NBTTagList();
+
+        final NBTTagList result = new NBTTagList();
+        for (int i = 0; i < prefix; i++)
+        {
+            result.appendTag(base.get(i));
+        }
+        for (int i = 0; i < middle.tagCount(); i++)
+        {
+            result.appendTag(middle.get(i));
+        }
+        for (int i = base.tagCount() - suffix; i < base.tagCount(); i++)
+        {
+            result.appendTag(base.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.minecolonies.structures.helpers;
+
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.PlacementSettings;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The blocks of a template with a rotation and mirror applied, moved to non negative positions.
+ * <p>
+ * Immutable and shared between all users of the same template, see {@link TemplateCache}.
+ * The blocks are stored as palette plus one index per position, the block infos of the palette
+ * only carry the state and tile entity data, their position is the first position they are used at.
+ * </p>
+ */
+public final class RotatedTemplate
+{
+    /**
+     * Index of positions without a block.
+     */
+    private static final int NO_BLOCK = -1;
+
+    private final int                  width;
+    private final int                  height;
+    private final int                  length;
+    private final Template.BlockInfo[] palette;
+    private final int[]                indices;
+    private final BlockPos             minOffset;
+    @Nullable
+    private final BlockPos             hutPosition;
+
+    private RotatedTemplate(
+                             final BlockPos size,
+                             final Template.BlockInfo[] palette,
+                             final int[] indices,
+                             final BlockPos minOffset,
+                             @Nullable final BlockPos hutPosition)
+    {
+        this.width = size.getX();
+        this.height = size.getY();
+        this.length = size.getZ();
+        this.palette = palette;
+        this.indices = indices;
+        this.minOffset = minOffset;
+        this.hutPosition = hutPosition;
+    }
+
+    /**
+     * Apply a rotation and mirror to the blocks of a structure.
+     *
+     * @param structure the structure.
+     * @param rotation  the rotation.
+     * @param mirror    the mirror.
+     * @return the rotated blocks.
+     */
+    @NotNull
+    public static RotatedTemplate create(@NotNull final Structure structure, @NotNull final Rotation rotation, @NotNull final Mirror mirror)
+    {
+        final BlockPos size = structure.getSize(rotation);
+        final Template.BlockInfo[] infos = structure.getBlockInfoWithSettings(new PlacementSettings().setRotation(rotation).setMirror(mirror));
+
+        int minX = 0;
+        int minY = 0;
+        int minZ = 0;
+        for (final Template.BlockInfo info : infos)
+        {
+            minX = Math.min(minX, info.pos.getX());
+            minY = Math.min(minY, info.pos.getY());
+            minZ = Math.min(minZ, info.pos.getZ());
+        }
+        final BlockPos minOffset = new BlockPos(-minX, -minY, -minZ);
+
+        final int[] indices = new int[size.getX() * size.getY() * size.getZ()];
+        Arrays.fill(indices, NO_BLOCK);
+        final List<Template.BlockInfo> palette = new ArrayList<>();
+        final Map<IBlockState, Integer> paletteByState = new HashMap<>();
+        BlockPos hutPosition = null;
+
+        for (final Template.BlockInfo info : infos)
+        {
+            final BlockPos pos = info.pos.add(minOffset);
+            final int paletteIndex;
+            if (info.tileentityData == null)
+            {
+                paletteIndex = paletteByState.computeIfAbsent(info.blockState, state -> {
+                    palette.add(new Template.BlockInfo(pos, state, null));
+                    return palette.size() - 1;
+                });
+            }
+            else
+            {
+                palette.add(new Template.BlockInfo(pos, info.blockState, info.tileentityData));
+                paletteIndex = palette.size() - 1;
+            }
+            indices[(pos.getY() * size.getZ() + pos.getZ()) * size.getX() + pos.getX()] = paletteIndex;
+
+            if (info.blockState.getBlock() instanceof AbstractBlockHut)
+            {
+                hutPosition = pos;
+            }
+        }
+
+        return new RotatedTemplate(size, palette.toArray(new Template.BlockInfo[palette.size()]), indices, minOffset, hutPosition);
+    }
+
+    /**
+     * Get the block at a position.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the block info, only state and tile entity data apply to the position, or null if there is no block.
+     */
+    @Nullable
+    public Template.BlockInfo getBlockInfo(final int x, final int y, final int z)
+    {
+        final int index = indices[(y * length + z) * width + x];
+        return index == NO_BLOCK ? null : palette[index];
+    }
+
+    /**
+     * Get the size of the rotated blocks.
+     *
+     * @return the size.
+     */
+    @NotNull
+    public BlockPos getSize()
+    {
+        return new BlockPos(width, height, length);
+    }
+
+    /**
+     * Get the offset the rotated positions were moved by to not be negative.
+     *
+     * @return the offset.
+     */
+    @NotNull
+    public BlockPos getMinOffset()
+    {
+        return minOffset;
+    }
+
+    /**
+     * Get the position of the hut block.
+     *
+     * @return the position or null if there is none.
+     */
+    @Nullable
+    public BlockPos getHutPosition()
+    {
+        return hutPosition;
+    }
+
+    /**
+     * Get the amount of distinct block infos.
+     *
+     * @return the size of the palette.
+     */
+    public int getPaletteSize()
+    {
+        return palette.length;
+    }
+}
@@ -25,14 +25,10 @@ import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
-import net.minecraft.util.datafix.DataFixer;
-import net.minecraft.util.datafix.DataFixesManager;
-import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
@@ -88,11 +84,6 @@ public class Structure
      */
     private static final int BUFFER_SIZE = 1024;
 
-    /**
-     * Required Datafixer
-     */
-    private final DataFixer fixer;
-
     /**
      * List of models.
      */
@@ -126,7 +117,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
 
         InputStream inputStream = null;
         try
@@ -155,8 +145,9 @@ public class Structure
 
             try
             {
-                this.md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
-                this.template = readTemplateFromStream(inputStream, fixer);
+                final byte[] data = getStreamAsByteArray(inputStream);
+                this.md5 = Structure.calculateMD5(data);
+                this.template = TemplateCache.getTemplate(md5, data);
             }
             catch (final IOException e)
             {
@@ -239,23 +230,6 @@ public class Structure
         return calculateMD5(getStreamAsByteArray(stream));
     }
 
-    /**
-     * Reads a template from an inputstream.
-     */
-    private static Template readTemplateFromStream(final InputStream stream, final DataFixer fixer) throws IOException
-    {
-        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(stream);
-
-        if (!nbttagcompound.hasKey("DataVersion", 99))
-        {
-            nbttagcompound.setInteger("DataVersion", 500);
-        }
-
-        final Template template = new Template();
-        template.read(fixer.process(FixTypes.STRUCTURE, nbttagcompound));
-        return template;
-    }
-
     /**
      * get a input stream for a schematic within a specif folder.
      *
@@ -408,7 +382,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
     }
 
     public static byte[] compress(final byte[] data)
@@ -456,6 +429,17 @@ public class Structure
         return this.template;
     }
 
+    /**
+     * Get the MD5 hash of the schematic file of the structure.
+     *
+     * @return the hash or null if it couldn't be loaded.
+     */
+    @Nullable
+    public String getMD5()
+    {
+        return md5;
+    }
+
     /**
      * Compare the md5 from the structure with an other md5 hash.
      *
@@ -1,7 +1,6 @@
 package com.minecolonies.structures.helpers;
 
 import com.minecolonies.api.util.BlockPosUtil;
-import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Rotation;
@@ -12,7 +11,9 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.minecolonies.api.util.constant.Constants.ROTATE_ONCE;
 import static com.minecolonies.api.util.constant.Constants.ROTATE_THREE_TIMES;
@@ -23,13 +24,13 @@ import static com.minecolonies.api.util.constant.Constants.ROTATE_TWICE;
  */
 public class StructureProxy
 {
-    private final Structure                 structure;
-    private       Template.EntityInfo[][][] entities;
-    private       Template.BlockInfo[][][]  blocks;
-    private       int                       width;
-    private       int                       height;
-    private       int                       length;
-    private       BlockPos                  offset;
+    private final Structure                         structure;
+    private final Map<Integer, Template.EntityInfo> entities = new HashMap<>();
+    private       RotatedTemplate                   blocks;
+    private       int                               width;
+    private       int                               height;
+    private       int                               length;
+    private       BlockPos                          offset;
 
     /**
      * @param worldObj the world.
@@ -43,31 +44,17 @@ public class StructureProxy
         {
             return;
         }
-        final BlockPos size = structure.getSize(Rotation.NONE);
+        this.blocks = TemplateCache.getRotatedTemplate(structure, Rotation.NONE, Mirror.NONE);
+        final BlockPos size = blocks.getSize();
 
         this.width = size.getX();
         this.height = size.getY();
         this.length = size.getZ();
-
-        this.blocks = new Template.BlockInfo[width][height][length];
-        this.entities = new Template.EntityInfo[width][height][length];
-
-        for (final Template.BlockInfo info : structure.getBlockInfo())
-        {
-            final BlockPos tempPos = info.pos;
-            blocks[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
-            entities[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = null;
-
-            if (info.blockState.getBlock() instanceof AbstractBlockHut)
-            {
-                offset = info.pos;
-            }
-        }
+        this.offset = blocks.getHutPosition();
 
         for (final Template.EntityInfo info : structure.getTileEntities())
         {
-            final BlockPos tempPos = info.blockPos;
-            entities[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
+            entities.put(getIndex(info.blockPos), info);
         }
     }
 
@@ -129,22 +116,25 @@ public class StructureProxy
      * Getter of the IBlockState at a certain position.
      *
      * @param pos the position.
-     * @return the blockState.
+     * @return the blockState or null if there is no block.
      */
+    @Nullable
     public IBlockState getBlockState(@NotNull final BlockPos pos)
     {
-        return blocks[pos.getX()][pos.getY()][pos.getZ()].blockState;
+        final Template.BlockInfo info = getBlockInfo(pos);
+        return info == null ? null : info.blockState;
     }
 
     /**
      * Getter of the BlockInfo at a certain position.
      *
      * @param pos the position.
-     * @return the blockState.
+     * @return the blockInfo or null if there is no block, only its state and tile entity data apply to the position.
      */
+    @Nullable
     public Template.BlockInfo getBlockInfo(@NotNull final BlockPos pos)
     {
-        return blocks[pos.getX()][pos.getY()][pos.getZ()];
+        return blocks.getBlockInfo(pos.getX(), pos.getY(), pos.getZ());
     }
 
     /**
@@ -166,11 +156,7 @@ public class StructureProxy
     @Nullable
     public Template.EntityInfo getEntityinfo(@NotNull final BlockPos pos)
     {
-        if (entities[pos.getX()][pos.getY()].length == 0)
-        {
-            return null;
-        }
-        return entities[pos.getX()][pos.getY()][pos.getZ()];
+        return entities.get(getIndex(pos));
     }
 
     /**
@@ -228,64 +214,24 @@ public class StructureProxy
             default:
                 rotation = Rotation.NONE;
         }
-        structure.setPlacementSettings(new PlacementSettings().setRotation(rotation).setMirror(mirror));
+        final PlacementSettings settings = new PlacementSettings().setRotation(rotation).setMirror(mirror);
+        structure.setPlacementSettings(settings);
 
-        final BlockPos size = structure.getSize(rotation);
+        this.blocks = TemplateCache.getRotatedTemplate(structure, rotation, mirror);
+        final BlockPos size = blocks.getSize();
 
         this.width = size.getX();
         this.height = size.getY();
         this.length = size.getZ();
+        this.entities.clear();
 
-        this.blocks = new Template.BlockInfo[width][height][length];
-        this.entities = new Template.EntityInfo[width][height][length];
-
-        int minX = 0;
-        int minY = 0;
-        int minZ = 0;
-
-        for (final Template.BlockInfo info : structure.getBlockInfoWithSettings(new PlacementSettings().setRotation(rotation).setMirror(mirror)))
-        {
-            final BlockPos tempPos = info.pos;
-            final int x = tempPos.getX();
-            final int y = tempPos.getY();
-            final int z = tempPos.getZ();
-            if (x < minX)
-            {
-                minX = x;
-            }
-
-            if (y < minY)
-            {
-                minY = y;
-            }
-
-            if (z < minZ)
-            {
-                minZ = z;
-            }
-        }
-
-        minX = Math.abs(minX);
-        minY = Math.abs(minY);
-        minZ = Math.abs(minZ);
-        boolean foundHut = false;
-        final PlacementSettings settings = new PlacementSettings().setRotation(rotation).setMirror(mirror);
-
-        for (final Template.BlockInfo info : structure.getBlockInfoWithSettings(settings))
+        final int minX = blocks.getMinOffset().getX();
+        final int minY = blocks.getMinOffset().getY();
+        final int minZ = blocks.getMinOffset().getZ();
+        final boolean foundHut = blocks.getHutPosition() != null;
+        if (foundHut)
         {
-            final BlockPos tempPos = info.pos;
-            final int x = tempPos.getX() + minX;
-            final int y = tempPos.getY() + minY;
-            final int z = tempPos.getZ() + minZ;
-
-            this.blocks[x][y][z] = info;
-            this.entities[x][y][z] = null;
-
-            if (info.blockState.getBlock() instanceof AbstractBlockHut)
-            {
-                foundHut = true;
-                offset = info.pos.add(minX, minY, minZ);
-            }
+            offset = blocks.getHutPosition();
         }
 
         updateOffSetIfDecoration(foundHut, size, times, minX, minY, minZ);
@@ -295,13 +241,21 @@ public class StructureProxy
             final Template.EntityInfo newInfo = structure.transformEntityInfoWithSettings(info, world, rotatePos.subtract(offset).add(new BlockPos(minX, minY, minZ)), settings);
             //289 74 157 - 289.9 76.5, 157.5
             final BlockPos tempPos = Template.transformedBlockPos(settings, info.blockPos);
-            final int x = tempPos.getX() + minX;
-            final int y = tempPos.getY() + minY;
-            final int z = tempPos.getZ() + minZ;
-            this.entities[x][y][z] = newInfo;
+            this.entities.put(getIndex(tempPos.add(minX, minY, minZ)), newInfo);
         }
     }
 
+    /**
+     * Get the index of a position in the current size of the structure.
+     *
+     * @param pos the position.
+     * @return the index.
+     */
+    private int getIndex(@NotNull final BlockPos pos)
+    {
+        return (pos.getY() * length + pos.getZ()) * width + pos.getX();
+    }
+
     /**
      * Updates the offset if the structure is a decoration.
      *
@@ -0,0 +1,227 @@
+package com.minecolonies.structures.helpers;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.DataFixesManager;
+import net.minecraft.util.datafix.FixTypes;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide cache of the parsed templates by MD5 hash, and of their rotated blocks by hash, rotation and mirror.
+ * Entries are held softly, so they are dropped when memory runs short and loaded again on the next use.
+ */
+public final class TemplateCache
+{
+    /**
+     * NBT key of the data version of a template.
+     */
+    private static final String TAG_DATA_VERSION = "DataVersion";
+
+    /**
+     * Data version of templates saved without one.
+     */
+    private static final int DEFAULT_DATA_VERSION = 500;
+
+    /**
+     * NBT type id of any number.
+     */
+    private static final int TAG_ANY_NUMERIC = 99;
+
+    /**
+     * The parsed templates by MD5 hash.
+     */
+    private static final Map<String, SoftReference<Template>> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * The rotated blocks by MD5 hash, rotation and mirror.
+     */
+    private static final Map<String, SoftReference<RotatedTemplate>> ROTATED_TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final AtomicLong templateHits   = new AtomicLong();
+    private static final AtomicLong templateMisses = new AtomicLong();
+    private static final AtomicLong rotationHits   = new AtomicLong();
+    private static final AtomicLong rotationMisses = new AtomicLong();
+
+    /**
+     * The data fixer shared by all templates, created on first use.
+     */
+    @Nullable
+    private static DataFixer fixer;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private TemplateCache()
+    {
+    }
+
+    /**
+     * Get the data fixer to read templates with.
+     *
+     * @return the shared fixer.
+     */
+    @NotNull
+    public static synchronized DataFixer getFixer()
+    {
+        if (fixer == null)
+        {
+            fixer = DataFixesManager.createFixer();
+        }
+        return fixer;
+    }
+
+    /**
+     * Get the parsed template of a schematic file.
+     *
+     * @param md5  the MD5 hash of the file, or null to not cache it.
+     * @param data the content of the file.
+     * @return the template, shared and not to be modified.
+     * @throws IOException if the file can't be parsed.
+     */
+    @NotNull
+    public static Template getTemplate(@Nullable final String md5, @NotNull final byte[] data) throws IOException
+    {
+        if (md5 == null)
+        {
+            templateMisses.incrementAndGet();
+            return readTemplate(data);
+        }
+
+        final Template cached = get(TEMPLATES, md5);
+        if (cached != null)
+        {
+            templateHits.incrementAndGet();
+            return cached;
+        }
+
+        templateMisses.incrementAndGet();
+        final Template template = readTemplate(data);
+        TEMPLATES.put(md5, new SoftReference<>(template));
+        return template;
+    }
+
+    /**
+     * Get the rotated blocks of a structure.
+     *
+     * @param structure the structure.
+     * @param rotation  the rotation.
+     * @param mirror    the mirror.
+     * @return the rotated blocks, shared.
+     */
+    @NotNull
+    public static RotatedTemplate getRotatedTemplate(@NotNull final Structure structure, @NotNull final Rotation rotation, @NotNull final Mirror mirror)
+    {
+        final String md5 = structure.getMD5();
+        if (md5 == null)
+        {
+            rotationMisses.incrementAndGet();
+            return RotatedTemplate.create(structure, rotation, mirror);
+        }
+
+        final String key = md5 + ':' + rotation.name() + ':' + mirror.name();
+        final RotatedTemplate cached = get(ROTATED_TEMPLATES, key);
+        if (cached != null)
+        {
+            rotationHits.incrementAndGet();
+            return cached;
+        }
+
+        rotationMisses.incrementAndGet();
+        final RotatedTemplate rotated = RotatedTemplate.create(structure, rotation, mirror);
+        ROTATED_TEMPLATES.put(key, new SoftReference<>(rotated));
+        return rotated;
+    }
+
+    /**
+     * Drop all cached templates.
+     */
+    public static void clear()
+    {
+        TEMPLATES.clear();
+        ROTATED_TEMPLATES.clear();
+    }
+
+    /**
+     * Get the amount of templates found in the cache.
+     *
+     * @return the amount.
+     */
+    public static long getTemplateHits()
+    {
+        return templateHits.get();
+    }
+
+    /**
+     * Get the amount of templates which had to be parsed.
+     *
+     * @return the amount.
+     */
+    public static long getTemplateMisses()
+    {
+        return templateMisses.get();
+    }
+
+    /**
+     * Get the amount of rotated templates found in the cache.
+     *
+     * @return the amount.
+     */
+    public static long getRotationHits()
+    {
+        return rotationHits.get();
+    }
+
+    /**
+     * Get the amount of templates which had to be rotated.
+     *
+     * @return the amount.
+     */
+    public static long getRotationMisses()
+    {
+        return rotationMisses.get();
+    }
+
+    @Nullable
+    private static <T> T get(@NotNull final Map<String, SoftReference<T>> cache, @NotNull final String key)
+    {
+        final SoftReference<T> reference = cache.get(key);
+        if (reference == null)
+        {
+            return null;
+        }
+
+        final T value = reference.get();
+        if (value == null)
+        {
+            cache.remove(key, reference);
+        }
+        return value;
+    }
+
+    @NotNull
+    private static Template readTemplate(@NotNull final byte[] data) throws IOException
+    {
+        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(new ByteArrayInputStream(data));
+
+        if (!nbttagcompound.hasKey(TAG_DATA_VERSION, TAG_ANY_NUMERIC))
+        {
+            nbttagcompound.setInteger(TAG_DATA_VERSION, DEFAULT_DATA_VERSION);
+        }
+
+        final Template template = new Template();
+        template.read(getFixer().process(FixTypes.STRUCTURE, nbttagcompound));
+        return template;
+    }
+}
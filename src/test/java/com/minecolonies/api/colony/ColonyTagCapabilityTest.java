@@ -0,0 +1,83 @@
+package com.minecolonies.api.colony;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
+import static org.junit.Assert.*;
+
+/**
+ * Test for the {@link IColonyTagCapability.Impl} and its storage.
+ */
+public class ColonyTagCapabilityTest
+{
+    @Test
+    public void addAndRemoveColonies()
+    {
+        final IColonyTagCapability cap = new IColonyTagCapability.Impl();
+        cap.addColony(3).addColony(5).addColony(3).setOwningColony(5);
+        final List<Integer> view = cap.getAllCloseColonies();
+
+        cap.removeColony(5);
+
+        assertEquals(Arrays.asList(3, 5), view);
+        assertArrayEquals(new int[] {3}, cap.getCloseColonyIds());
+        assertTrue(cap.isCloseColony(3));
+        assertFalse(cap.isCloseColony(5));
+        assertEquals(0, cap.getOwningColony());
+    }
+
+    @Test
+    public void storageRoundTrip()
+    {
+        final IColonyTagCapability cap = new IColonyTagCapability.Impl();
+        cap.addColony(1).addColony(2).setOwningColony(2);
+
+        final IColonyTagCapability.Storage storage = new IColonyTagCapability.Storage();
+        final NBTBase nbt = storage.writeNBT(null, cap, null);
+        final IColonyTagCapability read = new IColonyTagCapability.Impl();
+        storage.readNBT(null, read, null, nbt);
+
+        assertArrayEquals(new int[] {1, 2}, read.getCloseColonyIds());
+        assertEquals(2, read.getOwningColony());
+    }
+
+    @Test
+    public void readLegacyList()
+    {
+        final NBTTagList list = new NBTTagList();
+        final NBTTagCompound colony = new NBTTagCompound();
+        colony.setInteger(TAG_ID, 7);
+        list.appendTag(colony);
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(TAG_ID, 7);
+        compound.setTag(TAG_COLONIES, list);
+
+        final IColonyTagCapability read = new IColonyTagCapability.Impl();
+        new IColonyTagCapability.Storage().readNBT(null, read, null, compound);
+
+        assertArrayEquals(new int[] {7}, read.getCloseColonyIds());
+        assertEquals(7, read.getOwningColony());
+    }
+
+    @Test
+    public void readDropsDuplicates()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(TAG_ID, 0);
+        compound.setTag(TAG_COLONIES, new NBTTagIntArray(new int[] {4, 2, 4, 9}));
+
+        final IColonyTagCapability read = new IColonyTagCapability.Impl();
+        new IColonyTagCapability.Storage().readNBT(null, read, null, compound);
+
+        assertArrayEquals(new int[] {4, 2, 9}, read.getCloseColonyIds());
+        assertEquals(0, read.getOwningColony());
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem;
 
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryTypeDictionary;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -10,6 +11,8 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
 import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequestFactories;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.After;
 import org.junit.Before;
@@ -101,6 +104,67 @@ public class StandardFactoryControllerTest
         assertEquals(token, deserialize);
     }
 
+    @Test
+    public void testSerializeWithTypeDictionary()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+        final NBTTagCompound oldCompound = StandardFactoryController.getInstance().serialize(token);
+        final FactoryTypeDictionary dictionary = new FactoryTypeDictionary();
+        final NBTTagCompound compound = new NBTTagCompound();
+
+        StandardFactoryController.getInstance().runWithTypeDictionary(dictionary, () -> compound.setTag("token", StandardFactoryController.getInstance().serialize(token)));
+
+        final NBTTagCompound tokenCompound = compound.getCompoundTag("token");
+        assertFalse(tokenCompound.hasKey(StandardFactoryController.NBT_TYPE));
+        assertEquals(StandardToken.class.getName(), dictionary.getName(tokenCompound.getInteger(StandardFactoryController.NBT_TYPE_ID)));
+
+        final FactoryTypeDictionary loaded = FactoryTypeDictionary.deserialize(dictionary.serialize());
+        final IToken[] results = new IToken[2];
+        StandardFactoryController.getInstance().runWithTypeDictionary(loaded, () -> {
+            results[0] = StandardFactoryController.getInstance().deserialize(tokenCompound);
+            results[1] = StandardFactoryController.getInstance().deserialize(oldCompound);
+        });
+
+        assertEquals(token, results[0]);
+        assertEquals(token, results[1]);
+    }
+
+    @Test
+    public void testBufferRoundTrip()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+        final ByteBuf buffer = Unpooled.buffer();
+
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+        final IToken result = StandardFactoryController.getInstance().readFromBuffer(buffer);
+
+        assertEquals(token, result);
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testBufferRoundTripWithTypeDictionary()
+    {
+        final IToken first = new StandardToken(UUID.randomUUID());
+        final IToken second = new StandardToken(UUID.randomUUID());
+        final ByteBuf buffer = Unpooled.buffer();
+
+        StandardFactoryController.getInstance().writeWithTypeDictionary(buffer, data -> {
+            StandardFactoryController.getInstance().writeToBuffer(data, first);
+            StandardFactoryController.getInstance().writeToBuffer(data, second);
+        });
+
+        final IToken[] results = new IToken[2];
+        StandardFactoryController.getInstance().readWithTypeDictionary(buffer, data -> {
+            results[0] = StandardFactoryController.getInstance().readFromBuffer(data);
+            results[1] = StandardFactoryController.getInstance().readFromBuffer(data);
+        });
+
+        assertEquals(first, results[0]);
+        assertEquals(second, results[1]);
+        assertEquals(0, buffer.readableBytes());
+    }
+
     @Test
     public void testGetNewInstance()
     {
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test for the {@link ReflectionUtils} class.
@@ -25,4 +26,14 @@ public class ReflectionUtilsTest
         final Set<TypeToken> interfaceTypes = ReflectionUtils.getSuperClasses(new TypeToken<IToken<UUID>>() {});
         assertEquals(2, interfaceTypes.size());
     }
+
+    @Test
+    public void getSuperClassesReturnsCopyOfCache()
+    {
+        final Set<TypeToken> types = ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN);
+        types.remove(TypeConstants.OBJECT);
+
+        assertEquals(4, ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN).size());
+        assertSame(ReflectionUtils.getCachedSuperClasses(TypeConstants.STANDARDTOKEN), ReflectionUtils.getCachedSuperClasses(TypeConstants.STANDARDTOKEN));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for the {@link BuildingFootprints}.
+ */
+public class BuildingFootprintsTest
+{
+    private static final BlockPos FIRST  = new BlockPos(5, 64, 5);
+    private static final BlockPos SECOND = new BlockPos(40, 64, -20);
+
+    private static AbstractBuilding building(final BlockPos id, final int x1, final int x2, final int z1, final int z2)
+    {
+        final AbstractBuilding building = mock(AbstractBuilding.class);
+        when(building.getID()).thenReturn(id);
+        when(building.getCorners()).thenReturn(new Tuple<>(new Tuple<>(x1, x2), new Tuple<>(z1, z2)));
+        return building;
+    }
+
+    @Test
+    public void pointQueries()
+    {
+        final BuildingFootprints footprints = new BuildingFootprints(Arrays.asList(building(FIRST, 0, 10, 0, 10), building(SECOND, 30, 50, -30, -10)));
+
+        assertTrue(footprints.isInAnyBuilding(1, 1));
+        assertTrue(footprints.isInAnyBuilding(9, 9));
+        assertFalse(footprints.isInAnyBuilding(0, 5));
+        assertFalse(footprints.isInAnyBuilding(10, 5));
+        assertTrue(footprints.isInAnyBuilding(35, -15));
+        assertFalse(footprints.isInAnyBuilding(20, 20));
+        assertEquals(Collections.singletonList(SECOND), footprints.getBuildingsAt(49, -29));
+    }
+
+    @Test
+    public void areaQueries()
+    {
+        final BuildingFootprints footprints = new BuildingFootprints(Arrays.asList(building(FIRST, 0, 10, 0, 10), building(SECOND, 30, 50, -30, -10)));
+
+        assertEquals(Collections.singleton(FIRST), footprints.getBuildingsOverlapping(9, 9, 20, 20));
+        assertTrue(footprints.getBuildingsOverlapping(10, 10, 29, 29).isEmpty());
+        assertEquals(2, footprints.getBuildingsOverlapping(-100, -100, 100, 100).size());
+    }
+}
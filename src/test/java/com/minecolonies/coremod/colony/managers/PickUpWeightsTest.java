@@ -0,0 +1,89 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for the {@link PickUpWeights}.
+ */
+public class PickUpWeightsTest
+{
+    private static AbstractBuilding building(final int priority, final boolean beingGathered)
+    {
+        final AbstractBuilding building = mock(AbstractBuilding.class);
+        when(building.getPickUpPriority()).thenReturn(priority);
+        when(building.isBeingGathered()).thenReturn(beingGathered);
+        return building;
+    }
+
+    @Test
+    public void selectByCumulativeWeight()
+    {
+        final AbstractBuilding first = building(1, false);
+        final AbstractBuilding gathered = building(5, true);
+        final AbstractBuilding second = building(3, false);
+        final PickUpWeights weights = new PickUpWeights(Arrays.asList(first, gathered, second));
+
+        assertEquals(3, weights.size());
+        assertEquals(4, weights.getTotalWeight());
+        assertEquals(0, weights.getWeight(1));
+        assertEquals(0, weights.select(0.0));
+        assertEquals(0, weights.select(0.25));
+        assertEquals(2, weights.select(0.26));
+        assertEquals(2, weights.select(1.0));
+        assertSame(second, weights.getBuilding(2));
+    }
+
+    @Test
+    public void selectSkipsLeadingGatheredBuildings()
+    {
+        final AbstractBuilding gathered = building(5, true);
+        final AbstractBuilding first = building(2, false);
+        final PickUpWeights weights = new PickUpWeights(Arrays.asList(gathered, first));
+
+        assertEquals(1, weights.select(0.0));
+        assertEquals(1, weights.select(1.0));
+    }
+
+    @Test
+    public void updateInPlace()
+    {
+        final AbstractBuilding first = building(1, false);
+        final AbstractBuilding second = building(3, false);
+        final AbstractBuilding third = building(2, false);
+        final PickUpWeights weights = new PickUpWeights(Arrays.asList(first, second, third));
+
+        when(first.getPickUpPriority()).thenReturn(4);
+        weights.update(first);
+        when(second.isBeingGathered()).thenReturn(true);
+        weights.update(second);
+
+        assertEquals(6, weights.getTotalWeight());
+        assertEquals(0, weights.select(0.5));
+        assertEquals(2, weights.select(0.7));
+
+        when(first.isBeingGathered()).thenReturn(true);
+        weights.update(first);
+        when(third.isBeingGathered()).thenReturn(true);
+        weights.update(third);
+
+        assertEquals(0, weights.getTotalWeight());
+        assertEquals(-1, weights.select(0.5));
+    }
+
+    @Test
+    public void selectWithoutBuildings()
+    {
+        final PickUpWeights weights = new PickUpWeights(Collections.emptyList());
+
+        assertEquals(-1, weights.select(0.5));
+        assertNull(weights.getBuilding(-1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the primitive search structures against the java collections they replace.
+ */
+public class NodeHeapTest
+{
+    private static final int NODES = 2_000;
+
+    @Test
+    public void testPollOrderMatchesPriorityQueue()
+    {
+        final Random random = new Random(42);
+        final NodeHeap heap = new NodeHeap();
+        final PriorityQueue<Node> queue = new PriorityQueue<>();
+        final List<Node> nodes = new ArrayList<>();
+
+        for (int i = 0; i < NODES; i++)
+        {
+            final double heuristic = random.nextInt(50);
+            final double cost = random.nextInt(50);
+            final Node node = new Node(null, new BlockPos(i, 64, -i), cost, heuristic, cost + heuristic);
+            node.setCounterAdded(i + 1);
+            nodes.add(node);
+            heap.offer(node);
+            queue.offer(node);
+        }
+
+        //  Decrease the score of some nodes the way the path job does it: remove, update, re-add
+        for (int i = 0; i < NODES; i += 7)
+        {
+            final Node node = nodes.get(i);
+            assertTrue(heap.contains(node));
+            assertTrue(queue.remove(node));
+            node.setScore(node.getScore() - random.nextInt(10) - 1);
+            heap.decreaseKey(node);
+            queue.offer(node);
+        }
+
+        while (!queue.isEmpty())
+        {
+            final Node expected = queue.poll();
+            assertSame(expected, heap.poll());
+            assertFalse(heap.contains(expected));
+        }
+        assertTrue(heap.isEmpty());
+        assertNull(heap.poll());
+    }
+
+    @Test
+    public void testNodeMapGetPutAndClear()
+    {
+        final NodeMap map = new NodeMap();
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++)
+        {
+            final Node node = new Node(new BlockPos(i, i % 256, i * 3), 0);
+            nodes.add(node);
+            //  Key 0 is a valid key and must not be confused with an empty slot
+            map.put(i * 31, node);
+        }
+
+        assertEquals(NODES, map.size());
+        for (int i = 0; i < NODES; i++)
+        {
+            assertSame(nodes.get(i), map.get(i * 31));
+        }
+        assertNull(map.get(-1));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0));
+    }
+}
@@ -0,0 +1,215 @@
+package com.minecolonies.coremod.inventory;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the tool lookups of the {@link InventoryCitizen}, which use the {@link InventoryToolIndex}, against a scan of all slots.
+ */
+public class InventoryToolIndexTest
+{
+    private static final int NO_SLOT = -1;
+
+    private static final Item[] ITEMS = {
+      Items.WOODEN_PICKAXE, Items.STONE_PICKAXE, Items.IRON_PICKAXE, Items.GOLDEN_PICKAXE, Items.DIAMOND_PICKAXE,
+      Items.WOODEN_AXE, Items.IRON_AXE, Items.STONE_SHOVEL, Items.IRON_HOE, Items.DIAMOND_HOE,
+      Items.FISHING_ROD, Items.SHEARS, Items.IRON_SWORD, Items.APPLE, Items.STICK
+    };
+
+    private static final IToolType[] TOOL_TYPES = {ToolType.PICKAXE, ToolType.AXE, ToolType.SHOVEL, ToolType.HOE, ToolType.FISHINGROD, ToolType.SHEARS, ToolType.SWORD};
+
+    private InventoryCitizen inventory;
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        inventory = new InventoryCitizen("test", false);
+    }
+
+    /**
+     * The lookup of the most efficient tool before the index, scanning all slots.
+     */
+    private static int scanMostEfficientToolSlot(final InventoryCitizen inventory, final IToolType toolType, final int requiredLevel, final int maximumLevel)
+    {
+        int bestSlot = NO_SLOT;
+        int bestLevel = Integer.MAX_VALUE;
+        for (int i = 0; i < inventory.getSizeInventory(); i++)
+        {
+            final ItemStack item = inventory.getStackInSlot(i);
+            final int level = ItemStackUtils.getMiningLevel(item, toolType);
+            if (level >= requiredLevel && level < bestLevel
+                  && (toolType == ToolType.NONE || ItemStackUtils.verifyToolLevel(item, level, requiredLevel, maximumLevel)))
+            {
+                bestSlot = i;
+                bestLevel = level;
+            }
+        }
+        return bestSlot;
+    }
+
+    /**
+     * The lookup of the first tool before the index, scanning all slots.
+     */
+    private static int scanFirstToolSlot(final InventoryCitizen inventory, final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        for (int i = 0; i < inventory.getSizeInventory(); i++)
+        {
+            if (ItemStackUtils.hasToolLevel(inventory.getStackInSlot(i), toolType, minimalLevel, maximumLevel))
+            {
+                return i;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    private void assertSameAsScan()
+    {
+        for (final IToolType toolType : TOOL_TYPES)
+        {
+            for (int maximumLevel = 0; maximumLevel <= 4; maximumLevel++)
+            {
+                for (int level = 0; level <= maximumLevel; level++)
+                {
+                    if (toolType.hasVariableMaterials())
+                    {
+                        assertEquals("Most efficient " + toolType + " for level " + level + " up to " + maximumLevel,
+                          scanMostEfficientToolSlot(inventory, toolType, level, maximumLevel), inventory.getMostEfficientToolSlot(toolType, level, maximumLevel));
+                    }
+                    assertEquals("First " + toolType + " from level " + level + " up to " + maximumLevel,
+                      scanFirstToolSlot(inventory, toolType, level, maximumLevel), inventory.getFirstToolSlot(toolType, level, maximumLevel));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lowestSufficientLevel()
+    {
+        inventory.setInventorySlotContents(0, new ItemStack(Items.DIAMOND_PICKAXE));
+        inventory.setInventorySlotContents(5, new ItemStack(Items.WOODEN_PICKAXE));
+        inventory.setInventorySlotContents(9, new ItemStack(Items.IRON_PICKAXE));
+        inventory.setInventorySlotContents(12, new ItemStack(Items.STONE_PICKAXE));
+
+        assertEquals(5, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 0, 4));
+        assertEquals(12, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 1, 4));
+        assertEquals(9, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 2, 4));
+        assertEquals(0, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 3, 4));
+        assertEquals(NO_SLOT, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 3, 2));
+        assertEquals(0, inventory.getFirstToolSlot(ToolType.PICKAXE, 0, 4));
+        assertEquals(5, inventory.getFirstToolSlot(ToolType.PICKAXE, 0, 2));
+        assertSameAsScan();
+    }
+
+    @Test
+    public void tieBreakByLowestSlot()
+    {
+        inventory.setInventorySlotContents(20, new ItemStack(Items.IRON_PICKAXE));
+        inventory.setInventorySlotContents(3, new ItemStack(Items.IRON_PICKAXE));
+        inventory.setInventorySlotContents(11, new ItemStack(Items.IRON_PICKAXE));
+
+        assertEquals(3, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 1, 4));
+        assertEquals(3, inventory.getFirstToolSlot(ToolType.PICKAXE, 0, 4));
+
+        inventory.removeStackFromSlot(3);
+        assertEquals(11, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 1, 4));
+        assertSameAsScan();
+    }
+
+    @Test
+    public void toolUsedUpInPlace()
+    {
+        final ItemStack worn = new ItemStack(Items.STONE_PICKAXE);
+        inventory.setInventorySlotContents(2, worn);
+        inventory.setInventorySlotContents(7, new ItemStack(Items.IRON_PICKAXE));
+        assertEquals(2, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 1, 4));
+
+        //Broken by mining, the inventory isn't told.
+        worn.shrink(1);
+
+        assertEquals(7, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 1, 4));
+        assertEquals(7, inventory.getFirstToolSlot(ToolType.PICKAXE, 0, 4));
+        assertSameAsScan();
+    }
+
+    @Test
+    public void markAllDirtyAfterReadFromNBT()
+    {
+        inventory.setInventorySlotContents(1, new ItemStack(Items.WOODEN_PICKAXE));
+        inventory.setInventorySlotContents(4, new ItemStack(Items.IRON_HOE));
+        assertSameAsScan();
+
+        final InventoryCitizen other = new InventoryCitizen("other", false);
+        other.setInventorySlotContents(8, new ItemStack(Items.DIAMOND_PICKAXE));
+        other.setInventorySlotContents(30, new ItemStack(Items.STONE_PICKAXE));
+        inventory.readFromNBT(other.writeToNBT(new NBTTagList()));
+
+        assertEquals(30, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 0, 4));
+        assertEquals(NO_SLOT, inventory.getFirstToolSlot(ToolType.HOE, 0, 4));
+        assertSameAsScan();
+    }
+
+    @Test
+    public void markAllDirtyAfterClear()
+    {
+        inventory.setInventorySlotContents(1, new ItemStack(Items.WOODEN_PICKAXE));
+        inventory.setInventorySlotContents(4, new ItemStack(Items.FISHING_ROD));
+        assertSameAsScan();
+
+        inventory.clear();
+
+        assertEquals(NO_SLOT, inventory.getMostEfficientToolSlot(ToolType.PICKAXE, 0, 4));
+        assertEquals(NO_SLOT, inventory.getFirstToolSlot(ToolType.FISHINGROD, 0, 4));
+        assertSameAsScan();
+    }
+
+    @Test
+    public void randomChangesMatchScan()
+    {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++)
+        {
+            final int slot = random.nextInt(inventory.getSizeInventory());
+            switch (random.nextInt(5))
+            {
+                case 0:
+                    inventory.setInventorySlotContents(slot, new ItemStack(ITEMS[random.nextInt(ITEMS.length)]));
+                    break;
+                case 1:
+                    inventory.decrStackSize(slot, 1);
+                    break;
+                case 2:
+                    if (!ItemStackUtils.isEmpty(inventory.getStackInSlot(slot)))
+                    {
+                        inventory.getStackInSlot(slot).shrink(1);
+                    }
+                    break;
+                case 3:
+                    inventory.markDirty();
+                    break;
+                default:
+                    inventory.removeStackFromSlot(slot);
+                    break;
+            }
+            assertSameAsScan();
+        }
+    }
+}